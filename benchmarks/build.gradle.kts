@@ -0,0 +1,29 @@
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmhImplementation(projects.common)
+    jmhImplementation(projects.parsers.json)
+    jmhImplementation(projects.parsers.jsonJackson)
+    jmhImplementation(libs.gson)
+    jmhImplementation(libs.jackson.core)
+    jmhImplementation(libs.adventure.api)
+    jmhImplementation(libs.adventure.minimessage)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+
+    // Machine readable results, for comparing runs across versions, e.g. with https://jmh.morethan.io
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    humanOutputFile.set(layout.buildDirectory.file("results/jmh/human.txt"))
+
+    // Narrow a run with -PjmhIncludes=TranslationLookupBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
+
+tasks.javadoc {
+    enabled = false
+}
@@ -0,0 +1,157 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
+
+/**
+ * Generates realistic sets of JSON bundles at scale, for benchmarks and for trying WordWeaver against the size of a
+ * large server before running it in production.
+ * <p>
+ * Keys are nested three levels deep, {@code featureN.groupN.keyN}, with a hundred keys per group. Values use MiniMessage
+ * tags and placeholders, one key in twenty is a list, and one in twenty references another key with
+ * {@code <key:...>}. Every locale except the first, which is meant to be the default locale, lacks one key in fifty.
+ * The output only depends on the arguments.
+ * <p>
+ * Run from the command line with {@code BundleGenerator <directory> <locales> <keys>}.
+ */
+public final class BundleGenerator {
+    private static final int KEYS_PER_GROUP = 100;
+    private static final int GROUPS_PER_FEATURE = 10;
+    private static final String[] TAGS = {"green", "red", "gold", "aqua", "bold", "italic"};
+
+    private BundleGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BundleGenerator <directory> <locales> <keys>");
+            System.exit(1);
+        }
+
+        final List<Locale> locales = generate(Paths.get(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        System.out.println("Generated " + locales.size() + " bundles of " + args[2] + " keys in " + args[0]);
+    }
+
+    /**
+     * Writes a JSON bundle for each locale into a directory.
+     *
+     * @param directory The directory, created if missing
+     * @param locales   The number of locales, at most the number of locales with a country known to the JVM
+     * @param keys      The number of keys in the bundle of the default locale
+     * @return The locales of the bundles, the first one being the default locale
+     */
+    public static List<Locale> generate(Path directory, int locales, int keys) throws IOException {
+        Files.createDirectories(directory);
+
+        final List<Locale> generated = locales(locales);
+        for (int i = 0; i < generated.size(); i++) {
+            try (Writer writer = Files.newBufferedWriter(directory.resolve(toTag(generated.get(i)) + ".json"), StandardCharsets.UTF_8)) {
+                write(writer, toTag(generated.get(i)), keys, i == 0);
+            }
+        }
+
+        return generated;
+    }
+
+    /**
+     * Picks locales that have a country, {@code en_US} first and the others in a fixed order.
+     *
+     * @param count The number of locales
+     * @return The locales
+     */
+    public static List<Locale> locales(int count) {
+        final List<Locale> locales = new ArrayList<>();
+        locales.add(Locale.US);
+        locales.addAll(Arrays.stream(Locale.getAvailableLocales())
+            .filter(locale -> locale.getLanguage().length() == 2 && locale.getCountry().length() == 2)
+            .filter(locale -> locale.getScript().isEmpty() && locale.getVariant().isEmpty() && !locale.equals(Locale.US))
+            .sorted(Comparator.comparing(Locale::toString))
+            .limit(count - 1L)
+            .collect(Collectors.toList()));
+
+        if (locales.size() < count)
+            throw new IllegalArgumentException("Only " + locales.size() + " locales are available");
+
+        return locales;
+    }
+
+    /**
+     * Gets the key of the bundle at an index, as generated.
+     *
+     * @param index The index of the key
+     * @return The key
+     */
+    public static String key(int index) {
+        final int group = index / KEYS_PER_GROUP;
+        return "feature" + group / GROUPS_PER_FEATURE + ".group" + group % GROUPS_PER_FEATURE + ".key" + index;
+    }
+
+    private static void write(Writer writer, String tag, int keys, boolean complete) throws IOException {
+        final Random random = new Random(tag.hashCode() * 31L + keys);
+
+        writer.write("{\n");
+        int feature = -1;
+        int group = -1;
+        for (int index = 0; index < keys; index++) {
+            if (!complete && index % 50 == 49)
+                continue; // Missing, left to the default locale, never the first key of a group
+
+            final int keyGroup = index / KEYS_PER_GROUP;
+            if (keyGroup / GROUPS_PER_FEATURE != feature) {
+                if (feature >= 0)
+                    writer.write("\n    }\n  },\n");
+                feature = keyGroup / GROUPS_PER_FEATURE;
+                group = -1;
+                writer.write("  \"feature" + feature + "\": {\n");
+            }
+            if (keyGroup % GROUPS_PER_FEATURE != group) {
+                if (group >= 0)
+                    writer.write("\n    },\n");
+                group = keyGroup % GROUPS_PER_FEATURE;
+                writer.write("    \"group" + group + "\": {\n");
+            } else {
+                writer.write(",\n");
+            }
+
+            writer.write("      \"key" + index + "\": ");
+            if (index % 20 == 10) {
+                writer.write("[" + value(random, tag, index) + ", " + value(random, tag, index + 1) + ", " + value(random, tag, index + 2) + "]");
+            } else if (index % 20 == 5 && index > 0) {
+                writer.write("\"<gray>See <key:" + key(random.nextInt(index)) + "></gray>\"");
+            } else {
+                writer.write(value(random, tag, index));
+            }
+        }
+
+        if (feature >= 0)
+            writer.write("\n    }\n  }\n");
+        writer.write("}\n");
+    }
+
+    private static String value(Random random, String tag, int index) {
+        final String color = TAGS[random.nextInt(TAGS.length)];
+        switch (random.nextInt(4)) {
+            case 0:
+                return "\"<" + color + ">Welcome <player>, " + tag + " message " + index + "</" + color + ">\"";
+            case 1:
+                return "\"<hover:show_text:'<gray>Click to open " + index + "'><click:run_command:'/menu " + index + "'><" + color + ">[Open]</" + color + "></click></hover>\"";
+            case 2:
+                return "\"<" + color + "><amount> items of <item> were sold for <price> coins</" + color + ">\"";
+            default:
+                return "\"Plain " + tag + " text number " + index + " without any tags\"";
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleImpl;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.fromTag;
+
+/**
+ * Measures publishing every bundle to an empty {@link TranslationBundleRegistryImpl}, as a reload does once parsing and
+ * reference resolution are done.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundlePublishBenchmark {
+    @Param({"100", "10000"})
+    public int keys;
+
+    @Param({"1", "8", "32"})
+    public int locales;
+
+    private TranslationConfig config;
+    private TranslationBundle[] bundles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = TranslationConfig.builder()
+            .namespace("wordweaver:benchmark")
+            .translationDirectory(Paths.get("lang"))
+            .locale(TranslationLookupBenchmark.LOCALES[locales - 1])
+            .defaultLocale(TranslationLookupBenchmark.LOCALES[0])
+            .build();
+
+        bundles = new TranslationBundle[locales];
+        for (int locale = 0; locale < locales; locale++) {
+            final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+            for (int key = 0; key < keys; key++)
+                entries.put("section" + key / 100 + ".key" + key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "Value " + key));
+
+            bundles[locale] = new TranslationBundleImpl(fromTag(TranslationLookupBenchmark.LOCALES[locale]), entries);
+        }
+    }
+
+    @Benchmark
+    public TranslationBundleRegistry registerAll() {
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        for (TranslationBundle bundle : bundles)
+            registry.register(bundle);
+
+        return registry;
+    }
+}
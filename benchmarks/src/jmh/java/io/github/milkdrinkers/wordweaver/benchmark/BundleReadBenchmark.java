@@ -0,0 +1,117 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import com.google.gson.JsonParser;
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading large bundle files through a {@link java.io.BufferedReader} against the memory-mapped reader of
+ * {@link BundleReaders}.
+ * <p>
+ * The {@code bytes} counter reports the throughput in bytes per second, divide by {@code 1048576} for MB/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleReadBenchmark {
+    @Param({"1", "8", "32"})
+    public int sizeMb;
+
+    private Path file;
+    private long size;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("wordweaver-bundle", ".json");
+
+        final StringBuilder builder = new StringBuilder("{\n");
+        for (int section = 0; builder.length() < sizeMb * 1024 * 1024; section++) {
+            builder.append("  \"section").append(section).append("\": {\n");
+            for (int key = 0; key < 100; key++)
+                builder.append("    \"key").append(key).append("\": \"<green>Grüß Gott, <player>! Value ").append(key).append("</green>\",\n");
+            builder.append("    \"last\": \"\"\n  },\n");
+        }
+        builder.append("  \"end\": \"\"\n}\n");
+
+        Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+        size = Files.size(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Counts the bytes read per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytes;
+    }
+
+    @Benchmark
+    public void readBuffered(Bytes counter, Blackhole blackhole) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            drain(reader, blackhole);
+        }
+        counter.bytes += size;
+    }
+
+    @Benchmark
+    public void readMapped(Bytes counter, Blackhole blackhole) throws IOException {
+        try (Reader reader = BundleReaders.newMappedReader(file)) {
+            drain(reader, blackhole);
+        }
+        counter.bytes += size;
+    }
+
+    @Benchmark
+    public void parseJsonBuffered(Bytes counter, Blackhole blackhole) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            blackhole.consume(JsonParser.parseReader(reader));
+        }
+        counter.bytes += size;
+    }
+
+    @Benchmark
+    public void parseJsonMapped(Bytes counter, Blackhole blackhole) throws IOException {
+        try (Reader reader = BundleReaders.newMappedReader(file)) {
+            blackhole.consume(JsonParser.parseReader(reader));
+        }
+        counter.bytes += size;
+    }
+
+    private static void drain(Reader reader, Blackhole blackhole) throws IOException {
+        final char[] buffer = new char[8192];
+
+        int read;
+        while ((read = reader.read(buffer, 0, buffer.length)) != -1)
+            blackhole.consume(buffer[read - 1]);
+    }
+}
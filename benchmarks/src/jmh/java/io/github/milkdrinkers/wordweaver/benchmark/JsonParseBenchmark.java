@@ -0,0 +1,82 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.jackson.JacksonTranslationParser;
+import io.github.milkdrinkers.wordweaver.json.JsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.parser.BuiltInJsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the parse throughput of the built-in streaming JSON parser against the GSON based parser, which builds a
+ * {@code JsonObject} tree before flattening it, and the Jackson streaming parser.
+ * <p>
+ * The {@code entries} counter reports the throughput in parsed entries per second. Run with {@code -prof gc} to
+ * compare allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonParseBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int keys;
+
+    private final BuiltInJsonTranslationParser builtIn = new BuiltInJsonTranslationParser();
+    private final JsonTranslationParser gson = new JsonTranslationParser();
+    private final JacksonTranslationParser jackson = new JacksonTranslationParser();
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = JsonStartupBenchmark.bundle(keys).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the entries parsed per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Entries {
+        public long entries;
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> parseBuiltIn(Entries counter) {
+        final Map<String, TranslationBundleEntry> entries = builtIn.parse(new ByteArrayInputStream(content));
+        counter.entries += entries.size();
+        return entries;
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> parseGson(Entries counter) {
+        final Map<String, TranslationBundleEntry> entries = gson.parse(new ByteArrayInputStream(content));
+        counter.entries += entries.size();
+        return entries;
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> parseJackson(Entries counter) {
+        final Map<String, TranslationBundleEntry> entries = jackson.parse(new ByteArrayInputStream(content));
+        counter.entries += entries.size();
+        return entries;
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.json.JsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.parser.BuiltInJsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start cost of parsing a first small bundle in a fresh JVM, which is dominated by class loading and
+ * initialization of the parser and its dependencies.
+ * <p>
+ * Each fork is a fresh JVM that parses a single bundle, so the score is the time to first parse.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class JsonStartupBenchmark {
+    private final byte[] content = bundle(100).getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> firstParseBuiltIn() {
+        return new BuiltInJsonTranslationParser().parse(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> firstParseGson() {
+        return new JsonTranslationParser().parse(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Generates a JSON bundle with nested sections, arrays and comments.
+     *
+     * @param keys The number of string keys
+     * @return The bundle
+     */
+    static String bundle(int keys) {
+        final StringBuilder builder = new StringBuilder("{\n  // Generated bundle\n");
+        for (int key = 0; key < keys; key++) {
+            if (key % 100 == 0)
+                builder.append(key == 0 ? "" : "    \"last\": null\n  },\n").append("  \"section").append(key / 100).append("\": {\n");
+
+            builder.append("    \"key").append(key).append("\": \"<green>Grüß Gott, <player>! Value ").append(key).append("</green>\",\n");
+            if (key % 10 == 0)
+                builder.append("    \"list").append(key).append("\": [\"first\", \"second\", \"third\"],\n");
+        }
+        builder.append("    \"last\": null\n  }\n}\n");
+        return builder.toString();
+    }
+}
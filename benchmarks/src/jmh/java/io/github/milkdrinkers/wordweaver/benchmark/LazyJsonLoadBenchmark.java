@@ -0,0 +1,54 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.json.JsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a large bundle in full against loading it with lazy sections, when a single section of a hundred
+ * keys is used.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyJsonLoadBenchmark {
+    @Param({"10000", "100000"})
+    public int keys;
+
+    private final JsonTranslationParser eager = new JsonTranslationParser();
+    private final JsonTranslationParser lazy = new JsonTranslationParser(true);
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = JsonStartupBenchmark.bundle(keys).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TranslationBundleEntry loadEager() {
+        return eager.parse(new ByteArrayInputStream(content)).get("section1.key150");
+    }
+
+    @Benchmark
+    public TranslationBundleEntry loadLazy() {
+        return lazy.parse(new ByteArrayInputStream(content)).get("section1.key150");
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.parser.PropertiesTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link PropertiesTranslationParser} against loading through {@link java.util.Properties} and
+ * copying every entry into a bundle map, as the parser used to.
+ * <p>
+ * The {@code entries} counter reports the throughput in parsed entries per second. Run with {@code -prof gc} to
+ * compare allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertiesParseBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int keys;
+
+    private final PropertiesTranslationParser parser = new PropertiesTranslationParser();
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder builder = new StringBuilder("# Generated bundle\n");
+        for (int key = 0; key < keys; key++) {
+            builder.append("section").append(key / 100).append(".key").append(key)
+                .append(" = <green>Grüß Gott, <player>! Value ").append(key).append("</green>\n");
+        }
+
+        content = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the entries parsed per second.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Entries {
+        public long entries;
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> parseStreaming(Entries counter) {
+        final Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream(content));
+        counter.entries += entries.size();
+        return entries;
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> parseJavaUtilProperties(Entries counter) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            entries.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, properties.getProperty(key)));
+        }
+
+        counter.entries += entries.size();
+        return entries;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.Translation;
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
+
+/**
+ * Measures how {@link Translation#initialize(TranslationConfig)} and {@link Translation#reload()} scale with the number
+ * of locales and keys, on bundles from the {@link BundleGenerator}.
+ * <p>
+ * Translations can only be initialized once per JVM, so each initialization is measured in a fresh fork. The
+ * {@code peakHeapMb} counter reports the peak heap usage during the measured call, including garbage that was not
+ * collected yet. With {@code bundleCache} the bundle cache is filled before the trial, so initializing measures a start
+ * that reads every bundle from the cache. The largest sizes generate several hundred megabytes of bundles, narrow a
+ * run with {@code -p locales=10 -p keys=10000}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 3, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StartupScalingBenchmark {
+    @Param({"1", "10", "100"})
+    public int locales;
+
+    @Param({"1000", "10000", "50000"})
+    public int keys;
+
+    @Param({"false", "true"})
+    public boolean bundleCache;
+
+    private Path directory;
+    private TranslationConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wordweaver-scaling");
+        final List<Locale> generated = BundleGenerator.generate(directory, locales, keys);
+
+        config = TranslationConfig.builder()
+            .namespace("wordweaver:benchmark")
+            .translationDirectory(directory)
+            .locale(toTag(generated.get(generated.size() - 1)))
+            .defaultLocale(toTag(generated.get(0)))
+            .extractBundles(false)
+            .updateBundles(false)
+            .bundleCache(bundleCache)
+            .build();
+
+        if (bundleCache) // Fill the cache, as an earlier start would have
+            new DefaultTranslationLoader(config, new TranslationBundleRegistryImpl(config)).loadBundles();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Initializes translations before reloads are measured.
+     */
+    @State(Scope.Benchmark)
+    public static class Initialized {
+        @Setup(Level.Trial)
+        public void setUp(StartupScalingBenchmark benchmark) {
+            Translation.initialize(benchmark.config);
+        }
+    }
+
+    /**
+     * Reports the peak heap usage of each measured call.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Heap {
+        public double peakHeapMb;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP)
+                    pool.resetPeakUsage();
+            }
+        }
+
+        void record() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP)
+                    peak += pool.getPeakUsage().getUsed();
+            }
+
+            peakHeapMb = peak / (1024.0 * 1024.0);
+        }
+    }
+
+    @Benchmark
+    public void initialize(Heap heap) {
+        Translation.initialize(config);
+        heap.record();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2)
+    public void reload(Initialized initialized, Heap heap) {
+        Translation.reload();
+        heap.record();
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.milkdrinkers.wordweaver.benchmark;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.service.impl.TranslationServiceImpl;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.pointer.Pointers;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.fromTag;
+
+/**
+ * Measures looking translations up through {@link TranslationServiceImpl} and Adventure's global translator, cycling
+ * through the keys and the registered locales.
+ * <p>
+ * Every locale except the default one is missing a tenth of the keys, which {@code getStringFallback} looks up to
+ * measure falling back to the default locale. {@code getStringMissing} looks up keys no locale has.
+ * {@code getComponentForViewer} reads the locale from a viewer's {@link Identity#LOCALE} pointer, as for a player.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TranslationLookupBenchmark {
+    static final String[] LOCALES = {
+        "en_US", "fr_FR", "de_DE", "es_ES", "it_IT", "pt_BR", "nl_NL", "sv_SE",
+        "da_DK", "fi_FI", "nb_NO", "pl_PL", "cs_CZ", "sk_SK", "hu_HU", "ro_RO",
+        "bg_BG", "el_GR", "tr_TR", "ru_RU", "uk_UA", "ja_JP", "ko_KR", "zh_CN",
+        "zh_TW", "th_TH", "vi_VN", "id_ID", "ms_MY", "he_IL", "ar_SA", "hi_IN"
+    };
+
+    @Param({"100", "10000"})
+    public int keys;
+
+    @Param({"1", "8", "32"})
+    public int locales;
+
+    private Path directory;
+    private TranslationServiceImpl service;
+    private String[] hitKeys;
+    private String[] fallbackKeys;
+    private String[] missingKeys;
+    private Locale[] requested;
+    private Pointered[] viewers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("wordweaver-lookup");
+        for (int locale = 0; locale < locales; locale++) {
+            final StringBuilder builder = new StringBuilder();
+            for (int key = 0; key < keys; key++) {
+                if (locale > 0 && key % 10 == 0)
+                    continue; // Left to the default locale
+
+                builder.append("section").append(key / 100).append(".key").append(key)
+                    .append(" = <green>Hello <player>, ").append(LOCALES[locale]).append(' ').append(key).append("</green>\n");
+            }
+            Files.write(directory.resolve(LOCALES[locale] + ".properties"), builder.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:benchmark")
+            .translationDirectory(directory)
+            .locale(LOCALES[locales - 1])
+            .defaultLocale(LOCALES[0])
+            .extractBundles(false)
+            .updateBundles(false)
+            .build();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        service = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+
+        hitKeys = new String[1024];
+        fallbackKeys = new String[1024];
+        missingKeys = new String[1024];
+        for (int i = 0; i < hitKeys.length; i++) {
+            final int key = (i * 7919) % keys;
+            hitKeys[i] = "section" + key / 100 + ".key" + (key % 10 == 0 ? key + 1 : key);
+            fallbackKeys[i] = "section" + key / 100 + ".key" + (key - key % 10);
+            missingKeys[i] = "missing.key" + i;
+        }
+
+        requested = new Locale[locales];
+        viewers = new Pointered[locales];
+        for (int locale = 0; locale < locales; locale++) {
+            requested[locale] = fromTag(LOCALES[locale]);
+
+            final Pointers pointers = Pointers.builder().withStatic(Identity.LOCALE, requested[locale]).build();
+            viewers[locale] = new Pointered() {
+                @Override
+                public Pointers pointers() {
+                    return pointers;
+                }
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Cycles through the lookups of a thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next() {
+            return index++ & 1023;
+        }
+    }
+
+    @Benchmark
+    public String getString(Cursor cursor) {
+        final int i = cursor.next();
+        return service.getString(requested[i % locales], hitKeys[i], null);
+    }
+
+    @Benchmark
+    public String getStringFallback(Cursor cursor) {
+        final int i = cursor.next();
+        return service.getString(requested[i % locales], fallbackKeys[i], null);
+    }
+
+    @Benchmark
+    public String getStringMissing(Cursor cursor) {
+        final int i = cursor.next();
+        return service.getString(requested[i % locales], missingKeys[i], "fallback");
+    }
+
+    @Benchmark
+    public Component getComponent(Cursor cursor) {
+        final int i = cursor.next();
+        return service.getComponent(requested[i % locales], hitKeys[i], null);
+    }
+
+    @Benchmark
+    public Component getComponentForViewer(Cursor cursor) {
+        final int i = cursor.next();
+        return service.getComponent(viewers[i % locales], hitKeys[i], null);
+    }
+
+    @Benchmark
+    public Component renderGlobalTranslator(Cursor cursor) {
+        final int i = cursor.next();
+        return GlobalTranslator.render(Component.translatable(hitKeys[i]), requested[i % locales]);
+    }
+}
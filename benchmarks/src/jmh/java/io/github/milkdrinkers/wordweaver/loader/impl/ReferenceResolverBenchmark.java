@@ -0,0 +1,68 @@
+package io.github.milkdrinkers.wordweaver.loader.impl;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the key references of a bundle in which a tenth of the entries reference another key, with some
+ * of the references only satisfied by the default locale, against a bundle of the same size without references.
+ * <p>
+ * Lives in the loader package, as {@link ReferenceResolver} is internal to it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceResolverBenchmark {
+    @Param({"100", "10000", "100000"})
+    public int keys;
+
+    private Map<String, TranslationBundleEntry> entries;
+    private Map<String, TranslationBundleEntry> plain;
+    private Map<String, TranslationBundleEntry> fallback;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entries = new HashMap<>();
+        plain = new HashMap<>();
+        fallback = new HashMap<>();
+        for (int key = 0; key < keys; key++) {
+            final String value = key % 10 == 0
+                ? "<green>Prefix <key:section" + key / 100 + ".key" + (key + 1) + "> and <key:shared.key" + key % 50 + "></green>"
+                : "<green>Value " + key + "</green>";
+            entries.put("section" + key / 100 + ".key" + key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, value));
+            plain.put("section" + key / 100 + ".key" + key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "<green>Value " + key + "</green>"));
+        }
+
+        for (int key = 0; key < 50; key++)
+            fallback.put("shared.key" + key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "Shared " + key));
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> resolve() {
+        return ReferenceResolver.resolve(entries, fallback);
+    }
+
+    @Benchmark
+    public Map<String, TranslationBundleEntry> resolveWithoutReferences() {
+        return ReferenceResolver.resolve(plain, fallback);
+    }
+}
@@ -4,6 +4,7 @@ plugins {
     `java-library`
     alias(libs.plugins.shadow) apply false
     alias(libs.plugins.publisher) apply false
+    alias(libs.plugins.jmh) apply false
 
     eclipse
     idea
@@ -65,6 +66,13 @@ subprojects {
             filteringCharset = Charsets.UTF_8.name()
         }
 
+        // Read by TranslationParser#version, so cached bundles are invalidated when a parser is upgraded
+        withType<Jar>().configureEach {
+            manifest {
+                attributes("Implementation-Version" to project.version)
+            }
+        }
+
         test {
             useJUnitPlatform()
             failFast = false
@@ -17,6 +17,30 @@ dependencies {
     testImplementation(libs.slf4j.simple)
 }
 
+// Flight recorder events need Java 11, so they are compiled separately and packaged as a multi-release jar
+val java11: SourceSet = the<SourceSetContainer>().create("java11") {
+    java.setSrcDirs(listOf("src/main/java11"))
+    compileClasspath += the<SourceSetContainer>()["main"].let { it.output + it.compileClasspath }
+}
+
+tasks.named<JavaCompile>(java11.compileJavaTaskName) {
+    options.encoding = Charsets.UTF_8.name()
+    options.release.set(11)
+}
+
+tasks.named<Jar>("jar") {
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
+tasks.named<Test>("test") {
+    classpath = java11.output + classpath // Test against the classes used on Java 11 and later
+}
+
 mavenPublishing {
     coordinates(
         groupId = "io.github.milkdrinkers",
@@ -1,6 +1,7 @@
 package io.github.milkdrinkers.wordweaver;
 
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
@@ -9,11 +10,10 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @SuppressWarnings("ALL")
 public class DefaultMissingTranslationHandler implements MissingTranslationHandler {
@@ -28,64 +28,73 @@ public class DefaultMissingTranslationHandler implements MissingTranslationHandl
 
     @Override
     public @Nullable String handle(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable String fallback) {
-        LOGGER.debug("Missing translation for key: '{}' in locale: '{}'", key, config.getCurrentLocaleTag());
+        logMissing(config, key);
 
-        final Optional<TranslationBundle> bundle = registry.getDefaultOptional();
-        if (!bundle.isPresent())
+        final TranslationBundleEntry value = defaultEntry(registry, key);
+        if (value == null)
             return stringResultHandler.apply(fallback);
 
-        final Optional<TranslationBundleEntry> value = bundle.get().getEntryOptional(key);
-        if (!value.isPresent())
-            return stringResultHandler.apply(fallback);
-
-        return value.get().getValue();
+        recordFallbackHit(config);
+        return value.getValue();
     }
 
     @Override
     public @Nullable Component handle(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable Component fallback) {
-        LOGGER.debug("Missing translation for key: '{}' in locale: '{}'", key, config.getCurrentLocaleTag());
-
-        final Optional<TranslationBundle> bundle = registry.getDefaultOptional();
-        if (!bundle.isPresent())
-            return componentResultHandler.apply(fallback);
+        logMissing(config, key);
 
-        final Optional<TranslationBundleEntry> value = bundle.get().getEntryOptional(key);
-        if (!value.isPresent())
+        final TranslationBundleEntry value = defaultEntry(registry, key);
+        if (value == null)
             return componentResultHandler.apply(fallback);
 
-        return config.getComponentConverter().apply(value.get().getValue());
+        recordFallbackHit(config);
+        return config.getComponentConverter().apply(value.getValue());
     }
 
     @Override
     public @Nullable List<String> handleListString(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable List<String> fallback) {
-        LOGGER.debug("Missing translation for key: '{}' in locale: '{}'", key, config.getCurrentLocaleTag());
+        logMissing(config, key);
 
-        final Optional<TranslationBundle> bundle = registry.getDefaultOptional();
-        if (!bundle.isPresent())
+        final TranslationBundleEntry value = defaultEntry(registry, key);
+        if (value == null)
             return stringResultHandler2.apply(fallback);
 
-        final Optional<TranslationBundleEntry> value = bundle.get().getEntryOptional(key);
-        if (!value.isPresent())
-            return stringResultHandler2.apply(fallback);
-
-        return value.get().getValues();
+        recordFallbackHit(config);
+        return value.getValues();
     }
 
-    @SuppressWarnings("OptionalIsPresent")
     @Override
     public @Nullable List<Component> handleListComponent(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable List<Component> fallback) {
-        LOGGER.debug("Missing translation for key: '{}' in locale: '{}'", key, config.getCurrentLocaleTag());
+        logMissing(config, key);
 
-        final Optional<TranslationBundle> bundle = registry.getDefaultOptional();
-        if (!bundle.isPresent())
+        final TranslationBundleEntry value = defaultEntry(registry, key);
+        if (value == null)
             return componentResultHandler2.apply(fallback);
 
-        final Optional<TranslationBundleEntry> value = bundle.get().getEntryOptional(key);
-        if (!value.isPresent())
-            return componentResultHandler2.apply(fallback);
+        recordFallbackHit(config);
+        final List<String> values = value.getValues();
+        final List<Component> components = new ArrayList<>(values.size());
+        for (String line : values)
+            components.add(config.getComponentConverter().apply(line));
+
+        return components;
+    }
+
+    /**
+     * Logs a missing key, without formatting the locale unless debug logging is enabled.
+     */
+    private static void logMissing(TranslationConfig config, String key) {
+        if (LOGGER.isDebugEnabled())
+            LOGGER.debug("Missing translation for key: '{}' in locale: '{}'", key, config.getCurrentLocaleTag());
+    }
+
+    private static @Nullable TranslationBundleEntry defaultEntry(TranslationBundleRegistry registry, String key) {
+        final TranslationBundle bundle = registry.getDefault();
+        return bundle == null ? null : bundle.getEntry(key);
+    }
 
-        return value.get().getValues().stream()
-            .map(s -> config.getComponentConverter().apply(s))
-            .collect(Collectors.toList());
+    private static void recordFallbackHit(TranslationConfig config) {
+        final TranslationMetrics metrics = config.getMetrics();
+        if (metrics != null)
+            metrics.recordFallbackHit();
     }
 }
@@ -0,0 +1,87 @@
+package io.github.milkdrinkers.wordweaver;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * A locale that applies to the current thread until the scope is closed, taking priority over the active locale.
+ * <p>
+ * Lets each request or player interaction be translated in its own locale without changing the active locale shared by
+ * the whole application, and without synchronization:
+ * <pre>{@code
+ * try (LocaleScope ignored = Translation.withLocale(player.locale())) {
+ *     String welcome = Translation.of("messages.welcome"); // Translated in the player's locale
+ * }
+ * }</pre>
+ * Scopes may be nested, closing a scope restores the locale of the enclosing one. A scope must be closed on the thread
+ * that opened it.
+ *
+ * @see Translation#withLocale(Locale)
+ */
+public final class LocaleScope implements AutoCloseable {
+    private static final ThreadLocal<Locale> CURRENT = new ThreadLocal<>();
+
+    private final @Nullable Locale previous;
+    private boolean closed;
+
+    private LocaleScope(@Nullable Locale previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a scope using the given locale on the current thread
+     *
+     * @param locale The locale to use
+     * @return The scope, which must be closed to restore the previous locale
+     */
+    public static LocaleScope open(@NotNull Locale locale) {
+        final LocaleScope scope = new LocaleScope(CURRENT.get());
+        CURRENT.set(locale);
+        return scope;
+    }
+
+    /**
+     * Runs a task with the given locale on the current thread
+     *
+     * @param locale The locale to use
+     * @param task   The task to run
+     * @param <T>    The result type
+     * @return The result of the task
+     */
+    public static <T> T call(@NotNull Locale locale, @NotNull Supplier<T> task) {
+        final LocaleScope scope = open(locale);
+        try {
+            return task.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * Get the locale of the innermost open scope on the current thread
+     *
+     * @return The locale, or null if no scope is open
+     */
+    public static @Nullable Locale current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes the scope, restoring the locale of the enclosing scope. Closing a scope more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -1,16 +1,71 @@
 package io.github.milkdrinkers.wordweaver;
 
+import java.util.ArrayList;
+import java.util.IllformedLocaleException;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class LocaleUtil {
+    private static final int MAX_CACHED_TAGS = 512;
+    private static final Map<String, Locale> TAGS = new ConcurrentHashMap<>();
+
     /**
-     * Convert a <a href="https://gist.github.com/typpo/b2b828a35e683b9bf8db91b5404f1bd1">BCP 47</a> locale tag to a {@link Locale} object. This method replaces underscores with hyphens before parsing the tag, to handle legacy Java formats.
+     * Convert a <a href="https://gist.github.com/typpo/b2b828a35e683b9bf8db91b5404f1bd1">BCP 47</a> locale tag to a {@link Locale} object. This method replaces underscores with hyphens before parsing the tag, to handle legacy Java formats. Tags are matched case-insensitively, and the locales of the first 512 distinct tags are cached.
      *
      * @param localeTag The BCP 47 locale tag to convert
      * @return The corresponding Locale object
      */
     public static Locale fromTag(String localeTag) {
-        return Locale.forLanguageTag(localeTag.replace('_', '-'));
+        final Locale cached = TAGS.get(localeTag);
+        if (cached != null)
+            return cached;
+
+        final Locale locale = Locale.forLanguageTag(localeTag.replace('_', '-'));
+        if (TAGS.size() < MAX_CACHED_TAGS) // Tags may come from clients, so the cache is bounded
+            TAGS.putIfAbsent(localeTag, locale);
+
+        return locale;
+    }
+
+    /**
+     * Get the locales to try, in order, when looking for the bundle that best matches a locale. The list starts with
+     * the locale itself and falls back to less specific locales, e.g. {@code zh_Hant_TW}, {@code zh_TW},
+     * {@code zh_Hant} and {@code zh}.
+     *
+     * @param locale The requested locale
+     * @return The locales to try, most specific first
+     */
+    public static List<Locale> fallbacksOf(Locale locale) {
+        final List<Locale> fallbacks = new ArrayList<>(5);
+        fallbacks.add(locale);
+
+        final String language = locale.getLanguage();
+        final String script = locale.getScript();
+        final String region = locale.getCountry();
+
+        addFallback(fallbacks, language, script, region);
+        addFallback(fallbacks, language, "", region);
+        addFallback(fallbacks, language, script, "");
+        addFallback(fallbacks, language, "", "");
+
+        return fallbacks;
+    }
+
+    private static void addFallback(List<Locale> fallbacks, String language, String script, String region) {
+        if (language.isEmpty())
+            return;
+
+        final Locale fallback;
+        try {
+            fallback = new Locale.Builder().setLanguage(language).setScript(script).setRegion(region).build();
+        } catch (IllformedLocaleException e) {
+            return; // Locales created through the legacy constructors may not be well-formed
+        }
+
+        if (!fallbacks.contains(fallback))
+            fallbacks.add(fallback);
     }
 
     /**
@@ -6,6 +6,7 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Implementations of this interface define the behavior of when a key does not exist in a bundle.
@@ -59,4 +60,68 @@ public interface MissingTranslationHandler {
      * @return The value to return if the key is missing
      */
     @Nullable List<Component> handleListComponent(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable List<Component> fallback);
+
+    /**
+     * Handle a missing entry for a key in a locale. Called by the translation service in place of
+     * {@link #handle(TranslationConfig, TranslationBundleRegistry, String, String)}.
+     *
+     * @param config   The translation config
+     * @param registry The bundle registry
+     * @param locale   The locale the key was looked up in
+     * @param key      The key to the translation
+     * @param fallback The default value provided by the developer
+     * @return The value to return if the key is missing
+     * @implNote Defaults to ignoring the locale
+     */
+    default @Nullable String handle(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable String fallback) {
+        return handle(config, registry, key, fallback);
+    }
+
+    /**
+     * Handle a missing entry for a key in a locale. Called by the translation service in place of
+     * {@link #handle(TranslationConfig, TranslationBundleRegistry, String, Component)}.
+     *
+     * @param config   The translation config
+     * @param registry The bundle registry
+     * @param locale   The locale the key was looked up in
+     * @param key      The key to the translation
+     * @param fallback The default value provided by the developer
+     * @return The value to return if the key is missing
+     * @implNote Defaults to ignoring the locale
+     */
+    default @Nullable Component handle(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable Component fallback) {
+        return handle(config, registry, key, fallback);
+    }
+
+    /**
+     * Handle a missing entry for a key in a locale. Called by the translation service in place of
+     * {@link #handleListString(TranslationConfig, TranslationBundleRegistry, String, List)}.
+     *
+     * @param config   The translation config
+     * @param registry The bundle registry
+     * @param locale   The locale the key was looked up in
+     * @param key      The key to the translation
+     * @param fallback The default value provided by the developer
+     * @return The value to return if the key is missing
+     * @implNote Defaults to ignoring the locale
+     */
+    default @Nullable List<String> handleListString(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable List<String> fallback) {
+        return handleListString(config, registry, key, fallback);
+    }
+
+    /**
+     * Handle a missing entry for a key in a locale. Called by the translation service in place of
+     * {@link #handleListComponent(TranslationConfig, TranslationBundleRegistry, String, List)}.
+     *
+     * @param config   The translation config
+     * @param registry The bundle registry
+     * @param locale   The locale the key was looked up in
+     * @param key      The key to the translation
+     * @param fallback The default value provided by the developer
+     * @return The value to return if the key is missing
+     * @implNote Defaults to ignoring the locale
+     */
+    default @Nullable List<Component> handleListComponent(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable List<Component> fallback) {
+        return handleListComponent(config, registry, key, fallback);
+    }
 }
@@ -3,10 +3,14 @@ package io.github.milkdrinkers.wordweaver;
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
 import io.github.milkdrinkers.wordweaver.loader.TranslationLoader;
 import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.metrics.HotKey;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.service.TranslationService;
 import io.github.milkdrinkers.wordweaver.service.impl.TranslationServiceImpl;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -96,7 +100,7 @@ public final class Translation {
     }
 
     /**
-     * Get the translated list of Adventure Components for a key
+     * Get the translated list of Adventure Components for a key. The list is unmodifiable, as it may be shared between callers.
      *
      * @param key The key to the translation
      * @see #asList(String, List)
@@ -107,7 +111,7 @@ public final class Translation {
     }
 
     /**
-     * Get the translated list of Adventure Components for a key
+     * Get the translated list of Adventure Components for a key. The list is unmodifiable, as it may be shared between callers.
      *
      * @param key      The key to the translation
      * @param fallback The default value to return if no valid value was found, empty list if null
@@ -118,6 +122,55 @@ public final class Translation {
         return TranslationProvider.getInstance().getTranslationService().getComponentList(key, fallback != null ? fallback : Collections.emptyList());
     }
 
+    /**
+     * Get the translated value for a key as an Adventure Component, in the locale of a viewer
+     *
+     * @param viewer The viewer whose {@link net.kyori.adventure.identity.Identity#LOCALE} is used, e.g. a player
+     * @param key    The key to the translation
+     * @see #as(Pointered, String, Component)
+     */
+    public static Component as(Pointered viewer, String key) {
+        return as(viewer, key, null);
+    }
+
+    /**
+     * Get the translated value for a key as an Adventure Component, in the locale of a viewer. The active locale is
+     * used if the viewer has no locale.
+     *
+     * @param viewer   The viewer whose {@link net.kyori.adventure.identity.Identity#LOCALE} is used, e.g. a player
+     * @param key      The key to the translation
+     * @param fallback The default value to return if no valid value was found
+     * @see Component
+     */
+    public static Component as(Pointered viewer, String key, Component fallback) {
+        return TranslationProvider.getInstance().getTranslationService().getComponent(viewer, key, fallback);
+    }
+
+    /**
+     * Get the translated list of Adventure Components for a key, in the locale of a viewer. The active locale is used
+     * if the viewer has no locale. The list is unmodifiable, as it may be shared between callers.
+     *
+     * @param viewer The viewer whose {@link net.kyori.adventure.identity.Identity#LOCALE} is used, e.g. a player
+     * @param key    The key to the translation
+     * @see Component
+     */
+    public static List<Component> asList(Pointered viewer, String key) {
+        return TranslationProvider.getInstance().getTranslationService().getComponentList(viewer, key, Collections.emptyList());
+    }
+
+    /**
+     * Send the translated value for a key to an audience. Every member of a forwarding audience, e.g. every player on a
+     * server, receives the value in its own locale.
+     *
+     * @param audience The audience to send to
+     * @param key      The key to the translation
+     * @see #as(Pointered, String)
+     */
+    public static void send(Audience audience, String key) {
+        final TranslationService service = TranslationProvider.getInstance().getTranslationService();
+        audience.forEachAudience(member -> member.sendMessage(service.getComponent(member, key, null)));
+    }
+
     /**
      * Get a set of all entry keys in the current and fallback bundles
      *
@@ -177,6 +230,30 @@ public final class Translation {
         TranslationProvider.getInstance().getTranslationService().setLocale(locale);
     }
 
+    /**
+     * Use a locale for translations on the current thread until the returned scope is closed, without changing the
+     * active locale
+     *
+     * @param localeTag The <a href="https://gist.github.com/typpo/b2b828a35e683b9bf8db91b5404f1bd1">BCP 47 locale tag</a> (e.g., "en-US", "xx-XX", "en_US", "xx_XX"), representing a locale.
+     * @return The scope, to be closed with try-with-resources
+     * @see LocaleScope
+     */
+    public static LocaleScope withLocale(@NotNull String localeTag) {
+        return withLocale(fromTag(localeTag));
+    }
+
+    /**
+     * Use a locale for translations on the current thread until the returned scope is closed, without changing the
+     * active locale
+     *
+     * @param locale A Locale representing the locale to use (e.g., {@code Locale.forLanguageTag("en-US")}, {@code new Locale("en", "US")}, {@code new Locale("xx", "XX")}).
+     * @return The scope, to be closed with try-with-resources
+     * @see LocaleScope
+     */
+    public static LocaleScope withLocale(@NotNull Locale locale) {
+        return LocaleScope.open(locale);
+    }
+
     /**
      * Get the active locale as a locale tag
      */
@@ -185,7 +262,7 @@ public final class Translation {
     }
 
     /**
-     * Get the active locale
+     * Get the active locale, or the locale of the {@link LocaleScope} open on the current thread
      */
     public static Locale getLocale() {
         return TranslationProvider.getInstance().getTranslationService().getLocale();
@@ -208,6 +285,43 @@ public final class Translation {
         LOGGER.debug("Initialized WordWeaver with current locale: {}, and fallback locale: {}", config.getCurrentLocaleTag(), config.getDefaultLocaleTag());
     }
 
+    /**
+     * Get the lookup metrics, when enabled through {@link TranslationConfig.Builder#metrics(boolean)}
+     *
+     * @return The metrics, or null if metrics are disabled
+     * @see TranslationMetrics#snapshot()
+     */
+    public static @Nullable TranslationMetrics getMetrics() {
+        return TranslationProvider.getInstance().getTranslationService().getMetrics();
+    }
+
+    /**
+     * Get the keys looked up most, when sampled through {@link TranslationConfig.Builder#hotKeys(int)}
+     *
+     * @param limit The maximum number of keys to return
+     * @return The sampled keys, most sampled first, or an empty list if hot keys are not sampled
+     */
+    public static List<HotKey> getHotKeys(int limit) {
+        return TranslationProvider.getInstance().getTranslationService().getHotKeys(limit);
+    }
+
+    /**
+     * Save the sampled hot keys, when persisted through {@link TranslationConfig.Builder#persistHotKeys(boolean)}.
+     * Call this when shutting down so the keys are warmed up on the next start.
+     */
+    public static void saveHotKeys() {
+        TranslationProvider.getInstance().getTranslationService().saveHotKeys();
+    }
+
+    /**
+     * Shut down WordWeaver, saving the sampled hot keys and unregistering its global translator source and metrics MBean.
+     * Call this when the plugin/mod is disabled, after which WordWeaver may be initialized again.
+     */
+    @SuppressWarnings("unused")
+    public static void shutdown() {
+        TranslationProvider.shutdown();
+    }
+
     /**
      * Reload all translations
      */
@@ -6,7 +6,7 @@ import io.github.milkdrinkers.wordweaver.service.TranslationService;
  * Singleton provider for the translation service
  */
 public final class TranslationProvider {
-    private static TranslationProvider INSTANCE;
+    private static volatile TranslationProvider INSTANCE;
     private final TranslationService translationService;
 
     private TranslationProvider(TranslationService service) {
@@ -33,6 +33,17 @@ public final class TranslationProvider {
         INSTANCE = new TranslationProvider(service);
     }
 
+    /**
+     * Shut down the translation service and forget the provider, so it can be initialized again
+     */
+    static synchronized void shutdown() {
+        if (INSTANCE == null)
+            return;
+
+        INSTANCE.translationService.shutdown();
+        INSTANCE = null;
+    }
+
     /**
      * Get the translation service
      */
@@ -1,12 +1,15 @@
 package io.github.milkdrinkers.wordweaver.config;
 
 import io.github.milkdrinkers.wordweaver.MissingTranslationHandler;
+import io.github.milkdrinkers.wordweaver.metrics.HotKeySampler;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
 import net.kyori.adventure.key.InvalidKeyException;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.key.KeyPattern;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -23,22 +26,36 @@ import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
  */
 public class TranslationConfig {
     public static final Locale DEFAULT_LOCALE = Locale.US;
+    /**
+     * The name of the file resolved bundles are cached in, inside the translation directory
+     */
+    public static final String BUNDLE_CACHE_FILE_NAME = "bundles.cache";
+    public static final int DEFAULT_COMPONENT_CACHE_SIZE = 4096;
 
     // Configuration
     private @KeyPattern.Namespace String namespace;
     private Path translationDirectory;
-    private Locale defaultLocale;
-    private Locale currentLocale;
+    private volatile Locale defaultLocale;
+    private volatile Locale currentLocale;
 
     private Path resourcesDirectory;
     private boolean extractBundles;
     private boolean updateBundles;
+    private boolean loadFromResources;
 
     // Behavior
     private MissingTranslationHandler missingTranslationHandler;
     private Function<String, Component> componentConverter;
+    private int componentCacheSize;
     private MiniMessage miniMessage;
     private final List<TranslationParser> parsers = new ArrayList<>();
+    private boolean metrics;
+    private boolean jmx;
+    private @Nullable TranslationMetrics translationMetrics;
+    private boolean bundleCache;
+    private int hotKeys;
+    private boolean persistHotKeys;
+    private @Nullable HotKeySampler hotKeySampler;
 
     private TranslationConfig() {
         this.namespace = "";
@@ -49,9 +66,11 @@ public class TranslationConfig {
         this.resourcesDirectory = Paths.get("lang");
         this.extractBundles = true;
         this.updateBundles = true;
+        this.loadFromResources = false;
 
         this.missingTranslationHandler = MissingTranslationHandler.DEFAULT;
         this.componentConverter = Component::text;
+        this.componentCacheSize = DEFAULT_COMPONENT_CACHE_SIZE;
         this.miniMessage = MiniMessage.miniMessage();
     }
 
@@ -103,6 +122,10 @@ public class TranslationConfig {
         return updateBundles;
     }
 
+    public boolean shouldLoadFromResources() {
+        return loadFromResources;
+    }
+
     public MissingTranslationHandler getMissingTranslationHandler() {
         return missingTranslationHandler;
     }
@@ -111,6 +134,15 @@ public class TranslationConfig {
         return componentConverter;
     }
 
+    /**
+     * Get the maximum number of entries whose converted components are cached
+     *
+     * @return The number of entries, 0 if components are not cached
+     */
+    public int getComponentCacheSize() {
+        return componentCacheSize;
+    }
+
     public MiniMessage getMiniMessage() {
         return miniMessage;
     }
@@ -119,6 +151,61 @@ public class TranslationConfig {
         return parsers;
     }
 
+    /**
+     * Get the metrics recorded for this configuration
+     *
+     * @return The metrics, or null if metrics are disabled
+     */
+    public @Nullable TranslationMetrics getMetrics() {
+        return translationMetrics;
+    }
+
+    public boolean shouldRegisterMBean() {
+        return jmx;
+    }
+
+    /**
+     * Get the file resolved bundles are cached in
+     *
+     * @return The file inside the translation directory, or null if the bundle cache is disabled
+     */
+    public @Nullable Path getBundleCacheFile() {
+        if (!bundleCache || translationDirectory == null)
+            return null;
+
+        return translationDirectory.resolve(BUNDLE_CACHE_FILE_NAME);
+    }
+
+    /**
+     * Get the number of hot keys warmed up after bundles are loaded
+     *
+     * @return The number of keys, 0 if hot keys are not sampled
+     */
+    public int getHotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * Get the sampler counting which keys are looked up most
+     *
+     * @return The sampler, or null if hot keys are not sampled
+     */
+    public @Nullable HotKeySampler getHotKeySampler() {
+        return hotKeySampler;
+    }
+
+    /**
+     * Get the file hot keys are persisted to
+     *
+     * @return The file inside the translation directory, or null if hot keys are not persisted
+     */
+    public @Nullable Path getHotKeysFile() {
+        if (!persistHotKeys || hotKeySampler == null || translationDirectory == null)
+            return null;
+
+        return translationDirectory.resolve(HotKeySampler.FILE_NAME);
+    }
+
     /**
      * Creates a new builder for the TranslationConfig
      *
@@ -153,6 +240,7 @@ public class TranslationConfig {
          * Set the directory where bundle files are located at runtime.
          *
          * @param directory The directory to use
+         * @implNote Optional when {@link #loadFromResources(boolean)} is enabled, in which case files in this directory override the bundled entries.
          */
         public Builder translationDirectory(Path directory) {
             config.translationDirectory = directory;
@@ -236,12 +324,41 @@ public class TranslationConfig {
             return this;
         }
 
+        /**
+         * Set whether to load bundles straight from the resources directory instead of from the translation directory.
+         * Nothing is extracted or updated on disk, which suits read-only deployments. If a translation directory is set
+         * and exists, the entries of its bundle files are layered on top of the bundled ones.
+         *
+         * @param load Whether to load bundles from the resources
+         * @implNote Defaults to false. Requires parsers that support streams, see {@link TranslationParser#supportsStreams()}.
+         */
+        public Builder loadFromResources(boolean load) {
+            config.loadFromResources = load;
+            return this;
+        }
+
+        /**
+         * Set whether to cache the parsed and resolved bundles in {@value TranslationConfig#BUNDLE_CACHE_FILE_NAME} in
+         * the translation directory. On the next start, bundles whose files, parsers and default locale are unchanged
+         * are read from the cache instead of being parsed and resolved again.
+         *
+         * @param enabled Whether to cache bundles
+         * @implNote Defaults to false. Bundles loaded lazily by section are not cached, as caching them would load every
+         * section. Each bundle file is hashed on every load to check the cache.
+         * @see TranslationParser#version()
+         */
+        public Builder bundleCache(boolean enabled) {
+            config.bundleCache = enabled;
+            return this;
+        }
+
         /**
          * Set the handler for missing translations.
          *
          * @param handler The handler to use for missing translations
          * @implNote Defaults to {@link MissingTranslationHandler#DEFAULT}
          * @see MissingTranslationHandler
+         * @see io.github.milkdrinkers.wordweaver.metrics.MissingKeyTracker
          */
         public Builder missingTranslationHandler(MissingTranslationHandler handler) {
             config.missingTranslationHandler = handler;
@@ -259,6 +376,23 @@ public class TranslationConfig {
             return this;
         }
 
+        /**
+         * Set the number of entries whose converted components are cached, so repeated lookups of a key return the
+         * same components instead of converting the value again. The cache is cleared when bundles are reloaded, and
+         * entries are no longer added once it is full.
+         *
+         * @param size The maximum number of cached entries, 0 to convert on every lookup
+         * @implNote Defaults to {@value TranslationConfig#DEFAULT_COMPONENT_CACHE_SIZE}. The converter must return the
+         * same component for the same string while the cache is enabled.
+         */
+        public Builder componentCache(int size) {
+            if (size < 0)
+                throw new IllegalArgumentException("Component cache size must not be negative");
+
+            config.componentCacheSize = size;
+            return this;
+        }
+
         /**
          * Set the MiniMessage instance used to render translatable components through the {@link net.kyori.adventure.translation.GlobalTranslator}.
          *
@@ -282,6 +416,62 @@ public class TranslationConfig {
             return this;
         }
 
+        /**
+         * Set whether to record lookup metrics, available through {@link TranslationConfig#getMetrics()} and
+         * {@link io.github.milkdrinkers.wordweaver.Translation#getMetrics()}.
+         *
+         * @param enabled Whether to record metrics
+         * @implNote Defaults to false. Recording uses striped counters and adds a few nanoseconds per lookup.
+         */
+        public Builder metrics(boolean enabled) {
+            config.metrics = enabled;
+            return this;
+        }
+
+        /**
+         * Set whether to expose the lookup metrics as a JMX MBean, enabling metrics if needed.
+         *
+         * @param enabled Whether to register the MBean
+         * @implNote Defaults to false
+         * @see io.github.milkdrinkers.wordweaver.metrics.TranslationMetricsMXBean
+         */
+        public Builder jmx(boolean enabled) {
+            config.jmx = enabled;
+            if (enabled)
+                config.metrics = true;
+            return this;
+        }
+
+        /**
+         * Set the number of hot keys to warm up. Lookups are sampled to find the keys used most, and after bundles are
+         * loaded or reloaded the hottest keys are converted to components ahead of time, so their first lookup does
+         * not pay for parsing. The sampled keys are available through
+         * {@link io.github.milkdrinkers.wordweaver.Translation#getHotKeys(int)}.
+         *
+         * @param count The number of keys to warm up, 0 to disable sampling
+         * @implNote Defaults to 0. One in {@value HotKeySampler#DEFAULT_SAMPLE_RATE} lookups is sampled.
+         */
+        public Builder hotKeys(int count) {
+            if (count < 0)
+                throw new IllegalArgumentException("Hot key count must not be negative");
+
+            config.hotKeys = count;
+            return this;
+        }
+
+        /**
+         * Set whether to save the sampled hot keys to {@value HotKeySampler#FILE_NAME} in the translation directory, so
+         * they are warmed up on the next start too. The file is written on every reload and by
+         * {@link io.github.milkdrinkers.wordweaver.Translation#saveHotKeys()}.
+         *
+         * @param enabled Whether to persist hot keys
+         * @implNote Defaults to false. Has no effect unless {@link #hotKeys(int)} is set.
+         */
+        public Builder persistHotKeys(boolean enabled) {
+            config.persistHotKeys = enabled;
+            return this;
+        }
+
         /**
          * Builds the TranslationConfig object
          *
@@ -298,7 +488,7 @@ public class TranslationConfig {
                 throw new IllegalStateException("Namespace is invalid, we recommend \"wordweaver:pluginname\"", e);
             }
 
-            if (config.translationDirectory == null)
+            if (config.translationDirectory == null && !config.loadFromResources)
                 throw new IllegalStateException("Translation directory must be set");
 
             if (config.defaultLocale == null)
@@ -322,6 +512,12 @@ public class TranslationConfig {
             if (config.miniMessage == null)
                 config.miniMessage = MiniMessage.miniMessage();
 
+            if (config.metrics)
+                config.translationMetrics = new TranslationMetrics();
+
+            if (config.hotKeys > 0)
+                config.hotKeySampler = new HotKeySampler();
+
             return config;
         }
     }
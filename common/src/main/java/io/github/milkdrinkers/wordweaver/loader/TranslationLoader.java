@@ -23,7 +23,19 @@ public interface TranslationLoader {
     void updateExistingBundles() throws IOException;
 
     /**
-     * Load bundle files from configured sources
+     * Load bundle files from configured sources into the registry
      */
     void loadBundles() throws IOException;
+
+    /**
+     * Returns if {@link #loadBundles()} replaces every bundle in the registry at once, through
+     * {@link TranslationBundleRegistry#replace(java.util.Collection)}. Reloading clears the registry before loading
+     * unless it does, so loaders registering each bundle do not keep the bundles loaded earlier.
+     *
+     * @return True if loading replaces the bundles loaded earlier, so lookups never see an empty registry
+     * @implSpec Returns false
+     */
+    default boolean replacesBundles() {
+        return false;
+    }
 }
@@ -0,0 +1,256 @@
+package io.github.milkdrinkers.wordweaver.loader.impl;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.fromTag;
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
+
+/**
+ * A binary file storing the resolved entries of every bundle, so bundles whose files have not changed are read back on
+ * the next start instead of being parsed and resolved again.
+ * <p>
+ * Each bundle is stored with a fingerprint of its source files, see {@link Fingerprint}. As references fall back to the
+ * default locale, every bundle also depends on the fingerprint of the default locale, which is stored once in the
+ * header. Bundles are only read back while both fingerprints match.
+ * <p>
+ * The file is read into a single buffer and decoded from it, rather than memory mapped, as a mapped file cannot be
+ * replaced on Windows until the mapping is garbage collected. Any file that cannot be read, written by another format
+ * version or truncated, is treated as empty.
+ */
+final class BundleCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BundleCache.class);
+    private static final int MAGIC = 0x57574243; // WWBC
+    private static final int FORMAT_VERSION = 1; // Bump whenever the format, or the way references are resolved, changes
+    private static final byte SINGLE = 0;
+    private static final byte MULTIPLE = 1;
+
+    private BundleCache() {
+    }
+
+    /**
+     * Reads the bundles whose fingerprints match.
+     *
+     * @param file          The cache file
+     * @param defaultLocale The default locale
+     * @param fingerprints  The current fingerprint of every locale with bundle files
+     * @return The resolved entries of every bundle that is unchanged, empty if the default locale has changed
+     */
+    static Map<Locale, Map<String, TranslationBundleEntry>> read(Path file, Locale defaultLocale, Map<Locale, String> fingerprints) {
+        if (!Files.isRegularFile(file))
+            return Collections.emptyMap();
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+                return Collections.emptyMap();
+
+            if (!readString(buffer).equals(toTag(defaultLocale)) || !readString(buffer).equals(fingerprints.getOrDefault(defaultLocale, "")))
+                return Collections.emptyMap();
+
+            final Map<Locale, Map<String, TranslationBundleEntry>> bundles = new HashMap<>();
+            final int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                final Locale locale = fromTag(readString(buffer));
+                final String fingerprint = readString(buffer);
+                final int length = buffer.getInt();
+
+                if (!fingerprint.equals(fingerprints.get(locale))) {
+                    buffer.position(buffer.position() + length); // Changed since it was cached
+                    continue;
+                }
+
+                bundles.put(locale, readEntries(buffer));
+            }
+
+            return bundles;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read bundle cache, parsing every bundle: {}", file, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Replaces the cache file.
+     *
+     * @param file          The cache file
+     * @param defaultLocale The default locale
+     * @param fingerprints  The fingerprint of every locale with bundle files
+     * @param bundles       The resolved entries of the bundles to store, which must be fully loaded
+     */
+    static void write(Path file, Locale defaultLocale, Map<Locale, String> fingerprints, Map<Locale, Map<String, TranslationBundleEntry>> bundles) throws IOException {
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, toTag(defaultLocale));
+            writeString(out, fingerprints.getOrDefault(defaultLocale, ""));
+
+            out.writeInt(bundles.size());
+            for (Map.Entry<Locale, Map<String, TranslationBundleEntry>> bundle : bundles.entrySet()) {
+                writeString(out, toTag(bundle.getKey()));
+                writeString(out, fingerprints.get(bundle.getKey()));
+
+                final byte[] entries = writeEntries(bundle.getValue());
+                out.writeInt(entries.length); // Lets stale bundles be skipped without decoding them
+                out.write(entries);
+            }
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Map<String, TranslationBundleEntry> readEntries(ByteBuffer buffer) {
+        final int size = readCount(buffer);
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            final String key = readString(buffer);
+            final TranslationBundleEntry.Type type = TranslationBundleEntry.Type.values()[buffer.get()];
+
+            if (buffer.get() == SINGLE) {
+                entries.put(key, new TranslationBundleEntryImpl(type, readString(buffer)));
+            } else {
+                final int count = readCount(buffer);
+                final List<String> values = new ArrayList<>(count);
+                for (int j = 0; j < count; j++)
+                    values.add(readString(buffer));
+                entries.put(key, new TranslationBundleEntryImpl(type, values));
+            }
+        }
+
+        return entries;
+    }
+
+    private static byte[] writeEntries(Map<String, TranslationBundleEntry> entries) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(entries.size());
+            for (Map.Entry<String, TranslationBundleEntry> entry : entries.entrySet()) {
+                final TranslationBundleEntry value = entry.getValue();
+                final List<String> values = value.getValues();
+
+                writeString(out, entry.getKey());
+                out.writeByte(value.getType().ordinal());
+
+                // Entries holding a single value are recreated from it, others from their values
+                if (values.size() == 1 && values.get(0).equals(value.getValue())) {
+                    out.writeByte(SINGLE);
+                    writeString(out, value.getValue());
+                } else {
+                    out.writeByte(MULTIPLE);
+                    out.writeInt(values.size());
+                    for (String line : values)
+                        writeString(out, line);
+                }
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the number of elements that follow, each taking at least four bytes, rejecting counts a corrupted file could
+     * not hold before they are used to size a collection.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        final int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / 4)
+            throw new BufferUnderflowException();
+
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining())
+            throw new BufferUnderflowException();
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8); // Unlike writeUTF, not limited to 64 KiB
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Computes the fingerprint of the source files of a bundle: a SHA-256 digest of the name, content and parser of
+     * every file, in the order the files are merged.
+     */
+    static final class Fingerprint {
+        private final MessageDigest digest = sha256();
+        private final byte[] buffer = new byte[8192];
+
+        /**
+         * Adds a source file to the fingerprint.
+         *
+         * @param name    The name of the file, relative to the directory it was found in and prefixed by its origin
+         * @param parser  The class and version of the parser reading the file
+         * @param content The content of the file, read fully but not closed
+         */
+        Fingerprint add(String name, String parser, InputStream content) throws IOException {
+            final MessageDigest file = sha256();
+            int read;
+            while ((read = content.read(buffer)) > 0)
+                file.update(buffer, 0, read);
+
+            update(name);
+            update(parser);
+            digest.update(file.digest());
+            return this;
+        }
+
+        private void update(String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+
+        /**
+         * @return The fingerprint as a hexadecimal string
+         */
+        String finish() {
+            final StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest.digest())
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            return hex.toString();
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is required on every Java platform", e);
+            }
+        }
+    }
+}
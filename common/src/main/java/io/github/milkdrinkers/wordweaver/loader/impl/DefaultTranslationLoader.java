@@ -2,40 +2,83 @@ package io.github.milkdrinkers.wordweaver.loader.impl;
 
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
 import io.github.milkdrinkers.wordweaver.loader.TranslationLoader;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvent;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvents;
+import io.github.milkdrinkers.wordweaver.parser.BuiltInJsonTranslationParser;
 import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleImpl;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static io.github.milkdrinkers.wordweaver.LocaleUtil.fromTag;
+import static io.github.milkdrinkers.wordweaver.loader.impl.FileExtractor.extensionOf;
+import static io.github.milkdrinkers.wordweaver.loader.impl.FileExtractor.isCompressed;
+import static io.github.milkdrinkers.wordweaver.loader.impl.FileExtractor.stemOf;
 
 /**
  * Loads bundles using the registered {@link TranslationParser}s, one per file extension.
  * <p>
  * Parsers are auto discovered through {@link ServiceLoader} and may be added or overridden through the
  * {@link TranslationConfig}. When two discovered parsers claim the same extension the first one wins. An explicitly
- * configured parser always overrides a discovered one.
+ * configured parser always overrides a discovered one. JSON files are read by the {@link BuiltInJsonTranslationParser}
+ * unless another parser claims them.
+ * <p>
+ * Bundles are read from the translation directory, or straight from the resources directory when
+ * {@link TranslationConfig#shouldLoadFromResources()} is enabled, with the translation directory layered on top. A
+ * bundle is either a single file named after its locale ({@code en_US.json}), or a directory named after its locale
+ * whose files are merged ({@code en_US/gui.json}, {@code en_US/commands.json}). Files are parsed in parallel, and on
+ * reload the bundles of locales whose files have not changed since the last load are reused without being parsed again.
+ * <p>
+ * Bundle files compressed with GZIP ({@code en_US.json.gz}) are decompressed while streaming into the parser of the
+ * inner extension, and stay compressed when missing keys are merged into them.
+ * <p>
+ * Key references are resolved once every bundle file has been parsed, so a reference to a key that only exists in the
+ * default locale resolves to the default locale's value instead of staying as literal text. Bundles parsed into a
+ * {@link LazySectionMap} are resolved one section at a time as the sections are loaded, unless the bundle is merged
+ * from several files.
+ * <p>
+ * With {@link TranslationConfig.Builder#bundleCache(boolean)} the resolved bundles are also cached on disk, and the
+ * bundles of locales whose files are unchanged are read back on the next start without being parsed or resolved.
  */
 public class DefaultTranslationLoader implements TranslationLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultTranslationLoader.class);
+    private static final int BUFFER_SIZE = 8192;
 
     private final TranslationConfig config;
     private final TranslationBundleRegistry registry;
     private final Map<String, TranslationParser> parsers;
+    private volatile Map<Locale, LoadedBundle> loaded = Collections.emptyMap(); // Reused on reload while their files are unchanged
+    private volatile @Nullable Locale loadedDefaultLocale;
 
     public DefaultTranslationLoader(TranslationConfig config, TranslationBundleRegistry registry) {
         this.config = config;
@@ -56,6 +99,12 @@ public class DefaultTranslationLoader implements TranslationLoader {
             }
         }
 
+        // The built-in JSON parser handles json files when no discovered parser does
+        final TranslationParser builtInJson = new BuiltInJsonTranslationParser();
+        for (String extension : builtInJson.extensions()) {
+            resolved.putIfAbsent(extension, builtInJson);
+        }
+
         // Explicitly configured parsers override discovered ones
         for (TranslationParser parser : config.getParsers()) {
             for (String extension : parser.extensions()) {
@@ -63,15 +112,12 @@ public class DefaultTranslationLoader implements TranslationLoader {
             }
         }
 
-        if (resolved.isEmpty())
-            LOGGER.warn("No translation parsers registered. Add a parser module (e.g. wordweaver-json) or configure one.");
-
         return resolved;
     }
 
     @Override
     public void extractMissingBundles() throws IOException {
-        if (parsers.isEmpty())
+        if (parsers.isEmpty() || config.shouldLoadFromResources())
             return;
 
         try {
@@ -84,7 +130,7 @@ public class DefaultTranslationLoader implements TranslationLoader {
 
     @Override
     public void updateExistingBundles() throws IOException {
-        if (parsers.isEmpty())
+        if (parsers.isEmpty() || config.shouldLoadFromResources())
             return;
 
         try {
@@ -93,7 +139,7 @@ public class DefaultTranslationLoader implements TranslationLoader {
 
             for (Path resourcePath : resourceFiles) {
                 final String fileName = resourcePath.getFileName().toString();
-                final Path targetFile = outputDir.resolve(fileName);
+                final Path targetFile = outputDir.resolve(config.getResourcesDirectory().relativize(resourcePath).toString());
 
                 if (!Files.exists(targetFile))
                     continue;
@@ -106,7 +152,11 @@ public class DefaultTranslationLoader implements TranslationLoader {
                     if (origin == null)
                         continue;
 
-                    parser.merge(origin, targetFile);
+                    if (isCompressed(fileName)) {
+                        mergeCompressed(parser, origin, targetFile);
+                    } else {
+                        parser.merge(origin, targetFile);
+                    }
                 }
             }
         } catch (RuntimeException e) {
@@ -115,41 +165,499 @@ public class DefaultTranslationLoader implements TranslationLoader {
         }
     }
 
+    /**
+     * Merges a compressed bundle resource into a compressed bundle file, decompressing both into a temporary file for
+     * the parser to merge and compressing the result back into the bundle file.
+     */
+    private static void mergeCompressed(TranslationParser parser, InputStream origin, Path targetFile) throws IOException {
+        final Path temp = Files.createTempFile("wordweaver", "." + extensionOf(targetFile.getFileName().toString()));
+        try {
+            try (
+                InputStream compressed = Files.newInputStream(targetFile);
+                InputStream target = new GZIPInputStream(compressed, BUFFER_SIZE)
+            ) {
+                Files.copy(target, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            try (InputStream decompressed = new GZIPInputStream(origin, BUFFER_SIZE)) {
+                parser.merge(decompressed, temp);
+            }
+
+            try (OutputStream target = new GZIPOutputStream(Files.newOutputStream(targetFile), BUFFER_SIZE)) {
+                Files.copy(temp, target);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean replacesBundles() {
+        return true;
+    }
+
     @Override
     public void loadBundles() throws IOException {
         try {
-            // Create directory if it doesn't exist
-            Files.createDirectories(config.getTranslationDirectory());
+            final Path directory = config.getTranslationDirectory();
+            final Map<Locale, List<Path>> resources = config.shouldLoadFromResources() ? findResources() : Collections.emptyMap();
+            final Map<Locale, List<Path>> files;
+            if (config.shouldLoadFromResources()) {
+                files = directory != null && Files.isDirectory(directory) ? findFiles(directory) : Collections.emptyMap();
+            } else {
+                // Create directory if it doesn't exist
+                Files.createDirectories(directory);
 
-            // Load each bundle file with a known extension
-            try (Stream<Path> files = Files.list(config.getTranslationDirectory())) {
-                files.filter(path -> parsers.containsKey(extensionOf(path.getFileName().toString())))
-                    .forEach(this::load);
+                files = findFiles(directory);
             }
+
+            // Reuse the bundles of the last load, or those cached by an earlier start, while their files are unchanged
+            final Map<Locale, List<FileStamp>> stamps = stamp(resources, files);
+            final Map<Locale, Map<String, TranslationBundleEntry>> cached = new HashMap<>(unchanged(stamps));
+            final Path cacheFile = config.getBundleCacheFile();
+            final Map<Locale, String> fingerprints = cacheFile == null ? Collections.emptyMap() : fingerprint(resources, files);
+            if (cacheFile != null && cached.size() < stamps.size())
+                BundleCache.read(cacheFile, config.getDefaultLocale(), fingerprints).forEach(cached::putIfAbsent);
+
+            // Parse the bundled resources, then layer any files in the translation directory on top
+            final Map<Locale, Map<String, TranslationBundleEntry>> parsed = new LinkedHashMap<>();
+            parseLocales(uncached(resources, cached), this::parseResource).forEach((locale, entries) -> add(locale, entries, parsed, false));
+            parseLocales(uncached(files, cached), this::parseFile).forEach((locale, entries) -> add(locale, entries, parsed, config.shouldLoadFromResources()));
+
+            // Resolve references and publish the final bundles at once, replacing any loaded earlier
+            final Map<Locale, Map<String, TranslationBundleEntry>> resolved = resolve(parsed, cached);
+            final List<TranslationBundle> bundles = new ArrayList<>(resolved.size());
+            final Map<Locale, LoadedBundle> reusable = new HashMap<>();
+            resolved.forEach((locale, entries) -> {
+                bundles.add(new TranslationBundleImpl(locale, entries));
+                reusable.put(locale, new LoadedBundle(stamps.get(locale), entries));
+            });
+            registry.replace(bundles);
+            loaded = reusable;
+            loadedDefaultLocale = config.getDefaultLocale();
+
+            if (cacheFile != null)
+                writeCache(cacheFile, fingerprints, parsed.keySet(), resolved);
         } catch (RuntimeException e) {
             LOGGER.error("Failed to load bundle files: ", e);
             throw e;
         }
     }
 
-    private void load(Path file) throws TranslationLoadException {
+    /**
+     * Finds each bundle file with a known extension in a directory, and the files inside each locale directory.
+     *
+     * @param directory The directory to read
+     * @return The bundle files of every locale, in the order they are merged
+     */
+    private Map<Locale, List<Path>> findFiles(Path directory) throws IOException {
+        final Map<Locale, List<Path>> files = new LinkedHashMap<>();
+        try (Stream<Path> walk = Files.walk(directory, FileExtractor.MAX_DEPTH)) {
+            walk.filter(path -> Files.isRegularFile(path) && parsers.containsKey(extensionOf(path.getFileName().toString())))
+                .sorted()
+                .forEach(path -> files.computeIfAbsent(localeOf(directory.relativize(path)), locale -> new ArrayList<>()).add(path));
+        }
+
+        return files;
+    }
+
+    /**
+     * Finds each bundle file with a known extension in the resources directory, skipping those whose parser cannot read
+     * them from their resource stream.
+     *
+     * @return The bundled resources of every locale, in the order they are merged
+     */
+    private Map<Locale, List<Path>> findResources() throws IOException {
+        final Path resourceDir = config.getResourcesDirectory();
+
+        final Map<Locale, List<Path>> files = new LinkedHashMap<>();
+        for (Path resourcePath : FileExtractor.findResourceFiles(resourceDir, parsers.keySet())) {
+            final TranslationParser parser = parsers.get(extensionOf(resourcePath.getFileName().toString()));
+            if (!parser.supportsStreams()) {
+                LOGGER.warn("Parser {} does not support streams, skipping bundled resource: {}", parser.getClass().getName(), resourcePath);
+                continue;
+            }
+
+            files.computeIfAbsent(localeOf(resourceDir.relativize(resourcePath)), locale -> new ArrayList<>()).add(resourcePath);
+        }
+
+        return files;
+    }
+
+    /**
+     * Stamps the bundle files of every locale with the attributes identifying their version, without reading them.
+     * Bundled resources cannot change while the program runs, so only their paths are stamped.
+     */
+    private static Map<Locale, List<FileStamp>> stamp(Map<Locale, List<Path>> resources, Map<Locale, List<Path>> files) throws IOException {
+        final Map<Locale, List<FileStamp>> stamps = new HashMap<>();
+        for (Map.Entry<Locale, List<Path>> locale : resources.entrySet()) {
+            for (Path resourcePath : locale.getValue())
+                stamps.computeIfAbsent(locale.getKey(), l -> new ArrayList<>()).add(new FileStamp(resourcePath, null, -1));
+        }
+
+        for (Map.Entry<Locale, List<Path>> locale : files.entrySet()) {
+            for (Path file : locale.getValue()) {
+                final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                stamps.computeIfAbsent(locale.getKey(), l -> new ArrayList<>()).add(new FileStamp(file, attributes.lastModifiedTime(), attributes.size()));
+            }
+        }
+
+        return stamps;
+    }
+
+    /**
+     * Gets the resolved entries of the last load for every locale whose files are unchanged. As references fall back to
+     * the default locale, nothing is reused once the default locale or its files have changed.
+     */
+    private Map<Locale, Map<String, TranslationBundleEntry>> unchanged(Map<Locale, List<FileStamp>> stamps) {
+        final Map<Locale, LoadedBundle> previous = loaded;
+        final Locale defaultLocale = config.getDefaultLocale();
+        if (previous.isEmpty() || !defaultLocale.equals(loadedDefaultLocale) || !isUnchanged(previous.get(defaultLocale), stamps.get(defaultLocale)))
+            return Collections.emptyMap();
+
+        final Map<Locale, Map<String, TranslationBundleEntry>> unchanged = new HashMap<>();
+        stamps.forEach((locale, files) -> {
+            final LoadedBundle bundle = previous.get(locale);
+            if (bundle != null && isUnchanged(bundle, files))
+                unchanged.put(locale, bundle.entries);
+        });
+
+        return unchanged;
+    }
+
+    private static boolean isUnchanged(LoadedBundle bundle, List<FileStamp> stamps) {
+        return bundle == null ? stamps == null : bundle.stamps != null && bundle.stamps.equals(stamps);
+    }
+
+    /**
+     * Computes the fingerprint of the bundle files of every locale, from both the resources and the translation
+     * directory.
+     */
+    private Map<Locale, String> fingerprint(Map<Locale, List<Path>> resources, Map<Locale, List<Path>> files) throws IOException {
+        final Map<Locale, BundleCache.Fingerprint> fingerprints = new LinkedHashMap<>();
+
+        for (Map.Entry<Locale, List<Path>> locale : resources.entrySet()) {
+            for (Path resourcePath : locale.getValue()) {
+                try (InputStream resource = FileExtractor.openResource(resourcePath)) {
+                    if (resource != null)
+                        fingerprints.computeIfAbsent(locale.getKey(), l -> new BundleCache.Fingerprint()).add("resource:" + config.getResourcesDirectory().relativize(resourcePath), parserOf(resourcePath), resource);
+                }
+            }
+        }
+
+        for (Map.Entry<Locale, List<Path>> locale : files.entrySet()) {
+            for (Path file : locale.getValue()) {
+                try (InputStream content = Files.newInputStream(file)) {
+                    fingerprints.computeIfAbsent(locale.getKey(), l -> new BundleCache.Fingerprint()).add("file:" + config.getTranslationDirectory().relativize(file), parserOf(file), content);
+                }
+            }
+        }
+
+        final Map<Locale, String> result = new HashMap<>();
+        fingerprints.forEach((locale, fingerprint) -> result.put(locale, fingerprint.finish()));
+        return result;
+    }
+
+    /**
+     * Identifies the parser reading a bundle file, and its version.
+     */
+    private String parserOf(Path file) {
+        final TranslationParser parser = parsers.get(extensionOf(file.getFileName().toString()));
+        return parser.getClass().getName() + ':' + parser.version();
+    }
+
+    /**
+     * Filters out the locales whose bundles were read from the cache.
+     */
+    private static Map<Locale, List<Path>> uncached(Map<Locale, List<Path>> files, Map<Locale, Map<String, TranslationBundleEntry>> cached) {
+        if (cached.isEmpty())
+            return files;
+
+        final Map<Locale, List<Path>> uncached = new LinkedHashMap<>(files);
+        uncached.keySet().removeAll(cached.keySet());
+        return uncached;
+    }
+
+    /**
+     * Replaces the bundle cache when a bundle that can be cached had to be parsed. Bundles with lazy sections are left
+     * out, as writing them would load every section.
+     *
+     * @param file         The cache file
+     * @param fingerprints The fingerprint of every locale
+     * @param parsed       The locales that were parsed instead of read from the cache
+     * @param resolved     The resolved entries of every locale
+     */
+    private void writeCache(Path file, Map<Locale, String> fingerprints, Set<Locale> parsed, Map<Locale, Map<String, TranslationBundleEntry>> resolved) {
+        final Map<Locale, Map<String, TranslationBundleEntry>> cacheable = new LinkedHashMap<>();
+        resolved.forEach((locale, entries) -> {
+            if (!(entries instanceof LazySectionMap) && fingerprints.containsKey(locale))
+                cacheable.put(locale, entries);
+        });
+
+        boolean stale = false;
+        for (Locale locale : parsed)
+            stale |= cacheable.containsKey(locale);
+
+        if (!stale)
+            return;
+
         try {
-            final String fileName = file.getFileName().toString();
-            final String localeTag = fileName.substring(0, fileName.lastIndexOf('.'));
-            final TranslationParser parser = parsers.get(extensionOf(fileName));
+            BundleCache.write(file, config.getDefaultLocale(), fingerprints, cacheable);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Failed to write bundle cache: {}", file, e);
+        }
+    }
 
-            final Map<String, TranslationBundleEntry> entries = ReferenceResolver.resolve(parser.parse(file));
-            final TranslationBundle bundle = new TranslationBundleImpl(fromTag(localeTag), entries);
+    /**
+     * Parses the bundle files of every locale in parallel, then merges the files of each locale in order.
+     *
+     * @param files  The bundle files of every locale
+     * @param parser The function parsing a single file of a locale, returning null to skip it
+     * @return The merged entries of every locale, in the order of {@code files}
+     */
+    private static Map<Locale, Map<String, TranslationBundleEntry>> parseLocales(Map<Locale, List<Path>> files, BiFunction<Locale, Path, Map<String, TranslationBundleEntry>> parser) {
+        final Map<Path, Locale> all = new LinkedHashMap<>();
+        files.forEach((locale, paths) -> paths.forEach(path -> all.put(path, locale)));
 
-            registry.register(bundle);
-        } catch (TranslationLoadException e) {
-            LOGGER.error("Failed to load bundle file: {}", file.getFileName(), e);
-            throw e;
+        final Map<Path, Map<String, TranslationBundleEntry>> results = new ConcurrentHashMap<>();
+        all.entrySet().parallelStream().forEach(file -> {
+            final Map<String, TranslationBundleEntry> entries = parser.apply(file.getValue(), file.getKey());
+            if (entries != null)
+                results.put(file.getKey(), entries);
+        });
+
+        final Map<Locale, Map<String, TranslationBundleEntry>> merged = new LinkedHashMap<>();
+        for (Map.Entry<Locale, List<Path>> locale : files.entrySet()) {
+            Map<String, TranslationBundleEntry> entries = null;
+            boolean copied = false;
+
+            for (Path file : locale.getValue()) {
+                final Map<String, TranslationBundleEntry> fileEntries = results.get(file);
+                if (fileEntries == null)
+                    continue;
+
+                if (entries == null) {
+                    entries = fileEntries; // A single file is used as is
+                    continue;
+                }
+
+                // Copy before merging, leaving the entries returned by the parser as they are
+                if (!copied) {
+                    entries = new HashMap<>(entries);
+                    copied = true;
+                }
+
+                for (Map.Entry<String, TranslationBundleEntry> entry : fileEntries.entrySet()) {
+                    if (entries.putIfAbsent(entry.getKey(), entry.getValue()) != null)
+                        LOGGER.warn("Duplicate key '{}' for locale '{}' in {}, keeping the value from an earlier file", entry.getKey(), locale.getKey(), file);
+                }
+            }
+
+            if (entries != null)
+                merged.put(locale.getKey(), entries);
+        }
+
+        return merged;
+    }
+
+    private Map<String, TranslationBundleEntry> parseFile(Locale locale, Path file) throws TranslationLoadException {
+        final TranslationEvent event = TranslationEvents.parse();
+        final Map<String, TranslationBundleEntry> entries = parse(file);
+        event.end();
+        if (event.shouldCommit())
+            event.locale(locale).file(file.toString()).entries(sizeOf(entries)).bytes(file.toFile().length()).commit();
+
+        return entries;
+    }
+
+    private Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
+        final String fileName = file.getFileName().toString();
+        final TranslationParser parser = parsers.get(extensionOf(fileName));
+        try {
+            if (!isCompressed(fileName))
+                return parser.parse(file);
+
+            try (
+                InputStream compressed = Files.newInputStream(file);
+                InputStream stream = new GZIPInputStream(compressed, BUFFER_SIZE)
+            ) {
+                if (parser.supportsStreams())
+                    return parser.parse(stream);
+
+                // Parsers that only read files are given a decompressed copy
+                final Path temp = Files.createTempFile("wordweaver", "." + extensionOf(fileName));
+                try {
+                    Files.copy(stream, temp, StandardCopyOption.REPLACE_EXISTING);
+                    return parser.parse(temp);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        } catch (IOException | TranslationLoadException e) {
+            LOGGER.error("Failed to load bundle file: {}", fileName, e);
+            throw e instanceof TranslationLoadException ? (TranslationLoadException) e : new TranslationLoadException("Failed to decompress bundle file!", e);
+        }
+    }
+
+    private Map<String, TranslationBundleEntry> parseResource(Locale locale, Path resourcePath) throws TranslationLoadException {
+        final String fileName = resourcePath.getFileName().toString();
+        final TranslationEvent event = TranslationEvents.parse();
+        try (InputStream resource = FileExtractor.openResource(resourcePath)) {
+            if (resource == null)
+                return null;
+
+            final Map<String, TranslationBundleEntry> entries;
+            if (isCompressed(fileName)) {
+                try (InputStream stream = new GZIPInputStream(resource, BUFFER_SIZE)) {
+                    entries = parsers.get(extensionOf(fileName)).parse(stream);
+                }
+            } else {
+                entries = parsers.get(extensionOf(fileName)).parse(resource);
+            }
+
+            event.end();
+            if (event.shouldCommit())
+                event.locale(locale).file(resourcePath.toString()).entries(sizeOf(entries)).bytes(-1).commit();
+
+            return entries;
+        } catch (IOException | TranslationLoadException e) {
+            LOGGER.error("Failed to load bundled resource: {}", resourcePath.getFileName(), e);
+            throw e instanceof TranslationLoadException ? (TranslationLoadException) e : new TranslationLoadException(e);
+        }
+    }
+
+    /**
+     * Adds the merged entries of a locale to the parsed entries of every locale.
+     *
+     * @param locale  The locale of the entries
+     * @param entries The merged entries
+     * @param parsed  The parsed entries of every locale
+     * @param overlay Whether the entries override those already parsed for the same locale
+     */
+    private static void add(Locale locale, Map<String, TranslationBundleEntry> entries, Map<Locale, Map<String, TranslationBundleEntry>> parsed, boolean overlay) {
+        final Map<String, TranslationBundleEntry> existing = parsed.get(locale);
+        if (existing == null) {
+            parsed.put(locale, entries);
+        } else if (overlay) {
+            final Map<String, TranslationBundleEntry> merged = new HashMap<>(existing);
+            merged.putAll(entries);
+            parsed.put(locale, merged);
+        } else {
+            LOGGER.warn("Multiple bundles found for locale '{}', ignoring the later one", locale);
         }
     }
 
-    private static String extensionOf(String fileName) {
-        final int dot = fileName.lastIndexOf('.');
-        return dot < 0 ? "" : fileName.substring(dot + 1).toLowerCase();
+    /**
+     * Gets the locale of a bundle file from its path relative to the bundle directory. Files directly inside the
+     * directory are named after their locale tag, files inside a subdirectory belong to the locale that directory is
+     * named after.
+     *
+     * @param relativePath The path relative to the bundle directory
+     * @return The locale
+     */
+    static Locale localeOf(Path relativePath) {
+        if (relativePath.getNameCount() > 1)
+            return fromTag(relativePath.getName(0).toString());
+
+        return fromTag(stemOf(relativePath.getFileName().toString()));
+    }
+
+    /**
+     * Resolves key references in every parsed bundle. The default locale is resolved first so that the other locales
+     * can fall back to its final values for references they cannot satisfy themselves.
+     *
+     * @param parsed The parsed entries of every locale that was not cached
+     * @param cached The resolved entries of every locale read from the cache
+     * @return The resolved entries of every locale
+     */
+    private Map<Locale, Map<String, TranslationBundleEntry>> resolve(Map<Locale, Map<String, TranslationBundleEntry>> parsed, Map<Locale, Map<String, TranslationBundleEntry>> cached) {
+        final Locale defaultLocale = config.getDefaultLocale();
+        Map<String, TranslationBundleEntry> defaultEntries = cached.get(defaultLocale);
+        if (defaultEntries == null) {
+            defaultEntries = parsed.containsKey(defaultLocale)
+                ? resolve(defaultLocale, parsed.get(defaultLocale), Collections.emptyMap())
+                : Collections.emptyMap();
+        }
+
+        final Map<Locale, Map<String, TranslationBundleEntry>> resolved = new LinkedHashMap<>(cached);
+        for (Map.Entry<Locale, Map<String, TranslationBundleEntry>> entry : parsed.entrySet()) {
+            final Map<String, TranslationBundleEntry> entries = entry.getKey().equals(defaultLocale)
+                ? defaultEntries
+                : resolve(entry.getKey(), entry.getValue(), defaultEntries);
+
+            resolved.put(entry.getKey(), entries);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Resolves key references in the entries of a bundle, one section at a time as they are loaded for a
+     * {@link LazySectionMap}.
+     */
+    private static Map<String, TranslationBundleEntry> resolve(Locale locale, Map<String, TranslationBundleEntry> entries, Map<String, TranslationBundleEntry> fallback) {
+        final TranslationEvent event = TranslationEvents.resolveReferences();
+        final Map<String, TranslationBundleEntry> resolved = entries instanceof LazySectionMap
+            ? ((LazySectionMap) entries).map(section -> ReferenceResolver.resolve(section, entries, fallback))
+            : ReferenceResolver.resolve(entries, fallback);
+
+        event.end();
+        if (event.shouldCommit())
+            event.locale(locale).entries(sizeOf(resolved)).commit();
+
+        return resolved;
+    }
+
+    /**
+     * Counts the entries of a bundle without loading the sections of a {@link LazySectionMap}.
+     *
+     * @return The number of entries, or -1 for a lazy map
+     */
+    private static int sizeOf(Map<String, TranslationBundleEntry> entries) {
+        return entries instanceof LazySectionMap ? -1 : entries.size();
+    }
+
+    /**
+     * The resolved entries of a loaded bundle, shared with the registry, along with the stamps of the files they were
+     * loaded from.
+     */
+    private static final class LoadedBundle {
+        private final @Nullable List<FileStamp> stamps;
+        private final Map<String, TranslationBundleEntry> entries;
+
+        private LoadedBundle(@Nullable List<FileStamp> stamps, Map<String, TranslationBundleEntry> entries) {
+            this.stamps = stamps;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * The path of a bundle file along with the attributes identifying its version.
+     */
+    private static final class FileStamp {
+        private final Path path;
+        private final @Nullable FileTime lastModified;
+        private final long size;
+
+        private FileStamp(Path path, @Nullable FileTime lastModified, long size) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof FileStamp))
+                return false;
+            final FileStamp other = (FileStamp) o;
+            return size == other.size && path.equals(other.path) && Objects.equals(lastModified, other.lastModified);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified, size);
+        }
     }
 }
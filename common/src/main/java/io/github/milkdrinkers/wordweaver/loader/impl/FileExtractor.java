@@ -1,27 +1,48 @@
 package io.github.milkdrinkers.wordweaver.loader.impl;
 
-import io.github.milkdrinkers.wordweaver.Translation;
-
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.*;
 import java.util.ArrayList;
-import java.util.Enumeration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
 
 /**
  * Discovers and extracts bundle files shipped in the program resources.
+ * <p>
+ * Bundle files may be placed directly in the resource directory or in locale subdirectories, which are kept when
+ * extracting. Bundle files compressed with GZIP ({@code en_US.json.gz}) are extracted as they are. When running from a
+ * JAR the bundle files below a resource directory are indexed once per class loader, so extracting and updating bundles
+ * does not enumerate the whole JAR every time.
  */
 final class FileExtractor {
+    /**
+     * The suffix of bundle files compressed with GZIP, following the extension of the format, e.g. {@code en_US.json.gz}.
+     */
+    static final String COMPRESSED_SUFFIX = ".gz";
+
+    /**
+     * How deep bundle files are searched for below a bundle directory, {@code en_US.json} or {@code en_US/gui.json}.
+     */
+    static final int MAX_DEPTH = 2;
+
     @SuppressWarnings("FieldMayBeFinal")
     private static ClassLoader CLASS_LOADER = FileExtractor.class.getClassLoader();
 
+    /**
+     * Resource paths of every file below a resource directory inside a JAR, keyed by class loader and then directory.
+     */
+    private static final Map<ClassLoader, Map<String, List<Path>>> JAR_INDEX = new WeakHashMap<>();
+
     private FileExtractor() {
     }
 
@@ -45,10 +66,10 @@ final class FileExtractor {
         final List<Path> resourceFiles = findResourceFiles(resourceDir, extensions);
 
         for (Path resourcePath : resourceFiles) {
-            final String fileName = resourcePath.getFileName().toString();
-            final Path targetFile = outputDir.resolve(fileName);
+            final Path targetFile = outputDir.resolve(resourceDir.relativize(resourcePath).toString()); // Keep locale subdirectories
 
             if (Files.notExists(targetFile)) {
+                Files.createDirectories(targetFile.getParent());
                 extractResourceFile(resourcePath, targetFile);
                 extractedFiles.add(targetFile);
             }
@@ -74,7 +95,7 @@ final class FileExtractor {
             return resources; // Resource directory not found
 
         if (resourceUrl.getProtocol().equals("jar")) {
-            resources.addAll(findResourcesInJar(resourceDir, extensions)); // We're running from a JAR file
+            resources.addAll(findResourcesInJar(resourceUrl, resourceDir, extensions)); // We're running from a JAR file
         } else {
             resources.addAll(findResourcesInFileSystem(resourceDir, extensions)); // We're running from the filesystem (development mode)
         }
@@ -95,45 +116,69 @@ final class FileExtractor {
     /**
      * Finds matching resources when running from a JAR
      *
+     * @param resourceUrl The URL of the resource directory inside the JAR
      * @param resourceDir Relative path to the subdirectory where bundle files are located in the resources directory.
      * @param extensions  The file extensions to look for (lowercase, without leading dot)
      */
-    private static List<Path> findResourcesInJar(Path resourceDir, Set<String> extensions) throws IOException {
+    private static List<Path> findResourcesInJar(URL resourceUrl, Path resourceDir, Set<String> extensions) throws IOException {
         final List<Path> resources = new ArrayList<>();
 
-        // Get path to the JAR file
-        final String jarPath;
-        try {
-            jarPath = Translation.class.getProtectionDomain()
-                .getCodeSource()
-                .getLocation()
-                .toURI()
-                .getPath();
-        } catch (URISyntaxException e) {
-            throw new IOException("Failed to get JAR path", e);
+        for (Path resourcePath : indexJar(resourceUrl, resourceDir)) {
+            if (hasKnownExtension(resourcePath.getFileName().toString(), extensions))
+                resources.add(resourcePath);
         }
 
-        // Search through the JAR for matching files
-        try (JarFile jar = new JarFile(jarPath)) {
-            final Enumeration<JarEntry> entries = jar.entries();
+        return resources;
+    }
 
-            while (entries.hasMoreElements()) {
-                final JarEntry entry = entries.nextElement();
-                final String entryName = entry.getName();
+    /**
+     * Gets the cached index of every file below the resource directory inside a JAR, building it on first use.
+     *
+     * @param resourceUrl The URL of the resource directory inside the JAR
+     * @param resourceDir Relative path to the subdirectory where bundle files are located in the resources directory.
+     * @return The resource paths of every file below the resource directory, sorted
+     */
+    private static List<Path> indexJar(URL resourceUrl, Path resourceDir) throws IOException {
+        final String directory = resourceDir.toString().replace("\\", "/");
 
-                if (entry.isDirectory())
-                    continue;
+        synchronized (JAR_INDEX) {
+            final List<Path> cached = JAR_INDEX.getOrDefault(CLASS_LOADER, Collections.emptyMap()).get(directory);
+            if (cached != null)
+                return cached;
+        }
 
-                if (!entryName.startsWith(resourceDir.toString()))
-                    continue;
+        // Open the JAR as a zip filesystem, and only walk the resource directory instead of every entry in the JAR
+        final List<Path> index = new ArrayList<>();
+        try (
+            final FileSystem jar = FileSystems.newFileSystem(jarPathOf(resourceUrl), (ClassLoader) null);
+            final Stream<Path> files = Files.walk(jar.getPath(directory), MAX_DEPTH)
+        ) {
+            files.filter(Files::isRegularFile)
+                .forEach(file -> index.add(Paths.get(file.toString()))); // Convert to resource path format
+        }
+        index.sort(null); // Zip entries are walked in the order they were written, sort them as on the filesystem
 
-                if (hasKnownExtension(entryName, extensions)) {
-                    resources.add(Paths.get(entryName));
-                }
-            }
+        final List<Path> result = Collections.unmodifiableList(index);
+        synchronized (JAR_INDEX) {
+            JAR_INDEX.computeIfAbsent(CLASS_LOADER, loader -> new HashMap<>()).put(directory, result);
         }
 
-        return resources;
+        return result;
+    }
+
+    /**
+     * Gets the path of the JAR file containing a resource.
+     *
+     * @param resourceUrl The {@code jar:} URL of a resource
+     * @return The path to the JAR file on disk
+     */
+    private static Path jarPathOf(URL resourceUrl) throws IOException {
+        try {
+            final URL jarUrl = ((JarURLConnection) resourceUrl.openConnection()).getJarFileURL();
+            return Paths.get(jarUrl.toURI());
+        } catch (URISyntaxException | IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Failed to get JAR path", e);
+        }
     }
 
     /**
@@ -152,11 +197,11 @@ final class FileExtractor {
             final URI uri = url.toURI();
             final Path resourcesPath = Paths.get(uri);
 
-            // Get all matching files in the directory
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(resourcesPath, path -> hasKnownExtension(path.getFileName().toString(), extensions))) {
-                for (Path path : stream) {
-                    resources.add(resourceDir.resolve(path.getFileName())); // Convert to resource path format
-                }
+            // Get all matching files in the directory and its locale subdirectories
+            try (Stream<Path> files = Files.walk(resourcesPath, MAX_DEPTH)) {
+                files.filter(path -> Files.isRegularFile(path) && hasKnownExtension(path.getFileName().toString(), extensions))
+                    .sorted()
+                    .forEach(path -> resources.add(resourceDir.resolve(resourcesPath.relativize(path).toString()))); // Convert to resource path format
             }
         } catch (URISyntaxException e) {
             throw new IOException("Failed to get resource directory", e);
@@ -178,13 +223,50 @@ final class FileExtractor {
     }
 
     /**
-     * Returns whether the given file name ends with one of the known extensions.
+     * Returns whether the given file name ends with one of the known extensions, optionally followed by
+     * {@value #COMPRESSED_SUFFIX}.
      */
     private static boolean hasKnownExtension(String name, Set<String> extensions) {
-        final int dot = name.lastIndexOf('.');
-        if (dot < 0 || dot == name.length() - 1)
-            return false;
+        return extensions.contains(extensionOf(name));
+    }
+
+    /**
+     * Returns whether a bundle file is compressed with GZIP, such as {@code en_US.json.gz}.
+     *
+     * @param name The file name
+     * @return True if the file name ends with {@value #COMPRESSED_SUFFIX}
+     */
+    static boolean isCompressed(String name) {
+        return name.regionMatches(true, name.length() - COMPRESSED_SUFFIX.length(), COMPRESSED_SUFFIX, 0, COMPRESSED_SUFFIX.length());
+    }
+
+    /**
+     * Gets the extension selecting the parser of a bundle file, looking past the {@value #COMPRESSED_SUFFIX} of
+     * compressed files.
+     *
+     * @param name The file name
+     * @return The extension (lowercase, without leading dot), or an empty string if there is none
+     */
+    static String extensionOf(String name) {
+        final String inner = stripCompression(name);
+        final int dot = inner.lastIndexOf('.');
+        return dot < 0 ? "" : inner.substring(dot + 1).toLowerCase();
+    }
+
+    /**
+     * Gets the name of a bundle file without its extension and {@value #COMPRESSED_SUFFIX}, such as {@code en_US} for
+     * {@code en_US.json.gz}.
+     *
+     * @param name The file name
+     * @return The name without extensions
+     */
+    static String stemOf(String name) {
+        final String inner = stripCompression(name);
+        final int dot = inner.lastIndexOf('.');
+        return dot < 0 ? inner : inner.substring(0, dot);
+    }
 
-        return extensions.contains(name.substring(dot + 1).toLowerCase());
+    private static String stripCompression(String name) {
+        return isCompressed(name) ? name.substring(0, name.length() - COMPRESSED_SUFFIX.length()) : name;
     }
 }
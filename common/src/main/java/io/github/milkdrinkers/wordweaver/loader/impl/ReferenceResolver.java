@@ -4,6 +4,7 @@ import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,7 +14,8 @@ import java.util.regex.Pattern;
 /**
  * Resolves {@code <key:other.key>} references within a bundle's entries.
  * <p>
- * Applied by the loader to every parsers output.
+ * Applied by the loader to every parsers output once all bundles have been parsed. References to keys missing from a
+ * bundle fall back to the already resolved entries of the default locale.
  */
 final class ReferenceResolver {
     private static final Pattern KEY_PATTERN = Pattern.compile("<key:([^>]+)>");
@@ -29,12 +31,42 @@ final class ReferenceResolver {
      * @return A new map with resolved references
      */
     static Map<String, TranslationBundleEntry> resolve(final Map<String, TranslationBundleEntry> entries) {
+        return resolve(entries, Collections.emptyMap());
+    }
+
+    /**
+     * Processes all entries to resolve key references recursively, falling back to another bundle's entries for
+     * references that are missing from this one.
+     *
+     * @param entries  The original map of entries
+     * @param fallback The resolved entries of the default locale, consulted for references missing from {@code entries}
+     * @return A new map with resolved references
+     */
+    static Map<String, TranslationBundleEntry> resolve(final Map<String, TranslationBundleEntry> entries, final Map<String, TranslationBundleEntry> fallback) {
+        return resolve(entries, entries, fallback);
+    }
+
+    /**
+     * Processes a subset of a bundle's entries to resolve key references recursively, looking referenced keys up in the
+     * whole bundle. Used to resolve a {@link io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap} one section
+     * at a time.
+     *
+     * @param entries  The entries to process
+     * @param bundle   The original entries of the whole bundle, consulted for references
+     * @param fallback The resolved entries of the default locale, consulted for references missing from {@code bundle}
+     * @return A new map with the resolved {@code entries}
+     */
+    static Map<String, TranslationBundleEntry> resolve(final Map<String, TranslationBundleEntry> entries, final Map<String, TranslationBundleEntry> bundle, final Map<String, TranslationBundleEntry> fallback) {
         final Map<String, TranslationBundleEntry> processed = new HashMap<>(entries);
 
         for (String key : entries.keySet()) {
-            processEntry(key, entries, processed, 0);
+            processEntry(key, bundle, processed, fallback, 0);
         }
 
+        // Drop referenced entries processed along the way that are not part of the subset
+        if (bundle != entries)
+            processed.keySet().retainAll(entries.keySet());
+
         return processed;
     }
 
@@ -44,14 +76,15 @@ final class ReferenceResolver {
      * @param key      The key of the entry to process
      * @param original The original map of entries
      * @param results  The map of processed entries
+     * @param fallback The resolved entries of the default locale
      * @param depth    Current recursion depth
      */
-    private static void processEntry(final String key, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, int depth) {
+    private static void processEntry(final String key, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, final Map<String, TranslationBundleEntry> fallback, int depth) {
         if (depth >= MAX_RECURSION_DEPTH)
             return;
 
         final TranslationBundleEntry entry = results.get(key);
-        if (entry == null)
+        if (entry == null || !entry.mayContainReferences())
             return;
 
         boolean foundAnyKey = false;
@@ -61,7 +94,7 @@ final class ReferenceResolver {
 
             for (String value : entry.getValues()) {
                 final StringBuffer processedValue = new StringBuffer();
-                if (replaceKeysInString(value, processedValue, original, results, depth + 1))
+                if (replaceKeysInString(value, processedValue, original, results, fallback, depth + 1))
                     foundAnyKey = true;
                 processedValues.add(processedValue.toString());
             }
@@ -71,7 +104,7 @@ final class ReferenceResolver {
             }
         } else { // STRING type entries
             final StringBuffer processedValue = new StringBuffer();
-            foundAnyKey = replaceKeysInString(entry.getValue(), processedValue, original, results, depth + 1);
+            foundAnyKey = replaceKeysInString(entry.getValue(), processedValue, original, results, fallback, depth + 1);
 
             if (foundAnyKey) {
                 results.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, processedValue.toString()));
@@ -80,7 +113,7 @@ final class ReferenceResolver {
 
         // If we found and replaced any keys, process again to handle nested replacements
         if (foundAnyKey) {
-            processEntry(key, original, results, depth + 1);
+            processEntry(key, original, results, fallback, depth + 1);
         }
     }
 
@@ -91,10 +124,11 @@ final class ReferenceResolver {
      * @param result   The buffer to append results to
      * @param original The original map of entries
      * @param results  The map of processed entries
+     * @param fallback The resolved entries of the default locale
      * @param depth    Current recursion depth
      * @return True if any keys were found and replaced
      */
-    private static boolean replaceKeysInString(final String input, final StringBuffer result, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, int depth) {
+    private static boolean replaceKeysInString(final String input, final StringBuffer result, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, final Map<String, TranslationBundleEntry> fallback, int depth) {
         boolean foundAnyKey = false;
         final Matcher matcher = KEY_PATTERN.matcher(input);
 
@@ -103,7 +137,7 @@ final class ReferenceResolver {
             final String fullMatch = matcher.group(0);
             final String keyName = matcher.group(1);
 
-            final String replacement = getReplacementValue(keyName, fullMatch, original, results, depth + 1);
+            final String replacement = getReplacementValue(keyName, fullMatch, original, results, fallback, depth + 1);
             matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
         }
 
@@ -118,16 +152,22 @@ final class ReferenceResolver {
      * @param fullMatch The full match string
      * @param original  The original map of entries
      * @param results   The map of processed entries
+     * @param fallback  The resolved entries of the default locale
      * @param depth     Current recursion depth
      * @return The replacement value or the original match if not found
      */
-    private static String getReplacementValue(final String keyName, final String fullMatch, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, int depth) {
+    private static String getReplacementValue(final String keyName, final String fullMatch, final Map<String, TranslationBundleEntry> original, final Map<String, TranslationBundleEntry> results, final Map<String, TranslationBundleEntry> fallback, int depth) {
         if (original.containsKey(keyName)) { // If the referenced key exists, ensure it's processed
-            processEntry(keyName, original, results, depth + 1);
+            results.putIfAbsent(keyName, original.get(keyName));
+            processEntry(keyName, original, results, fallback, depth + 1);
 
             return results.get(keyName).getValue(); // Return processed value
-        } else {
-            return fullMatch; // No replacement found, return the original
         }
+
+        final TranslationBundleEntry fallbackEntry = fallback.get(keyName);
+        if (fallbackEntry != null)
+            return fallbackEntry.getValue(); // Referenced key only exists in the default locale, already resolved
+
+        return fullMatch; // No replacement found, return the original
     }
 }
@@ -0,0 +1,60 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A key reported by {@link HotKeySampler}, along with the number of times it was sampled.
+ */
+public final class HotKey {
+    private final Locale locale;
+    private final String key;
+    private final long samples;
+
+    HotKey(Locale locale, String key, long samples) {
+        this.locale = locale;
+        this.key = key;
+        this.samples = samples;
+    }
+
+    /**
+     * @return The locale of the bundle the key was found in
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return The translation key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return The number of sampled lookups of the key, roughly the number of lookups divided by the sample rate
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof HotKey))
+            return false;
+        final HotKey other = (HotKey) o;
+        return samples == other.samples && locale.equals(other.locale) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(locale, key, samples);
+    }
+
+    @Override
+    public String toString() {
+        return "HotKey{locale=" + locale + ", key=" + key + ", samples=" + samples + '}';
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import io.github.milkdrinkers.wordweaver.LocaleUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples which keys are looked up most, enabled through
+ * {@link io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#hotKeys(int)}.
+ * <p>
+ * Only one in {@link #DEFAULT_SAMPLE_RATE} lookups is counted, so unsampled lookups cost a single random number. At most
+ * {@value #MAX_KEYS} distinct keys are tracked. When a new key is sampled after that, the least sampled quarter of the
+ * keys is forgotten to make room, so keys that only become hot later are still counted.
+ * <p>
+ * Samples can be saved to and loaded from a tab separated file, so the keys that were hot before a restart can be warmed
+ * up before the first lookup. Loaded samples are halved, so keys that are no longer used fade out over a few restarts.
+ */
+public final class HotKeySampler {
+    /**
+     * The name of the file samples are saved to, inside the translation directory
+     */
+    public static final String FILE_NAME = "hot-keys.tsv";
+    public static final int DEFAULT_SAMPLE_RATE = 64;
+    static final int MAX_KEYS = 4096;
+    private static final int EVICTED_KEYS = MAX_KEYS / 4;
+    private static final Comparator<HotKey> HOTTEST_FIRST = Comparator.comparingLong(HotKey::getSamples).reversed()
+        .thenComparing(HotKey::getKey)
+        .thenComparing(hotKey -> LocaleUtil.toTag(hotKey.getLocale()));
+
+    private final int sampleRate;
+    private final Map<LocaleKey, LongAdder> samples = new ConcurrentHashMap<>();
+
+    public HotKeySampler() {
+        this(DEFAULT_SAMPLE_RATE);
+    }
+
+    /**
+     * @param sampleRate Counts one in this many lookups, 1 counts every lookup
+     */
+    public HotKeySampler(int sampleRate) {
+        if (sampleRate < 1)
+            throw new IllegalArgumentException("Sample rate must be positive");
+
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Records a lookup that found a key, counting it if it is sampled
+     *
+     * @param locale The locale of the bundle the key was found in
+     * @param key    The translation key
+     */
+    public void record(Locale locale, String key) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)
+            return;
+
+        add(new LocaleKey(locale, key), 1);
+    }
+
+    private void add(LocaleKey sample, long count) {
+        LongAdder counter = samples.get(sample);
+        if (counter == null) {
+            if (samples.size() >= MAX_KEYS)
+                evictColdest();
+            counter = samples.computeIfAbsent(sample, s -> new LongAdder());
+        }
+        counter.add(count);
+    }
+
+    private synchronized void evictColdest() {
+        if (samples.size() < MAX_KEYS)
+            return; // Another thread made room
+
+        final List<Map.Entry<LocaleKey, Long>> coldest = new ArrayList<>(samples.size());
+        samples.forEach((sample, counter) -> coldest.add(new AbstractMap.SimpleImmutableEntry<>(sample, counter.sum())));
+        coldest.sort(Map.Entry.comparingByValue());
+
+        for (int i = 0; i < EVICTED_KEYS && i < coldest.size(); i++)
+            samples.remove(coldest.get(i).getKey());
+    }
+
+    /**
+     * Get the most sampled keys
+     *
+     * @param limit The maximum number of keys to return
+     * @return The keys, most sampled first
+     */
+    public List<HotKey> top(int limit) {
+        final List<HotKey> hotKeys = new ArrayList<>(samples.size());
+        samples.forEach((sample, counter) -> hotKeys.add(new HotKey(sample.locale, sample.key, counter.sum())));
+        hotKeys.sort(HOTTEST_FIRST);
+
+        return hotKeys.size() > limit ? new ArrayList<>(hotKeys.subList(0, limit)) : hotKeys;
+    }
+
+    /**
+     * Forget every sample
+     */
+    public void clear() {
+        samples.clear();
+    }
+
+    /**
+     * Saves the most sampled keys, replacing the file atomically where the file system allows it
+     *
+     * @param file  The file to write
+     * @param limit The maximum number of keys to save
+     * @throws IOException If the file could not be written
+     */
+    public void save(Path file, int limit) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (HotKey hotKey : top(limit)) {
+            if (hotKey.getKey().indexOf('\t') >= 0 || hotKey.getKey().indexOf('\n') >= 0 || hotKey.getKey().indexOf('\r') >= 0)
+                continue; // Cannot be represented in the file
+
+            builder.append(hotKey.getSamples()).append('\t')
+                .append(LocaleUtil.toTag(hotKey.getLocale())).append('\t')
+                .append(hotKey.getKey()).append('\n');
+        }
+
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, builder.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Adds the samples saved in a file, halving them. Malformed lines are skipped.
+     *
+     * @param file The file to read
+     * @throws IOException If the file could not be read
+     */
+    public void load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] columns = line.split("\t", 3);
+                if (columns.length != 3 || columns[2].isEmpty())
+                    continue;
+
+                final long count;
+                try {
+                    count = Long.parseLong(columns[0]) / 2;
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+
+                if (count > 0)
+                    add(new LocaleKey(LocaleUtil.fromTag(columns[1]), columns[2]), count);
+            }
+        }
+    }
+}
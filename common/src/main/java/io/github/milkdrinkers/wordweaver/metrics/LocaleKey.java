@@ -0,0 +1,33 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Locale;
+
+/**
+ * A translation key in a locale, used as a map key by the samplers in this package.
+ */
+final class LocaleKey {
+    final Locale locale;
+    final String key;
+    private final int hash;
+
+    LocaleKey(Locale locale, String key) {
+        this.locale = locale;
+        this.key = key;
+        this.hash = 31 * locale.hashCode() + key.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof LocaleKey))
+            return false;
+        final LocaleKey other = (LocaleKey) o;
+        return key.equals(other.key) && locale.equals(other.locale);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
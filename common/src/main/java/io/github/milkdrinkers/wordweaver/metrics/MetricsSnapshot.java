@@ -0,0 +1,167 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of {@link TranslationMetrics}.
+ */
+public final class MetricsSnapshot {
+    private final long lookups;
+    private final long hits;
+    private final long misses;
+    private final long fallbackHits;
+    private final long bridgeLookups;
+    private final long bridgeHits;
+    private final long resolveCacheHits;
+    private final long resolveCacheMisses;
+    private final long componentConversions;
+    private final long componentConversionNanos;
+    private final long reloads;
+    private final long reloadNanos;
+    private final Map<String, Long> lookupsByLocale;
+
+    MetricsSnapshot(long lookups, long hits, long misses, long fallbackHits, long bridgeLookups, long bridgeHits, long resolveCacheHits, long resolveCacheMisses, long componentConversions, long componentConversionNanos, long reloads, long reloadNanos, Map<String, Long> lookupsByLocale) {
+        this.lookups = lookups;
+        this.hits = hits;
+        this.misses = misses;
+        this.fallbackHits = fallbackHits;
+        this.bridgeLookups = bridgeLookups;
+        this.bridgeHits = bridgeHits;
+        this.resolveCacheHits = resolveCacheHits;
+        this.resolveCacheMisses = resolveCacheMisses;
+        this.componentConversions = componentConversions;
+        this.componentConversionNanos = componentConversionNanos;
+        this.reloads = reloads;
+        this.reloadNanos = reloadNanos;
+        this.lookupsByLocale = Collections.unmodifiableMap(lookupsByLocale);
+    }
+
+    /**
+     * @return The number of translation lookups through the translation service
+     */
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return The number of lookups that found the key in the bundle of the requested locale
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of lookups handed to the missing translation handler
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The ratio of hits to lookups, between 0 and 1, or 0 without lookups
+     */
+    public double getHitRate() {
+        return ratio(hits, hits + misses);
+    }
+
+    /**
+     * @return The number of misses the default handler answered from the default locale
+     */
+    public long getFallbackHits() {
+        return fallbackHits;
+    }
+
+    /**
+     * @return The number of lookups through Adventure's global translator
+     */
+    public long getBridgeLookups() {
+        return bridgeLookups;
+    }
+
+    /**
+     * @return The number of global translator lookups that found the key
+     */
+    public long getBridgeHits() {
+        return bridgeHits;
+    }
+
+    /**
+     * @return The number of bundle resolutions served from the resolution cache
+     */
+    public long getResolveCacheHits() {
+        return resolveCacheHits;
+    }
+
+    /**
+     * @return The number of bundle resolutions that had to search the registered bundles
+     */
+    public long getResolveCacheMisses() {
+        return resolveCacheMisses;
+    }
+
+    /**
+     * @return The ratio of cached to total bundle resolutions, between 0 and 1, or 0 without resolutions
+     */
+    public double getResolveCacheHitRate() {
+        return ratio(resolveCacheHits, resolveCacheHits + resolveCacheMisses);
+    }
+
+    /**
+     * @return The number of strings converted to components
+     */
+    public long getComponentConversions() {
+        return componentConversions;
+    }
+
+    /**
+     * @return The total time spent converting strings to components, in nanoseconds
+     */
+    public long getComponentConversionNanos() {
+        return componentConversionNanos;
+    }
+
+    /**
+     * @return The number of reloads
+     */
+    public long getReloads() {
+        return reloads;
+    }
+
+    /**
+     * @return The total time spent reloading, in nanoseconds
+     */
+    public long getReloadNanos() {
+        return reloadNanos;
+    }
+
+    /**
+     * @return The number of lookups answered by each bundle, keyed by locale tag
+     */
+    public Map<String, Long> getLookupsByLocale() {
+        return lookupsByLocale;
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+            "lookups=" + lookups +
+            ", hits=" + hits +
+            ", misses=" + misses +
+            ", fallbackHits=" + fallbackHits +
+            ", bridgeLookups=" + bridgeLookups +
+            ", bridgeHits=" + bridgeHits +
+            ", resolveCacheHits=" + resolveCacheHits +
+            ", resolveCacheMisses=" + resolveCacheMisses +
+            ", componentConversions=" + componentConversions +
+            ", componentConversionNanos=" + componentConversionNanos +
+            ", reloads=" + reloads +
+            ", reloadNanos=" + reloadNanos +
+            ", lookupsByLocale=" + lookupsByLocale +
+            '}';
+    }
+}
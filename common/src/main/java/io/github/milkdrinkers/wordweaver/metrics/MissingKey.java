@@ -0,0 +1,60 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A key reported missing by {@link MissingKeyTracker}, along with the number of lookups that missed it.
+ */
+public final class MissingKey {
+    private final Locale locale;
+    private final String key;
+    private final long misses;
+
+    MissingKey(Locale locale, String key, long misses) {
+        this.locale = locale;
+        this.key = key;
+        this.misses = misses;
+    }
+
+    /**
+     * @return The locale the key was looked up in
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return The translation key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return The number of lookups that missed the key
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof MissingKey))
+            return false;
+        final MissingKey other = (MissingKey) o;
+        return misses == other.misses && locale.equals(other.locale) && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(locale, key, misses);
+    }
+
+    @Override
+    public String toString() {
+        return "MissingKey{locale=" + locale + ", key=" + key + ", misses=" + misses + '}';
+    }
+}
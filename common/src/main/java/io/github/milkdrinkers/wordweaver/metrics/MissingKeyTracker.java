@@ -0,0 +1,333 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import io.github.milkdrinkers.wordweaver.LocaleScope;
+import io.github.milkdrinkers.wordweaver.LocaleUtil;
+import io.github.milkdrinkers.wordweaver.MissingTranslationHandler;
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A {@link MissingTranslationHandler} that records every distinct missing key and locale, then hands the miss to
+ * another handler.
+ * <p>
+ * Recording a miss only increments a counter without allocating, so every miss in production can be tracked without logging each one.
+ * A background thread periodically writes the report to a file and passes it to a listener, skipping flushes when
+ * nothing was missed since the last one:
+ * <pre>{@code
+ * MissingKeyTracker tracker = MissingKeyTracker.builder()
+ *     .file(dataFolder.resolve("missing-keys.tsv"))
+ *     .build();
+ *
+ * Translation.initialize(TranslationConfig.builder()
+ *     .missingTranslationHandler(tracker)
+ *     ...
+ *     .build());
+ * }</pre>
+ * At most {@value #MAX_KEYS} distinct misses are tracked, later ones are only counted by {@link #getDroppedMisses()}.
+ * The translation service closes the tracker when it shuts down, stopping its thread and flushing the final report.
+ */
+public final class MissingKeyTracker implements MissingTranslationHandler, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MissingKeyTracker.class);
+    private static final int MAX_KEYS = 10_000;
+    private static final Comparator<MissingKey> MOST_MISSED_FIRST = Comparator.comparingLong(MissingKey::getMisses).reversed()
+        .thenComparing(MissingKey::getKey)
+        .thenComparing(missingKey -> LocaleUtil.toTag(missingKey.getLocale()));
+
+    private final MissingTranslationHandler delegate;
+    private final @Nullable Path file;
+    private final @Nullable Consumer<List<MissingKey>> listener;
+    private final @Nullable ScheduledExecutorService flusher;
+    private final Map<Locale, Map<String, LongAdder>> misses = new ConcurrentHashMap<>();
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean dirty;
+
+    private MissingKeyTracker(Builder builder) {
+        this.delegate = builder.delegate;
+        this.file = builder.file;
+        this.listener = builder.listener;
+
+        if (file == null && listener == null) {
+            this.flusher = null;
+            return;
+        }
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "WordWeaver Missing Key Flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = builder.flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Records a missing key
+     *
+     * @param locale The locale the key was looked up in
+     * @param key    The translation key
+     */
+    public void record(Locale locale, String key) {
+        // Counters are looked up by locale, then key, so a recurring miss allocates no composite map key
+        final Map<String, LongAdder> keys = misses.get(locale);
+        LongAdder counter = keys != null ? keys.get(key) : null;
+        if (counter == null) {
+            if (tracked.get() >= MAX_KEYS) {
+                dropped.increment();
+                return;
+            }
+            counter = misses.computeIfAbsent(locale, l -> new ConcurrentHashMap<>()).computeIfAbsent(key, k -> {
+                tracked.incrementAndGet();
+                return new LongAdder();
+            });
+        }
+        counter.increment();
+
+        if (!dirty)
+            dirty = true;
+    }
+
+    /**
+     * Get every distinct missing key recorded so far
+     *
+     * @return The missing keys, most missed first
+     */
+    public List<MissingKey> getMissingKeys() {
+        final List<MissingKey> report = new ArrayList<>(tracked.get());
+        misses.forEach((locale, keys) -> keys.forEach((key, counter) -> report.add(new MissingKey(locale, key, counter.sum()))));
+        report.sort(MOST_MISSED_FIRST);
+        return report;
+    }
+
+    /**
+     * Get the number of misses that were not recorded because too many distinct keys were missing
+     *
+     * @return The number of misses
+     */
+    public long getDroppedMisses() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the report to the file and passes it to the listener, if anything was missed since the last flush. Called
+     * periodically by the background thread.
+     */
+    public synchronized void flush() {
+        if (!dirty)
+            return;
+
+        dirty = false;
+        final List<MissingKey> report = getMissingKeys();
+
+        if (file != null) {
+            try {
+                write(file, report);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Failed to write missing translation keys to {}", file, e);
+            }
+        }
+
+        if (listener != null) {
+            try {
+                listener.accept(Collections.unmodifiableList(report));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Missing translation key listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the report as tab separated lines of misses, locale and key, replacing the file atomically where the file
+     * system allows it.
+     */
+    private static void write(Path file, List<MissingKey> report) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        for (MissingKey missing : report) {
+            builder.append(missing.getMisses()).append('\t')
+                .append(LocaleUtil.toTag(missing.getLocale())).append('\t')
+                .append(missing.getKey().replace('\t', ' ').replace('\r', ' ').replace('\n', ' ')).append('\n');
+        }
+
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, builder.toString().getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Stops the background thread and flushes the final report.
+     */
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        flush();
+    }
+
+    @Override
+    public @Nullable String handle(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable String fallback) {
+        record(locale, key);
+        return delegate.handle(config, registry, locale, key, fallback);
+    }
+
+    @Override
+    public @Nullable Component handle(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable Component fallback) {
+        record(locale, key);
+        return delegate.handle(config, registry, locale, key, fallback);
+    }
+
+    @Override
+    public @Nullable List<String> handleListString(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable List<String> fallback) {
+        record(locale, key);
+        return delegate.handleListString(config, registry, locale, key, fallback);
+    }
+
+    @Override
+    public @Nullable List<Component> handleListComponent(TranslationConfig config, TranslationBundleRegistry registry, Locale locale, String key, @Nullable List<Component> fallback) {
+        record(locale, key);
+        return delegate.handleListComponent(config, registry, locale, key, fallback);
+    }
+
+    @Override
+    public @Nullable String handle(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable String fallback) {
+        return handle(config, registry, localeOf(config), key, fallback);
+    }
+
+    @Override
+    public @Nullable Component handle(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable Component fallback) {
+        return handle(config, registry, localeOf(config), key, fallback);
+    }
+
+    @Override
+    public @Nullable List<String> handleListString(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable List<String> fallback) {
+        return handleListString(config, registry, localeOf(config), key, fallback);
+    }
+
+    @Override
+    public @Nullable List<Component> handleListComponent(TranslationConfig config, TranslationBundleRegistry registry, String key, @Nullable List<Component> fallback) {
+        return handleListComponent(config, registry, localeOf(config), key, fallback);
+    }
+
+    /**
+     * The locale of a miss reported without one, the locale the translation service would have used.
+     */
+    private static Locale localeOf(TranslationConfig config) {
+        final Locale scoped = LocaleScope.current();
+        return scoped != null ? scoped : config.getCurrentLocale();
+    }
+
+    /**
+     * Creates a new builder for the MissingKeyTracker
+     *
+     * @return A new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private MissingTranslationHandler delegate = MissingTranslationHandler.DEFAULT;
+        private @Nullable Path file;
+        private @Nullable Consumer<List<MissingKey>> listener;
+        private Duration flushInterval = Duration.ofMinutes(1);
+
+        private Builder() {
+        }
+
+        /**
+         * Set the handler that misses are handed to after they are recorded.
+         *
+         * @param delegate The handler deciding what a missing key returns
+         * @return The builder instance
+         * @implNote Defaults to {@link MissingTranslationHandler#DEFAULT}
+         */
+        public Builder delegate(MissingTranslationHandler delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Set the file the report is written to on every flush, as tab separated lines of misses, locale and key.
+         *
+         * @param file The report file
+         * @return The builder instance
+         */
+        public Builder file(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        /**
+         * Set the listener receiving the report on every flush, on the background thread.
+         *
+         * @param listener The listener, receiving every distinct missing key recorded so far
+         * @return The builder instance
+         */
+        public Builder listener(Consumer<List<MissingKey>> listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Set how often the report is flushed.
+         *
+         * @param interval The time between flushes
+         * @return The builder instance
+         * @implNote Defaults to one minute. No thread is started unless a file or listener is set.
+         */
+        public Builder flushInterval(Duration interval) {
+            if (interval.isNegative() || interval.isZero())
+                throw new IllegalArgumentException("Flush interval must be positive");
+
+            this.flushInterval = interval;
+            return this;
+        }
+
+        /**
+         * Builds the MissingKeyTracker, starting its background thread
+         *
+         * @return The tracker
+         */
+        public MissingKeyTracker build() {
+            return new MissingKeyTracker(this);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Locale;
+
+/**
+ * A Java Flight Recorder event timing a step of loading or looking up translations, created by
+ * {@link TranslationEvents}.
+ * <p>
+ * Events only record fields that apply to them, the others are ignored. Fields should only be computed once the event
+ * is known to be committed:
+ * <pre>{@code
+ * TranslationEvent event = TranslationEvents.parse();
+ * Map<String, TranslationBundleEntry> entries = parser.parse(file);
+ * event.end();
+ * if (event.shouldCommit())
+ *     event.locale(locale).file(file.toString()).entries(entries.size()).commit();
+ * }</pre>
+ */
+public interface TranslationEvent {
+    /**
+     * An event that is never recorded, used when flight recording is unavailable or disabled
+     */
+    TranslationEvent NONE = new TranslationEvent() {
+    };
+
+    /**
+     * @param locale The locale of the bundle
+     * @return This event
+     */
+    default TranslationEvent locale(Locale locale) {
+        return this;
+    }
+
+    /**
+     * @param file The bundle file or resource
+     * @return This event
+     */
+    default TranslationEvent file(String file) {
+        return this;
+    }
+
+    /**
+     * @param key The translation key
+     * @return This event
+     */
+    default TranslationEvent key(String key) {
+        return this;
+    }
+
+    /**
+     * @param entries The number of entries, or -1 if the entries are parsed lazily
+     * @return This event
+     */
+    default TranslationEvent entries(int entries) {
+        return this;
+    }
+
+    /**
+     * @param bundles The number of bundles
+     * @return This event
+     */
+    default TranslationEvent bundles(int bundles) {
+        return this;
+    }
+
+    /**
+     * @param bytes The size of the bundle file in bytes, or -1 if unknown
+     * @return This event
+     */
+    default TranslationEvent bytes(long bytes) {
+        return this;
+    }
+
+    /**
+     * @param length The length of the converted string
+     * @return This event
+     */
+    default TranslationEvent length(int length) {
+        return this;
+    }
+
+    /**
+     * Ends the timing of the event
+     */
+    default void end() {
+    }
+
+    /**
+     * Check if the event should be committed, as it is enabled and lasted longer than its threshold
+     *
+     * @return True if the event should be committed
+     */
+    default boolean shouldCommit() {
+        return false;
+    }
+
+    /**
+     * Records the event, if it should be committed
+     */
+    default void commit() {
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the Java Flight Recorder events of WordWeaver.
+ * <p>
+ * Flight recording requires Java 11, this version of the class is used on Java 8 and only returns
+ * {@link TranslationEvent#NONE}. On Java 11 and later a version recording {@code io.github.milkdrinkers.wordweaver.*}
+ * events is loaded from the multi-release jar instead. Each event is started when it is created.
+ */
+public final class TranslationEvents {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TranslationEvents.class);
+
+    static {
+        // Loaded on Java 11 and later only when the jar is not read as multi-release, as in a fat jar without the attribute
+        if (isJava11OrLater())
+            LOGGER.debug("Flight recorder events are disabled, as WordWeaver was loaded from a jar without 'Multi-Release: true' in its manifest");
+    }
+
+    private TranslationEvents() {
+    }
+
+    private static boolean isJava11OrLater() {
+        final String version = System.getProperty("java.specification.version", "");
+        try {
+            return !version.startsWith("1.") && Integer.parseInt(version) >= 11;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check if events can be recorded on this runtime
+     *
+     * @return True if the running Java version supports flight recording
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Starts an event timing the parsing of a bundle file
+     *
+     * @return The event
+     */
+    public static TranslationEvent parse() {
+        return TranslationEvent.NONE;
+    }
+
+    /**
+     * Starts an event timing the resolution of key references in a bundle
+     *
+     * @return The event
+     */
+    public static TranslationEvent resolveReferences() {
+        return TranslationEvent.NONE;
+    }
+
+    /**
+     * Starts an event timing the publication of a bundle to the registry
+     *
+     * @return The event
+     */
+    public static TranslationEvent publish() {
+        return TranslationEvent.NONE;
+    }
+
+    /**
+     * Starts an event timing a reload of every bundle
+     *
+     * @return The event
+     */
+    public static TranslationEvent reload() {
+        return TranslationEvent.NONE;
+    }
+
+    /**
+     * Starts an event timing the conversion of a translation to a component, only recorded above a threshold
+     *
+     * @return The event
+     */
+    public static TranslationEvent convert() {
+        return TranslationEvent.NONE;
+    }
+}
@@ -0,0 +1,253 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
+
+/**
+ * Counters describing how translations are looked up, enabled through
+ * {@link io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#metrics(boolean)}.
+ * <p>
+ * Every counter is a {@link LongAdder}, so recording from many threads is lock-free and does not contend. Reading a
+ * counter sums its stripes, use {@link #snapshot()} to read all of them at once.
+ */
+public final class TranslationMetrics implements TranslationMetricsMXBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TranslationMetrics.class);
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fallbackHits = new LongAdder();
+    private final LongAdder bridgeLookups = new LongAdder();
+    private final LongAdder bridgeHits = new LongAdder();
+    private final LongAdder resolveCacheHits = new LongAdder();
+    private final LongAdder resolveCacheMisses = new LongAdder();
+    private final LongAdder componentConversions = new LongAdder();
+    private final LongAdder componentConversionNanos = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder reloadNanos = new LongAdder();
+    private final Map<Locale, LongAdder> lookupsByLocale = new ConcurrentHashMap<>(); // Keyed by registered bundle locales only, so it stays bounded
+
+    private @Nullable ObjectName objectName;
+
+    /**
+     * Records a lookup through the translation service
+     *
+     * @param bundle The locale of the bundle that answered the lookup, or null if no bundle matched the requested
+     *               locale
+     * @param hit    Whether the key was found in that bundle
+     */
+    public void recordLookup(@Nullable Locale bundle, boolean hit) {
+        lookups.increment();
+        (hit ? hits : misses).increment();
+
+        if (bundle != null) {
+            LongAdder counter = lookupsByLocale.get(bundle);
+            if (counter == null)
+                counter = lookupsByLocale.computeIfAbsent(bundle, locale -> new LongAdder());
+            counter.increment();
+        }
+    }
+
+    /**
+     * Records a miss that the missing translation handler answered from the default locale
+     */
+    public void recordFallbackHit() {
+        fallbackHits.increment();
+    }
+
+    /**
+     * Records a lookup through Adventure's global translator
+     *
+     * @param hit Whether the key was found
+     */
+    public void recordBridgeLookup(boolean hit) {
+        bridgeLookups.increment();
+        if (hit)
+            bridgeHits.increment();
+    }
+
+    /**
+     * Records resolving the bundle of a requested locale
+     *
+     * @param cached Whether the bundle was served from the resolution cache
+     */
+    public void recordResolve(boolean cached) {
+        (cached ? resolveCacheHits : resolveCacheMisses).increment();
+    }
+
+    /**
+     * Records converting a string to a component
+     *
+     * @param nanos The time the conversion took, in nanoseconds
+     */
+    public void recordComponentConversion(long nanos) {
+        componentConversions.increment();
+        componentConversionNanos.add(nanos);
+    }
+
+    /**
+     * Records a reload of every bundle
+     *
+     * @param nanos The time the reload took, in nanoseconds
+     */
+    public void recordReload(long nanos) {
+        reloads.increment();
+        reloadNanos.add(nanos);
+    }
+
+    /**
+     * Reads every counter. Counters updated while the snapshot is taken may or may not be included.
+     *
+     * @return A snapshot of the counters
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(
+            lookups.sum(),
+            hits.sum(),
+            misses.sum(),
+            fallbackHits.sum(),
+            bridgeLookups.sum(),
+            bridgeHits.sum(),
+            resolveCacheHits.sum(),
+            resolveCacheMisses.sum(),
+            componentConversions.sum(),
+            componentConversionNanos.sum(),
+            reloads.sum(),
+            reloadNanos.sum(),
+            getLookupsByLocale()
+        );
+    }
+
+    @Override
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        return snapshot().getHitRate();
+    }
+
+    @Override
+    public long getFallbackHits() {
+        return fallbackHits.sum();
+    }
+
+    @Override
+    public long getBridgeLookups() {
+        return bridgeLookups.sum();
+    }
+
+    @Override
+    public long getBridgeHits() {
+        return bridgeHits.sum();
+    }
+
+    @Override
+    public double getResolveCacheHitRate() {
+        return snapshot().getResolveCacheHitRate();
+    }
+
+    @Override
+    public long getComponentConversions() {
+        return componentConversions.sum();
+    }
+
+    @Override
+    public long getComponentConversionNanos() {
+        return componentConversionNanos.sum();
+    }
+
+    @Override
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    @Override
+    public long getReloadNanos() {
+        return reloadNanos.sum();
+    }
+
+    @Override
+    public Map<String, Long> getLookupsByLocale() {
+        final Map<String, Long> counts = new HashMap<>();
+        lookupsByLocale.forEach((locale, counter) -> counts.put(toTag(locale), counter.sum()));
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        lookups.reset();
+        hits.reset();
+        misses.reset();
+        fallbackHits.reset();
+        bridgeLookups.reset();
+        bridgeHits.reset();
+        resolveCacheHits.reset();
+        resolveCacheMisses.reset();
+        componentConversions.reset();
+        componentConversionNanos.reset();
+        reloads.reset();
+        reloadNanos.reset();
+        lookupsByLocale.clear();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server, replacing metrics registered earlier for the same
+     * namespace. Failures are logged, as JMX is not available on every platform.
+     *
+     * @param namespace The namespace of the implementing plugin/mod, naming the MBean
+     */
+    public synchronized void registerMBean(String namespace) {
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName("io.github.milkdrinkers.wordweaver:type=TranslationMetrics,name=" + ObjectName.quote(namespace));
+
+            if (server.isRegistered(name))
+                server.unregisterMBean(name); // Left by an earlier initialization
+
+            server.registerMBean(this, name);
+            objectName = name;
+        } catch (JMException | RuntimeException | LinkageError e) {
+            LOGGER.warn("Failed to register translation metrics with JMX", e);
+        }
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBean server, if registered.
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null)
+            return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException | RuntimeException e) {
+            LOGGER.warn("Failed to unregister translation metrics from JMX", e);
+        }
+        objectName = null;
+    }
+}
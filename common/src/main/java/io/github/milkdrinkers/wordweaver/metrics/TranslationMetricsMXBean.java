@@ -0,0 +1,81 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX management interface of {@link TranslationMetrics}.
+ * <p>
+ * Registered under {@code io.github.milkdrinkers.wordweaver:type=TranslationMetrics,name="<namespace>"} when enabled
+ * through {@link io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#jmx(boolean)}.
+ */
+public interface TranslationMetricsMXBean {
+    /**
+     * @return The number of translation lookups through the translation service
+     */
+    long getLookups();
+
+    /**
+     * @return The number of lookups that found the key in the bundle of the requested locale
+     */
+    long getHits();
+
+    /**
+     * @return The number of lookups handed to the missing translation handler
+     */
+    long getMisses();
+
+    /**
+     * @return The ratio of hits to lookups, between 0 and 1
+     */
+    double getHitRate();
+
+    /**
+     * @return The number of misses the default handler answered from the default locale
+     */
+    long getFallbackHits();
+
+    /**
+     * @return The number of lookups through Adventure's global translator
+     */
+    long getBridgeLookups();
+
+    /**
+     * @return The number of global translator lookups that found the key
+     */
+    long getBridgeHits();
+
+    /**
+     * @return The ratio of cached to total bundle resolutions for requested locales, between 0 and 1
+     */
+    double getResolveCacheHitRate();
+
+    /**
+     * @return The number of strings converted to components
+     */
+    long getComponentConversions();
+
+    /**
+     * @return The total time spent converting strings to components, in nanoseconds
+     */
+    long getComponentConversionNanos();
+
+    /**
+     * @return The number of reloads
+     */
+    long getReloads();
+
+    /**
+     * @return The total time spent reloading, in nanoseconds
+     */
+    long getReloadNanos();
+
+    /**
+     * @return The number of lookups answered by each bundle, keyed by locale tag
+     */
+    Map<String, Long> getLookupsByLocale();
+
+    /**
+     * Resets every counter to zero
+     */
+    void reset();
+}
@@ -0,0 +1,222 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Dependency free parser for JSON and JSONC (JSON with comments) files.
+ * <p>
+ * Documents are flattened in a single streaming pass with no intermediate tree, producing the same entries as the GSON
+ * based parser of {@code wordweaver-json}. It is registered by the loader for {@code json} and {@code jsonc} files when
+ * no other parser claims them, so adding {@code wordweaver-json} or configuring a parser replaces it.
+ */
+public class BuiltInJsonTranslationParser implements TranslationParser {
+    private static final Set<String> EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("json", "jsonc")));
+    private static final Pattern JSON_LITERAL = Pattern.compile("true|false|null|-?(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][+-]?\\d+)?");
+    private static final String INDENT = "  ";
+
+    @Override
+    public Set<String> extensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
+        if (!Files.exists(file))
+            throw new TranslationLoadException("The bundle file does not exist!");
+
+        if (!Files.isReadable(file))
+            throw new TranslationLoadException("The bundle file can not be read! Ensure the application has sufficient permissions to read the file.");
+
+        if (!Files.isRegularFile(file))
+            throw new TranslationLoadException("The bundle file is not a file!");
+
+        try (final Reader reader = BundleReaders.newReader(file)) {
+            return new JsonStreamReader(reader).flatten();
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read json from file!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        try {
+            return new JsonStreamReader(new InputStreamReader(stream, StandardCharsets.UTF_8)).flatten();
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read json from stream!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsMerge() {
+        return true;
+    }
+
+    @Override
+    public void merge(InputStream origin, Path target) throws IOException {
+        final Map<String, Object> originJson;
+        try (final Reader reader = new InputStreamReader(origin, StandardCharsets.UTF_8)) {
+            originJson = new JsonStreamReader(reader).readTree();
+        }
+
+        final Map<String, Object> targetJson;
+        try (final Reader reader = Files.newBufferedReader(target, StandardCharsets.UTF_8)) {
+            targetJson = new JsonStreamReader(reader).readTree();
+        }
+
+        // Merge preserving order
+        final Map<String, Object> mergedJson = mergeJsonObjects(originJson, targetJson);
+
+        final StringBuilder builder = new StringBuilder();
+        write(mergedJson, builder, "");
+        Files.write(target, builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Recursively merges Json objects, adding missing keys from origin to target while preserving targets existing values and maintaining origins order.
+     *
+     * @param origin The original Json object
+     * @param target The user modified Json object
+     * @return The merged Json object
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mergeJsonObjects(Map<String, Object> origin, Map<String, Object> target) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+
+        // Add all keys from origin in original order
+        for (Map.Entry<String, Object> entry : origin.entrySet()) {
+            final String key = entry.getKey();
+
+            if (target.containsKey(key)) { // Key exists in both, check if deep merge required
+                final Object originValue = entry.getValue();
+                final Object targetValue = target.get(key);
+
+                if (originValue instanceof Map && targetValue instanceof Map) {
+                    result.put(key, mergeJsonObjects((Map<String, Object>) originValue, (Map<String, Object>) targetValue)); // Recursively merge nested objects
+                } else {
+                    result.put(key, targetValue); // Keep target's value
+                }
+            } else {
+                result.put(key, entry.getValue()); // Key exists only in origin, add to target
+            }
+        }
+
+        // Add remaining keys from target that are not present in origin
+        for (Map.Entry<String, Object> entry : target.entrySet()) {
+            result.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    /**
+     * Pretty prints a tree value the way GSON does, with two space indentation and without escaping HTML characters.
+     */
+    @SuppressWarnings("unchecked")
+    private static void write(final Object value, final StringBuilder builder, final String indent) {
+        if (value instanceof Map) {
+            final Map<String, Object> object = (Map<String, Object>) value;
+            if (object.isEmpty()) {
+                builder.append("{}");
+                return;
+            }
+
+            builder.append('{');
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : object.entrySet()) {
+                builder.append(first ? "\n" : ",\n").append(indent).append(INDENT);
+                writeString(entry.getKey(), builder);
+                builder.append(": ");
+                write(entry.getValue(), builder, indent + INDENT);
+                first = false;
+            }
+            builder.append('\n').append(indent).append('}');
+        } else if (value instanceof List) {
+            final List<Object> array = (List<Object>) value;
+            if (array.isEmpty()) {
+                builder.append("[]");
+                return;
+            }
+
+            builder.append('[');
+            boolean first = true;
+            for (Object element : array) {
+                builder.append(first ? "\n" : ",\n").append(indent).append(INDENT);
+                write(element, builder, indent + INDENT);
+                first = false;
+            }
+            builder.append('\n').append(indent).append(']');
+        } else if (value instanceof JsonStreamReader.Literal) {
+            final String text = ((JsonStreamReader.Literal) value).text();
+            if (JSON_LITERAL.matcher(text).matches()) {
+                builder.append(text);
+            } else {
+                writeString(text, builder); // Unquoted strings are quoted
+            }
+        } else {
+            writeString((String) value, builder);
+        }
+    }
+
+    private static void writeString(final String value, final StringBuilder builder) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\u2028':
+                case '\u2029':
+                    builder.append(String.format("\\u%04x", (int) c));
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+}
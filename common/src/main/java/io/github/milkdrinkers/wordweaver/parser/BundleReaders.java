@@ -0,0 +1,153 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Opens UTF-8 readers for bundle files, for use by {@link TranslationParser} implementations.
+ * <p>
+ * Large files are memory-mapped and decoded straight from the mapped buffer into the parser, skipping the intermediate
+ * copies of a {@link java.io.BufferedReader}. Small files are read through a buffered reader, as mapping them costs
+ * more than it saves. Either way, malformed UTF-8 fails the read with a
+ * {@link java.nio.charset.MalformedInputException}.
+ */
+public final class BundleReaders {
+    /**
+     * Files of at least this many bytes are memory-mapped.
+     */
+    public static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    private BundleReaders() {
+    }
+
+    /**
+     * Opens a UTF-8 reader for a bundle file, memory-mapping it if it is at least {@link #MAPPING_THRESHOLD} bytes.
+     *
+     * @param file The file to read
+     * @return A reader over the file contents
+     * @throws IOException If the file cannot be opened
+     */
+    public static Reader newReader(Path file) throws IOException {
+        if (Files.size(file) >= MAPPING_THRESHOLD)
+            return newMappedReader(file);
+
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Opens a UTF-8 reader that decodes straight from a memory-mapped view of the file, regardless of its size.
+     *
+     * @param file The file to read
+     * @return A reader over the file contents
+     * @throws IOException If the file cannot be opened or mapped
+     * @implNote The mapping is released once the reader is garbage collected. On Windows the file cannot be deleted or truncated until then.
+     */
+    public static Reader newMappedReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * A reader decoding UTF-8 from a mapped buffer into the caller's char array.
+     * <p>
+     * The mapped bytes are bulk copied into a small heap window before decoding, as the JDK only applies its fast
+     * array based UTF-8 decoding loop to heap buffers.
+     */
+    private static final class MappedReader extends Reader {
+        private static final int WINDOW_SIZE = 64 * 1024;
+
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder() // Reports malformed input like Files#newBufferedReader
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+        private final ByteBuffer window;
+        private ByteBuffer buffer;
+        private boolean flushed;
+        private int pending = -1; // The low surrogate of a pair split across reads
+
+        private MappedReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.window = ByteBuffer.allocate(Math.min(WINDOW_SIZE, Math.max(buffer.remaining(), 16)));
+            this.window.flip();
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (buffer == null)
+                throw new IOException("Reader closed");
+
+            if (len == 0)
+                return 0;
+
+            if (pending >= 0) {
+                cbuf[off] = (char) pending;
+                pending = -1;
+                return 1;
+            }
+
+            if (flushed)
+                return -1;
+
+            final int read = decode(CharBuffer.wrap(cbuf, off, len)) - off;
+            if (read > 0)
+                return read;
+
+            if (flushed)
+                return -1;
+
+            // The caller's array is too small for the next surrogate pair, decode it aside and hand it out in halves
+            final CharBuffer pair = CharBuffer.allocate(2);
+            decode(pair);
+            cbuf[off] = pair.get(0);
+            if (pair.position() > 1)
+                pending = pair.get(1);
+            return 1;
+        }
+
+        private int decode(CharBuffer out) throws IOException {
+            CoderResult result;
+            do {
+                refill();
+                result = decoder.decode(window, out, !buffer.hasRemaining());
+            } while (result.isUnderflow() && buffer.hasRemaining() && out.hasRemaining());
+
+            if (result.isUnderflow() && !buffer.hasRemaining() && !window.hasRemaining()) {
+                result = decoder.flush(out);
+                flushed = result.isUnderflow();
+            }
+
+            if (result.isError())
+                result.throwException();
+
+            return out.position();
+        }
+
+        /**
+         * Moves any undecoded bytes to the front of the window and tops it up from the mapped buffer.
+         */
+        private void refill() {
+            window.compact();
+
+            final int length = Math.min(window.remaining(), buffer.remaining());
+            buffer.get(window.array(), window.arrayOffset() + window.position(), length);
+            window.position(window.position() + length);
+
+            window.flip();
+        }
+
+        @Override
+        public void close() {
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A small streaming reader for JSON and JSONC, flattening a document straight into bundle entries without building a
+ * tree.
+ * <p>
+ * Accepts the same lenient syntax as the GSON based parser of {@code wordweaver-json}: {@code //}, {@code /* *}{@code /}
+ * and {@code #} comments, single quoted strings, unquoted names and values, {@code =} and {@code =>} after names,
+ * {@code ;} between members and elements, and trailing commas.
+ */
+final class JsonStreamReader {
+    private static final int EOF = -1;
+
+    // Kinds of values returned by readValue
+    private static final int SCALAR = 0;
+    private static final int NULL = 1;
+    private static final int CONTAINER = 2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder builder = new StringBuilder();
+    private int position;
+    private int limit;
+    private String scalar; // The value of the last scalar read by readValue
+
+    /**
+     * @param reader The reader to read from, left open
+     */
+    JsonStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Flattens the document into a map of entries, the same way {@code JsonTranslationParser} flattens a
+     * {@code JsonObject}.
+     *
+     * @return A map of entries, empty for an empty document
+     * @throws IOException              If the source cannot be read
+     * @throws TranslationLoadException If the document is malformed
+     */
+    Map<String, TranslationBundleEntry> flatten() throws IOException {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+
+        final int c = skipWhitespace();
+        if (c == EOF)
+            return entries;
+
+        if (c != '{')
+            throw malformed("the root is not an object", "");
+
+        readObject("", entries); // Begin recursively flattening
+        expectEnd();
+
+        return entries;
+    }
+
+    /**
+     * Reads the document into an ordered tree of {@link LinkedHashMap}s, {@link List}s, {@link String}s and
+     * {@link Literal}s, for merging.
+     *
+     * @return The root object, empty for an empty document
+     * @throws IOException              If the source cannot be read
+     * @throws TranslationLoadException If the document is malformed
+     */
+    Map<String, Object> readTree() throws IOException {
+        final int c = skipWhitespace();
+        if (c == EOF)
+            return new LinkedHashMap<>();
+
+        if (c != '{')
+            throw malformed("the root is not an object", "");
+
+        final Map<String, Object> root = readTreeObject("");
+        expectEnd();
+
+        return root;
+    }
+
+    /**
+     * Recursively reads an object and stores its values, consuming characters up to and including its closing brace
+     *
+     * @param currentPath The current path in the map
+     * @param entries     The map that stores the entries
+     */
+    private void readObject(final String currentPath, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        int c = skipWhitespace();
+        while (c != '}') {
+            final String key = readName(c, currentPath);
+            final String internalPath = currentPath.isEmpty() ? key : currentPath + '.' + key;
+
+            final int kind = readValue(internalPath, skipWhitespace(), entries);
+            if (kind == SCALAR) {
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, scalar));
+            } else if (kind == NULL) {
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "")); // Add empty entry for null
+            }
+
+            c = readSeparator('}', internalPath);
+        }
+    }
+
+    /**
+     * Recursively reads an array and stores its values, consuming characters up to and including its closing bracket
+     *
+     * @param currentPath The current path in the map
+     * @param entries     The map that stores the entries
+     * @implNote This method stores individual elements with array indices and the complete array as an entry with all values
+     */
+    private void readArray(final String currentPath, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        final List<String> arrayValues = new ArrayList<>();
+
+        int c = skipWhitespace();
+        for (int i = 1; c != ']'; i++) {
+            final String internalPath = currentPath + '.' + i;
+
+            final int kind = readValue(internalPath, c, entries);
+            if (kind == SCALAR) {
+                // Add element to resulting list
+                arrayValues.add(scalar);
+
+                // Add unique entry for element
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, scalar));
+            } else if (kind == NULL) {
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, ""));
+            }
+
+            c = readSeparator(']', internalPath);
+        }
+
+        // Store the complete array as an entry with all values
+        if (!arrayValues.isEmpty())
+            entries.put(currentPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, arrayValues));
+    }
+
+    /**
+     * Reads a value of any kind, recursively flattening objects and arrays.
+     *
+     * @param currentPath The path of the value
+     * @param c           The first character of the value
+     * @param entries     The map that stores the entries
+     * @return The kind of the value, the value of a {@link #SCALAR} is stored in {@link #scalar}
+     */
+    private int readValue(final String currentPath, final int c, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        switch (c) {
+            case '{':
+                readObject(currentPath, entries);
+                return CONTAINER;
+            case '[':
+                readArray(currentPath, entries);
+                return CONTAINER;
+            case '"':
+            case '\'':
+                scalar = readString(c, currentPath);
+                return SCALAR;
+            default:
+                scalar = readLiteral(c, currentPath);
+                return scalar.equals("null") ? NULL : SCALAR;
+        }
+    }
+
+    private Map<String, Object> readTreeObject(final String currentPath) throws IOException {
+        final Map<String, Object> object = new LinkedHashMap<>();
+
+        int c = skipWhitespace();
+        while (c != '}') {
+            final String key = readName(c, currentPath);
+            final String internalPath = currentPath.isEmpty() ? key : currentPath + '.' + key;
+
+            object.put(key, readTreeValue(internalPath, skipWhitespace()));
+
+            c = readSeparator('}', internalPath);
+        }
+
+        return object;
+    }
+
+    private Object readTreeValue(final String currentPath, final int c) throws IOException {
+        switch (c) {
+            case '{':
+                return readTreeObject(currentPath);
+            case '[':
+                final List<Object> array = new ArrayList<>();
+
+                int next = skipWhitespace();
+                for (int i = 1; next != ']'; i++) {
+                    array.add(readTreeValue(currentPath + '.' + i, next));
+                    next = readSeparator(']', currentPath + '.' + i);
+                }
+
+                return array;
+            case '"':
+            case '\'':
+                return readString(c, currentPath);
+            default:
+                return new Literal(readLiteral(c, currentPath));
+        }
+    }
+
+    /**
+     * Reads an object member name and the separator following it, either {@code :}, {@code =} or {@code =>}.
+     */
+    private String readName(final int c, final String currentPath) throws IOException {
+        final String name = c == '"' || c == '\'' ? readString(c, currentPath) : readLiteral(c, currentPath);
+
+        final int separator = skipWhitespace();
+        if (separator == '=') {
+            final int arrow = next();
+            if (arrow != '>')
+                unread(arrow);
+        } else if (separator != ':') {
+            throw malformed("expected ':' after the name '" + name + "'", currentPath);
+        }
+
+        return name;
+    }
+
+    /**
+     * Reads the separator following a member or element, either {@code ,} or {@code ;}, allowing a trailing one.
+     *
+     * @param close The closing character of the object or array
+     * @return The first character of the next member or element, or the closing character
+     */
+    private int readSeparator(final int close, final String currentPath) throws IOException {
+        final int c = skipWhitespace();
+        if (c == close)
+            return c;
+
+        if (c != ',' && c != ';')
+            throw malformed("expected ',' or '" + (char) close + "'", currentPath);
+
+        return skipWhitespace();
+    }
+
+    private String readString(final int quote, final String currentPath) throws IOException {
+        builder.setLength(0);
+
+        for (int c = next(); c != quote; c = next()) {
+            if (c == EOF)
+                throw malformed("unterminated string", currentPath);
+
+            if (c != '\\') {
+                builder.append((char) c);
+                continue;
+            }
+
+            final int escaped = next();
+            switch (escaped) {
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        final int digit = Character.digit(next(), 16);
+                        if (digit == -1)
+                            throw malformed("malformed unicode escape", currentPath);
+                        value = (value << 4) | digit;
+                    }
+                    builder.append((char) value);
+                    break;
+                case '"':
+                case '\'':
+                case '\\':
+                case '/':
+                case '\n':
+                    builder.append((char) escaped);
+                    break;
+                default:
+                    throw malformed("invalid escape sequence", currentPath);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Reads an unquoted name or value, such as a number, {@code true}, {@code false} or {@code null}.
+     */
+    private String readLiteral(final int first, final String currentPath) throws IOException {
+        builder.setLength(0);
+
+        int c = first;
+        while (c != EOF && !isDelimiter(c)) {
+            builder.append((char) c);
+            c = next();
+        }
+        unread(c);
+
+        if (builder.length() == 0)
+            throw malformed(c == EOF ? "unexpected end of document" : "unexpected character '" + (char) c + "'", currentPath);
+
+        return builder.toString();
+    }
+
+    private void expectEnd() throws IOException {
+        if (skipWhitespace() != EOF)
+            throw malformed("unexpected content after the root object", "");
+    }
+
+    /**
+     * Skips whitespace and comments.
+     *
+     * @return The first character that is not skipped, which has been consumed
+     */
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            final int c = next();
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                case '\uFEFF': // Byte order mark
+                    continue;
+                case '#':
+                    skipLine();
+                    continue;
+                case '/':
+                    final int type = next();
+                    if (type == '/') {
+                        skipLine();
+                    } else if (type == '*') {
+                        skipBlockComment();
+                    } else {
+                        throw malformed("unexpected character '/'", "");
+                    }
+                    continue;
+                default:
+                    return c;
+            }
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (c != EOF && c != '\n' && c != '\r');
+    }
+
+    private void skipBlockComment() throws IOException {
+        for (int c = next(), previous = EOF; !(previous == '*' && c == '/'); previous = c, c = next()) {
+            if (c == EOF)
+                throw malformed("unterminated comment", "");
+        }
+    }
+
+    /**
+     * Reads the next character.
+     */
+    private int next() throws IOException {
+        if (position == limit) {
+            final int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0)
+                return EOF;
+
+            position = 0;
+            limit = read;
+        }
+
+        return buffer[position++];
+    }
+
+    /**
+     * Unreads the character just returned by {@link #next()}, which is always still in the buffer.
+     */
+    private void unread(int c) {
+        if (c != EOF)
+            position--;
+    }
+
+    private static boolean isDelimiter(int c) {
+        switch (c) {
+            case ' ':
+            case '\t':
+            case '\n':
+            case '\r':
+            case ',':
+            case ':':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case '"':
+            case '\'':
+            case '/':
+            case '#':
+            case ';':
+            case '=':
+            case '\\':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static TranslationLoadException malformed(final String reason, final String currentPath) {
+        return new TranslationLoadException("Failed to read json as it is malformed, " + reason + (currentPath.isEmpty() ? "" : " at '" + currentPath + "'") + "!");
+    }
+
+    /**
+     * An unquoted value of a tree, such as a number, {@code true}, {@code false} or {@code null}.
+     */
+    static final class Literal {
+        private final String text;
+
+        Literal(String text) {
+            this.text = text;
+        }
+
+        String text() {
+            return text;
+        }
+    }
+}
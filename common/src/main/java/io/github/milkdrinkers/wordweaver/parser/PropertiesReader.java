@@ -0,0 +1,188 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.BiConsumer;
+
+/**
+ * A single pass reader for the {@code .properties} format, handing each key and value to a callback in source order.
+ * <p>
+ * Follows the syntax of {@link java.util.Properties#load(Reader)}, comments, line continuations, the {@code =},
+ * {@code :} and whitespace separators and escape sequences, but skips the intermediate {@link java.util.Properties}
+ * table so entries can be written straight into their destination.
+ */
+final class PropertiesReader {
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder builder = new StringBuilder();
+    private int position;
+    private int limit;
+
+    /**
+     * @param reader The reader to read from, left open
+     */
+    PropertiesReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads every key and value pair of the source.
+     *
+     * @param consumer The consumer receiving each key and value, in source order. Duplicate keys are passed again.
+     * @throws IOException If the source cannot be read, or contains a malformed unicode escape
+     */
+    void read(BiConsumer<String, String> consumer) throws IOException {
+        int c;
+        while ((c = next()) != EOF) {
+            if (isWhitespace(c) || isLineEnd(c))
+                continue;
+
+            if (c == '#' || c == '!') {
+                skipLine();
+                continue;
+            }
+
+            // Read the key up to the first unescaped separator or whitespace
+            builder.setLength(0);
+            for (; ; c = next()) {
+                if (c == EOF || isLineEnd(c) || c == '=' || c == ':' || isWhitespace(c))
+                    break;
+
+                if (c == '\\') {
+                    if (!escape())
+                        skipIndent(); // Continue the key on the next line
+                    continue;
+                }
+
+                builder.append((char) c);
+            }
+            final String key = builder.toString();
+
+            // Skip the separator and the whitespace surrounding it
+            if (isWhitespace(c))
+                c = skipWhitespace();
+            if (c == '=' || c == ':')
+                c = skipWhitespace();
+
+            // Read the value up to the end of the logical line
+            builder.setLength(0);
+            for (; c != EOF && !isLineEnd(c); c = next()) {
+                if (c == '\\') {
+                    if (!escape())
+                        skipIndent(); // Leading whitespace of continuation lines is dropped
+                    continue;
+                }
+
+                builder.append((char) c);
+            }
+
+            consumer.accept(key, builder.toString());
+        }
+    }
+
+    /**
+     * Appends the escaped character following a backslash to the builder.
+     *
+     * @return False if the backslash escaped a line break, continuing the logical line
+     */
+    private boolean escape() throws IOException {
+        final int c = next();
+        switch (c) {
+            case EOF:
+                return true;
+            case '\r':
+                final int lineFeed = next();
+                if (lineFeed != '\n')
+                    unread(lineFeed);
+                return false;
+            case '\n':
+                return false;
+            case 't':
+                builder.append('\t');
+                break;
+            case 'n':
+                builder.append('\n');
+                break;
+            case 'r':
+                builder.append('\r');
+                break;
+            case 'f':
+                builder.append('\f');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(next(), 16);
+                    if (digit == -1)
+                        throw new IOException("Malformed \\uxxxx encoding.");
+                    value = (value << 4) | digit;
+                }
+                builder.append((char) value);
+                break;
+            default:
+                builder.append((char) c);
+        }
+        return true;
+    }
+
+    /**
+     * Skips whitespace.
+     *
+     * @return The first character that is not whitespace, which has been consumed
+     */
+    private int skipWhitespace() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (isWhitespace(c));
+        return c;
+    }
+
+    /**
+     * Skips the leading whitespace of a continuation line, leaving the first character after it unread.
+     */
+    private void skipIndent() throws IOException {
+        unread(skipWhitespace());
+    }
+
+    private void skipLine() throws IOException {
+        int c;
+        do {
+            c = next();
+        } while (c != EOF && !isLineEnd(c));
+    }
+
+    /**
+     * Reads the next character.
+     */
+    private int next() throws IOException {
+        if (position == limit) {
+            final int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0)
+                return EOF;
+
+            position = 0;
+            limit = read;
+        }
+
+        return buffer[position++];
+    }
+
+    /**
+     * Unreads the character just returned by {@link #next()}, which is always still in the buffer.
+     */
+    private void unread(int c) {
+        if (c != EOF)
+            position--;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static boolean isLineEnd(int c) {
+        return c == '\n' || c == '\r';
+    }
+}
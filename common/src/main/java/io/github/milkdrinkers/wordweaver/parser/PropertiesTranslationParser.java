@@ -15,13 +15,17 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
 
 /**
  * Parser for {@code .properties} files.
+ * <p>
+ * Keys numbered from one ({@code rules.1}, {@code rules.2}) are also stored as a list under their common prefix
+ * ({@code rules}), the same way {@code JsonTranslationParser} flattens arrays.
  */
 public class PropertiesTranslationParser implements TranslationParser {
     private static final Set<String> EXTENSIONS = Collections.singleton("properties");
@@ -33,16 +37,62 @@ public class PropertiesTranslationParser implements TranslationParser {
 
     @Override
     public Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
-        final Properties properties = new Properties();
-        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-            properties.load(reader);
+        try (Reader reader = BundleReaders.newReader(file)) {
+            return parse(reader);
         } catch (IOException e) {
             throw new TranslationLoadException("Failed to read properties file!", e);
         }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        try {
+            return parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read properties stream!", e);
+        }
+    }
 
+    /**
+     * Parses properties from a reader into a map of entries
+     *
+     * @param reader The reader to parse, left open
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> parse(Reader reader) throws IOException {
         final Map<String, TranslationBundleEntry> entries = new HashMap<>();
-        for (String key : properties.stringPropertyNames()) {
-            entries.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, properties.getProperty(key)));
+        final List<String> lists = new ArrayList<>(); // Keys that start a dotted list
+
+        new PropertiesReader(reader).read((key, value) -> {
+            if (key.endsWith(".1"))
+                lists.add(key.substring(0, key.length() - 2));
+
+            entries.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, value));
+        });
+
+        // Store dotted lists as an entry with all values, unless the key has a value of its own. Like the elements of a
+        // JSON array, each element is a list entry of its own.
+        for (String key : lists) {
+            if (entries.containsKey(key))
+                continue;
+
+            final List<String> values = new ArrayList<>();
+            for (int i = 1; ; i++) {
+                final String elementKey = key + '.' + i;
+                final TranslationBundleEntry element = entries.get(elementKey);
+                if (element == null)
+                    break;
+
+                values.add(element.getValue());
+                entries.put(elementKey, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, element.getValue()));
+            }
+
+            entries.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, values));
         }
 
         return entries;
@@ -55,20 +105,20 @@ public class PropertiesTranslationParser implements TranslationParser {
 
     @Override
     public void merge(InputStream origin, Path target) throws IOException {
-        final Properties originProperties = new Properties();
+        final Map<String, String> originProperties = new LinkedHashMap<>();
         try (Reader reader = new InputStreamReader(origin, StandardCharsets.UTF_8)) {
-            originProperties.load(reader);
+            new PropertiesReader(reader).read(originProperties::put);
         }
 
-        final Properties targetProperties = new Properties();
+        final Set<String> targetKeys = new HashSet<>();
         try (Reader reader = Files.newBufferedReader(target, StandardCharsets.UTF_8)) {
-            targetProperties.load(reader);
+            new PropertiesReader(reader).read((key, value) -> targetKeys.add(key));
         }
 
-        // Collect keys present in the origin but missing from the target
+        // Collect keys present in the origin but missing from the target, in the order of the origin
         final List<String> missingKeys = new ArrayList<>();
-        for (String key : originProperties.stringPropertyNames()) {
-            if (!targetProperties.containsKey(key))
+        for (String key : originProperties.keySet()) {
+            if (!targetKeys.contains(key))
                 missingKeys.add(key);
         }
 
@@ -85,7 +135,7 @@ public class PropertiesTranslationParser implements TranslationParser {
         for (String key : missingKeys) {
             appended.append(escape(key, true))
                 .append('=')
-                .append(escape(originProperties.getProperty(key), false))
+                .append(escape(originProperties.get(key), false))
                 .append(System.lineSeparator());
         }
 
@@ -93,7 +143,7 @@ public class PropertiesTranslationParser implements TranslationParser {
     }
 
     /**
-     * Escapes a properties key or value the way {@link Properties} would keeping UTF-8 characters intact.
+     * Escapes a properties key or value the way {@link java.util.Properties} would keeping UTF-8 characters intact.
      */
     private static String escape(String value, boolean isKey) {
         final StringBuilder builder = new StringBuilder(value.length());
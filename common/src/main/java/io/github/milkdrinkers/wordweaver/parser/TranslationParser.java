@@ -26,6 +26,20 @@ public interface TranslationParser {
      */
     Set<String> extensions();
 
+    /**
+     * The version of this parser, part of the key of bundles stored in the bundle cache. Must change whenever the same
+     * file would be parsed into different entries.
+     *
+     * @return The version
+     * @implNote Defaults to the implementation version of the parser's jar, or an empty string if it has none
+     * @see io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#bundleCache(boolean)
+     */
+    default String version() {
+        final Package pkg = getClass().getPackage();
+        final String version = pkg == null ? null : pkg.getImplementationVersion();
+        return version == null ? "" : version;
+    }
+
     /**
      * Parse a bundle file into entries.
      *
@@ -35,6 +49,30 @@ public interface TranslationParser {
      */
     Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException;
 
+    /**
+     * Whether this parser can read bundles from a stream, which is required to load bundles straight from the program
+     * resources without extracting them to disk.
+     *
+     * @return True if {@link #parse(InputStream)} is supported
+     * @implNote Defaults to false
+     * @see io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#loadFromResources(boolean)
+     */
+    default boolean supportsStreams() {
+        return false;
+    }
+
+    /**
+     * Parse a bundle from a stream into entries. The stream is read fully but not closed.
+     *
+     * @param stream The stream to parse, e.g. a resource stream
+     * @return A map of entries keyed by their path
+     * @throws TranslationLoadException If the stream cannot be read, is malformed or this parser does not support streams
+     * @implNote Defaults to throwing a {@link TranslationLoadException}
+     */
+    default Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        throw new TranslationLoadException(getClass().getName() + " does not support parsing from a stream!");
+    }
+
     /**
      * Whether this parser can add missing keys from a shipped origin file into an already extracted file.
      *
@@ -1,7 +1,13 @@
 package io.github.milkdrinkers.wordweaver.service;
 
+import io.github.milkdrinkers.wordweaver.metrics.HotKey;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointered;
 import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -46,6 +52,32 @@ public interface TranslationService {
         return getComponentList(getLocale(), key, fallback);
     }
 
+    /**
+     * Get the translated value for a key as a Component, in the locale of a viewer
+     *
+     * @param viewer   The viewer, e.g. a player
+     * @param key      The key to the translation
+     * @param fallback The default value to return if no valid value was found
+     * @return The translated value
+     * @see #getLocale(Pointered)
+     */
+    default Component getComponent(Pointered viewer, String key, Component fallback) {
+        return getComponent(getLocale(viewer), key, fallback);
+    }
+
+    /**
+     * Get the translated list of Components for a key, in the locale of a viewer
+     *
+     * @param viewer   The viewer, e.g. a player
+     * @param key      The key to the translation
+     * @param fallback The default value to return if no valid value was found
+     * @return The translated values
+     * @see #getLocale(Pointered)
+     */
+    default List<Component> getComponentList(Pointered viewer, String key, List<Component> fallback) {
+        return getComponentList(getLocale(viewer), key, fallback);
+    }
+
     @SuppressWarnings("unused")
     default String getString(Locale locale, String key) {
         return getString(locale, key, null);
@@ -92,12 +124,61 @@ public interface TranslationService {
     void setLocale(Locale locale);
 
     /**
-     * Get the active locale
+     * Get the active locale, or the locale of the {@link io.github.milkdrinkers.wordweaver.LocaleScope} open on the
+     * current thread
      */
     Locale getLocale();
 
+    /**
+     * Get the locale of a viewer, read from its {@link Identity#LOCALE} pointer without parsing a locale tag
+     *
+     * @param viewer The viewer, e.g. a player
+     * @return The locale of the viewer, or the active locale if the viewer has none
+     */
+    default Locale getLocale(Pointered viewer) {
+        final Locale locale = viewer.getOrDefault(Identity.LOCALE, null);
+        return locale != null ? locale : getLocale();
+    }
+
     /**
      * Reload all translations
      */
     void reload();
+
+    /**
+     * Get the lookup metrics of this service
+     *
+     * @return The metrics, or null if metrics are disabled
+     * @see io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#metrics(boolean)
+     */
+    default @Nullable TranslationMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * Get the keys looked up most by this service
+     *
+     * @param limit The maximum number of keys to return
+     * @return The sampled keys, most sampled first, or an empty list if hot keys are not sampled
+     * @see io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#hotKeys(int)
+     */
+    default List<HotKey> getHotKeys(int limit) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Save the sampled hot keys to the translation directory, if persisting them is enabled
+     *
+     * @see io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#persistHotKeys(boolean)
+     */
+    default void saveHotKeys() {
+    }
+
+    /**
+     * Release everything this service registered outside itself, such as its global translator source and metrics
+     * MBean, so the plugin/mod can be unloaded or initialized again. A configured missing translation handler is closed
+     * if it is {@link AutoCloseable}.
+     */
+    default void shutdown() {
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package io.github.milkdrinkers.wordweaver.service.impl;
 
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
@@ -13,17 +14,19 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Locale;
 
 /**
- * Bridges WordWeaver into Adventures {@link GlobalTranslator} so translations resolve for {@link net.kyori.adventure.text.TranslatableComponent}s in the viewers locale.
+ * Bridges WordWeaver into Adventures {@link GlobalTranslator} so translations resolve for {@link net.kyori.adventure.text.TranslatableComponent}s in the viewers locale, or the closest registered one.
  */
 final class GlobalTranslatorBridge extends MiniMessageTranslator {
     private final Key name;
     private final TranslationBundleRegistry registry;
+    private final @Nullable TranslationMetrics metrics;
 
     GlobalTranslatorBridge(TranslationConfig config, TranslationBundleRegistry registry) {
         super(config.getMiniMessage());
         // noinspection PatternValidation
         this.name = Key.key(config.getNamespace());
         this.registry = registry;
+        this.metrics = config.getMetrics();
     }
 
     /**
@@ -47,10 +50,13 @@ final class GlobalTranslatorBridge extends MiniMessageTranslator {
 
     @Override
     public @Nullable String getMiniMessageString(@NotNull String key, @NotNull Locale locale) {
-        TranslationBundleEntry entry = entryFor(registry.get(locale), key);
+        TranslationBundleEntry entry = entryFor(registry.resolve(locale), key);
         if (entry == null)
             entry = entryFor(registry.getDefault(), key);
 
+        if (metrics != null)
+            metrics.recordBridgeLookup(entry != null);
+
         return entry == null ? null : entry.getValue();
     }
 
@@ -1,7 +1,13 @@
 package io.github.milkdrinkers.wordweaver.service.impl;
 
+import io.github.milkdrinkers.wordweaver.LocaleScope;
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
 import io.github.milkdrinkers.wordweaver.loader.TranslationLoader;
+import io.github.milkdrinkers.wordweaver.metrics.HotKey;
+import io.github.milkdrinkers.wordweaver.metrics.HotKeySampler;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvent;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvents;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.service.TranslationService;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
@@ -11,10 +17,16 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TranslationServiceImpl implements TranslationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TranslationServiceImpl.class);
@@ -22,16 +34,26 @@ public class TranslationServiceImpl implements TranslationService {
     private final TranslationBundleRegistry registry;
     private final TranslationLoader loader;
     private final GlobalTranslatorBridge bridge;
+    private final @Nullable TranslationMetrics metrics;
+    private final @Nullable HotKeySampler hotKeys;
+    private volatile Map<TranslationBundleEntry, CachedComponents> components = new ConcurrentHashMap<>(); // Keyed by entry, so a reload discards them
 
     public TranslationServiceImpl(TranslationConfig config, TranslationBundleRegistry registry, TranslationLoader loader) {
         this.config = config;
         this.registry = registry;
         this.loader = loader;
+        this.metrics = config.getMetrics();
+        this.hotKeys = config.getHotKeySampler();
 
+        loadHotKeys();
         initialize();
+        warmUp();
 
         bridge = new GlobalTranslatorBridge(config, registry);
         bridge.register();
+
+        if (metrics != null && config.shouldRegisterMBean())
+            metrics.registerMBean(config.getNamespace());
     }
 
     private void initialize() {
@@ -49,56 +71,186 @@ public class TranslationServiceImpl implements TranslationService {
 
     @Override
     public String getString(Locale locale, String key, @Nullable String fallback) {
-        final TranslationBundle bundle = registry.get(locale);
-        if (bundle == null)
-            return config.getMissingTranslationHandler().handle(config, registry, key, fallback);
-
-        final TranslationBundleEntry value = bundle.getEntry(key);
+        final TranslationBundleEntry value = lookup(locale, key);
         if (value == null)
-            return config.getMissingTranslationHandler().handle(config, registry, key, fallback);
+            return config.getMissingTranslationHandler().handle(config, registry, locale, key, fallback);
 
         return value.getValue();
     }
 
     @Override
     public List<String> getStringList(Locale locale, String key, List<String> fallback) {
-        final TranslationBundle bundle = registry.get(locale);
-        if (bundle == null)
-            return config.getMissingTranslationHandler().handleListString(config, registry, key, fallback);
-
-        final TranslationBundleEntry value = bundle.getEntry(key);
+        final TranslationBundleEntry value = lookup(locale, key);
         if (value == null)
-            return config.getMissingTranslationHandler().handleListString(config, registry, key, fallback);
+            return config.getMissingTranslationHandler().handleListString(config, registry, locale, key, fallback);
 
         return value.getValues();
     }
 
     @Override
     public Component getComponent(Locale locale, String key, Component fallback) {
-        final TranslationBundle bundle = registry.get(locale);
-        if (bundle == null)
-            return config.getMissingTranslationHandler().handle(config, registry, key, (Component) null);
-
-        final TranslationBundleEntry value = bundle.getEntry(key);
+        final TranslationBundleEntry value = lookup(locale, key);
         if (value == null)
-            return config.getMissingTranslationHandler().handle(config, registry, key, (Component) null);
+            return config.getMissingTranslationHandler().handle(config, registry, locale, key, (Component) null);
 
-        return config.getComponentConverter().apply(value.getValue());
+        final CachedComponents cached = cached(value);
+        if (cached == null)
+            return convert(locale, key, value.getValue());
+
+        Component component = cached.value;
+        if (component == null)
+            cached.value = component = convert(locale, key, value.getValue());
+
+        return component;
     }
 
     @Override
     public List<Component> getComponentList(Locale locale, String key, List<Component> fallback) {
-        final TranslationBundle bundle = registry.get(locale);
-        if (bundle == null)
-            return config.getMissingTranslationHandler().handleListComponent(config, registry, key, null);
-
-        final TranslationBundleEntry value = bundle.getEntry(key);
+        final TranslationBundleEntry value = lookup(locale, key);
         if (value == null)
-            return config.getMissingTranslationHandler().handleListComponent(config, registry, key, null);
+            return config.getMissingTranslationHandler().handleListComponent(config, registry, locale, key, null);
+
+        final CachedComponents cached = cached(value);
+        if (cached == null)
+            return Collections.unmodifiableList(convertLines(locale, key, value));
+
+        List<Component> lines = cached.lines;
+        if (lines == null)
+            cached.lines = lines = Collections.unmodifiableList(convertLines(locale, key, value));
+
+        return lines; // Shared between callers, as it cannot be modified
+    }
+
+    private List<Component> convertLines(Locale locale, String key, TranslationBundleEntry value) {
+        final List<String> values = value.getValues();
+        final List<Component> lines = new ArrayList<>(values.size());
+        for (String line : values)
+            lines.add(convert(locale, key, line));
+
+        return lines;
+    }
+
+    /**
+     * Get the cached components of an entry, adding the entry while the cache is not full
+     *
+     * @return The cached components, or null if the cache is full or disabled
+     */
+    private @Nullable CachedComponents cached(TranslationBundleEntry value) {
+        final Map<TranslationBundleEntry, CachedComponents> cache = components;
+        final CachedComponents cached = cache.get(value);
+        if (cached != null || cache.size() >= config.getComponentCacheSize())
+            return cached;
+
+        return cache.computeIfAbsent(value, v -> new CachedComponents());
+    }
+
+    /**
+     * Looks up an entry in the bundle best matching a locale, recording the lookup
+     *
+     * @return The entry, or null if the key is missing
+     */
+    private @Nullable TranslationBundleEntry lookup(Locale locale, String key) {
+        final TranslationBundle bundle = registry.resolve(locale);
+        final TranslationBundleEntry value = bundle == null ? null : bundle.getEntry(key);
+
+        if (metrics != null)
+            metrics.recordLookup(bundle == null ? null : bundle.getLocale(), value != null);
+
+        if (hotKeys != null && value != null)
+            hotKeys.record(bundle.getLocale(), key);
+
+        return value;
+    }
+
+    /**
+     * Replaces the cached components of the previous bundles, converting the hottest keys ahead of their first lookup
+     */
+    private void warmUp() {
+        final Map<TranslationBundleEntry, CachedComponents> warmed = new ConcurrentHashMap<>();
+        if (hotKeys == null) {
+            components = warmed;
+            return;
+        }
+
+        for (HotKey hotKey : hotKeys.top(config.getHotKeys())) {
+            final TranslationBundle bundle = registry.get(hotKey.getLocale());
+            final TranslationBundleEntry entry = bundle == null ? null : bundle.getEntry(hotKey.getKey());
+            if (entry == null)
+                continue; // Removed since it was sampled
+
+            try {
+                warmed.put(entry, warm(hotKey.getLocale(), hotKey.getKey(), entry));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to warm up translation key: {}", hotKey.getKey(), e);
+            }
+        }
+
+        components = warmed;
+        LOGGER.debug("Warmed up {} hot translation keys", warmed.size());
+    }
+
+    /**
+     * Converts an entry the way {@link #getComponent(Locale, String, Component)} and
+     * {@link #getComponentList(Locale, String, List)} would, converting an entry holding a single value only once
+     */
+    private CachedComponents warm(Locale locale, String key, TranslationBundleEntry entry) {
+        final CachedComponents warm = new CachedComponents();
+        final Component value = convert(locale, key, entry.getValue());
+        final List<String> values = entry.getValues();
+
+        warm.value = value;
+        if (values.size() == 1 && values.get(0).equals(entry.getValue())) {
+            warm.lines = Collections.singletonList(value);
+        } else {
+            warm.lines = Collections.unmodifiableList(convertLines(locale, key, entry));
+        }
+        return warm;
+    }
+
+    private void loadHotKeys() {
+        final Path file = config.getHotKeysFile();
+        if (hotKeys == null || file == null || !Files.isRegularFile(file))
+            return;
+
+        try {
+            hotKeys.load(file);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to load hot translation keys from {}", file, e);
+        }
+    }
+
+    @Override
+    public List<HotKey> getHotKeys(int limit) {
+        return hotKeys == null ? Collections.emptyList() : hotKeys.top(limit);
+    }
+
+    @Override
+    public void saveHotKeys() {
+        final Path file = config.getHotKeysFile();
+        if (hotKeys == null || file == null)
+            return;
+
+        try {
+            Files.createDirectories(file.getParent());
+            hotKeys.save(file, Math.max(config.getHotKeys(), 1) * 4); // Keep more than are warmed, so keys close to the top are not lost
+        } catch (IOException e) {
+            LOGGER.warn("Failed to save hot translation keys to {}", file, e);
+        }
+    }
+
+    private Component convert(Locale locale, String key, String value) {
+        final TranslationEvent event = TranslationEvents.convert();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final Component component = config.getComponentConverter().apply(value);
 
-        return value.getValues().stream()
-            .map(s -> config.getComponentConverter().apply(s))
-            .collect(Collectors.toList());
+        if (metrics != null)
+            metrics.recordComponentConversion(System.nanoTime() - start);
+
+        event.end();
+        if (event.shouldCommit())
+            event.locale(locale).key(key).length(value.length()).commit();
+
+        return component;
     }
 
     @Override
@@ -123,16 +275,61 @@ public class TranslationServiceImpl implements TranslationService {
 
     @Override
     public Locale getLocale() {
-        return config.getCurrentLocale();
+        final Locale scoped = LocaleScope.current();
+        return scoped != null ? scoped : config.getCurrentLocale();
     }
 
     @Override
     public void reload() {
+        final TranslationEvent event = TranslationEvents.reload();
+        final long start = System.nanoTime();
         try {
-            registry.clear();
+            if (!loader.replacesBundles())
+                registry.clear(); // The loader registers each bundle, which would keep the bundles loaded earlier
+
             loader.loadBundles();
         } catch (Exception e) {
             LOGGER.error("Failed to reload translation service", e);
         }
+        saveHotKeys();
+        warmUp();
+
+        if (metrics != null)
+            metrics.recordReload(System.nanoTime() - start);
+
+        event.end();
+        if (event.shouldCommit())
+            event.bundles(registry.getRegisteredLocales().size()).commit();
+    }
+
+    @Override
+    public @Nullable TranslationMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void shutdown() {
+        saveHotKeys();
+        bridge.unregister();
+
+        if (metrics != null)
+            metrics.unregisterMBean(); // The MBean server would otherwise keep this class loader alive
+
+        if (config.getMissingTranslationHandler() instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) config.getMissingTranslationHandler()).close(); // Such as the thread of a MissingKeyTracker
+            } catch (Exception e) {
+                LOGGER.warn("Failed to close missing translation handler", e);
+            }
+        }
+    }
+
+    /**
+     * The converted components of an entry, the value as a whole and each of its lines, each converted on first use.
+     * Components are immutable, so a component converted twice by racing lookups is harmless.
+     */
+    private static final class CachedComponents {
+        private volatile @Nullable Component value;
+        private volatile @Nullable List<Component> lines;
     }
 }
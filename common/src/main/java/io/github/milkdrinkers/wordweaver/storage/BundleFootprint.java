@@ -0,0 +1,331 @@
+package io.github.milkdrinkers.wordweaver.storage;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The estimated retained heap of a {@link TranslationBundle}, for sizing containers.
+ * <p>
+ * Estimates assume a 64-bit JVM with compressed object pointers, the default for heaps under 32 GB, and compact strings
+ * on Java 9 and later. Objects shared between entries, such as the same string used as a value and inside its list of
+ * values, are counted once. The locale, which is shared with the rest of the application, is not counted. Entries and
+ * sections that have not been decoded yet are counted by the source they are decoded from, without decoding them.
+ *
+ * @see TranslationBundle#getFootprint()
+ * @see TranslationBundleRegistry#getFootprints()
+ */
+public final class BundleFootprint {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING = 24;
+    private static final int HASH_MAP = 48;
+    private static final int HASH_MAP_NODE = 32;
+    private static final int UNMODIFIABLE_MAP = 32;
+    private static final int ARRAY_LIST = 24;
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version", "").startsWith("1.");
+
+    private final Locale locale;
+    private final int entries;
+    private final long keyBytes;
+    private final long valueBytes;
+    private final long entryBytes;
+    private final long structureBytes;
+    private final long sourceBytes;
+    private final boolean partial;
+
+    /**
+     * @param locale         The locale of the bundle
+     * @param entries        The number of entries counted
+     * @param keyBytes       The bytes retained by the keys
+     * @param valueBytes     The bytes retained by the values, including the lines of lists
+     * @param entryBytes     The bytes retained by the entry objects and their lists of values
+     * @param structureBytes The bytes retained by the maps holding the entries
+     * @param sourceBytes    The bytes of the source files retained to decode entries or load sections lazily
+     * @param partial        Whether part of the bundle was not loaded yet, and is not counted
+     */
+    public BundleFootprint(Locale locale, int entries, long keyBytes, long valueBytes, long entryBytes, long structureBytes, long sourceBytes, boolean partial) {
+        this.locale = locale;
+        this.entries = entries;
+        this.keyBytes = keyBytes;
+        this.valueBytes = valueBytes;
+        this.entryBytes = entryBytes;
+        this.structureBytes = structureBytes;
+        this.sourceBytes = sourceBytes;
+        this.partial = partial;
+    }
+
+    /**
+     * Estimates the footprint of the entries of a bundle, assuming they are held in a {@link java.util.HashMap}.
+     *
+     * @param locale  The locale of the bundle
+     * @param entries The entries to count
+     * @param partial Whether part of the bundle is not included in {@code entries}
+     * @return The footprint
+     */
+    public static BundleFootprint estimate(Locale locale, Map<String, TranslationBundleEntry> entries, boolean partial) {
+        return builder(locale).entries(entries).partial(partial).build();
+    }
+
+    /**
+     * Creates a builder estimating the footprint of a bundle piece by piece
+     *
+     * @param locale The locale of the bundle
+     * @return A new builder instance
+     */
+    public static Builder builder(Locale locale) {
+        return new Builder(locale);
+    }
+
+    private static long sizeOf(String value, Map<Object, Boolean> counted) {
+        if (counted.put(value, Boolean.TRUE) != null)
+            return 0;
+
+        return STRING + align(ARRAY_HEADER + (long) value.length() * (COMPACT_STRINGS && isLatin1(value) ? 1 : 2));
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF)
+                return false;
+        }
+
+        return true;
+    }
+
+    private static long hashMapSize(int size) {
+        if (size == 0)
+            return HASH_MAP;
+
+        int capacity = 1;
+        while (capacity * 3L / 4 < size)
+            capacity <<= 1;
+
+        return HASH_MAP + align(ARRAY_HEADER + (long) REFERENCE * capacity) + (long) HASH_MAP_NODE * size;
+    }
+
+    private static int align(int bytes) {
+        return (bytes + 7) & ~7;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Get the locale of the bundle
+     *
+     * @return The locale
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get the number of entries counted
+     *
+     * @return The number of entries
+     */
+    public int getEntries() {
+        return entries;
+    }
+
+    /**
+     * Get the bytes retained by the keys
+     *
+     * @return The bytes retained by the keys
+     */
+    public long getKeyBytes() {
+        return keyBytes;
+    }
+
+    /**
+     * Get the bytes retained by the values, including the lines of lists
+     *
+     * @return The bytes retained by the values
+     */
+    public long getValueBytes() {
+        return valueBytes;
+    }
+
+    /**
+     * Get the bytes retained by the entry objects and their lists of values
+     *
+     * @return The bytes retained by the entries
+     */
+    public long getEntryBytes() {
+        return entryBytes;
+    }
+
+    /**
+     * Get the bytes retained by the maps holding the entries
+     *
+     * @return The bytes retained by the maps
+     */
+    public long getStructureBytes() {
+        return structureBytes;
+    }
+
+    /**
+     * Get the bytes of the source files retained to decode entries or load sections lazily
+     *
+     * @return The bytes retained by the sources
+     */
+    public long getSourceBytes() {
+        return sourceBytes;
+    }
+
+    /**
+     * Get the estimated retained heap of the bundle
+     *
+     * @return The total bytes
+     */
+    public long getTotalBytes() {
+        return keyBytes + valueBytes + entryBytes + structureBytes + sourceBytes;
+    }
+
+    /**
+     * Get the average retained heap of an entry
+     *
+     * @return The bytes per entry, or 0 for an empty bundle
+     */
+    public double getBytesPerEntry() {
+        return entries == 0 ? 0 : (double) getTotalBytes() / entries;
+    }
+
+    /**
+     * Check if part of the bundle was not loaded yet, and is not counted, as for lazily parsed sections
+     *
+     * @return True if the footprint only covers the loaded part of the bundle
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    @Override
+    public String toString() {
+        return "BundleFootprint{" +
+            "locale=" + locale +
+            ", entries=" + entries +
+            ", totalBytes=" + getTotalBytes() +
+            ", keyBytes=" + keyBytes +
+            ", valueBytes=" + valueBytes +
+            ", entryBytes=" + entryBytes +
+            ", structureBytes=" + structureBytes +
+            ", sourceBytes=" + sourceBytes +
+            ", partial=" + partial +
+            '}';
+    }
+
+    /**
+     * Accumulates the footprint of a bundle. Entries add themselves through
+     * {@link TranslationBundleEntry#addFootprint(Builder)}, and every object is counted once however many entries
+     * share it.
+     */
+    public static final class Builder {
+        private final Locale locale;
+        private final Map<Object, Boolean> counted = new IdentityHashMap<>();
+        private int entries;
+        private long keyBytes;
+        private long valueBytes;
+        private long entryBytes;
+        private long structureBytes;
+        private long sourceBytes;
+        private boolean partial;
+
+        private Builder(Locale locale) {
+            this.locale = locale;
+        }
+
+        /**
+         * Adds the entries of a bundle along with their keys, held in a {@link java.util.HashMap}.
+         *
+         * @param entries The entries
+         * @return The builder instance
+         */
+        public Builder entries(Map<String, TranslationBundleEntry> entries) {
+            for (Map.Entry<String, TranslationBundleEntry> entry : entries.entrySet()) {
+                keyBytes += sizeOf(entry.getKey(), counted);
+
+                if (counted.put(entry.getValue(), Boolean.TRUE) == null)
+                    entry.getValue().addFootprint(this);
+            }
+
+            this.entries += entries.size();
+            structureBytes += UNMODIFIABLE_MAP + hashMapSize(entries.size());
+            return this;
+        }
+
+        /**
+         * Adds an entry object, or any other object held by an entry.
+         *
+         * @param fields The number of fields of the object, each counted as a reference
+         * @return The builder instance
+         */
+        public Builder object(int fields) {
+            entryBytes += align(OBJECT_HEADER + (long) REFERENCE * fields);
+            return this;
+        }
+
+        /**
+         * Adds a value held by an entry.
+         *
+         * @param value The value
+         * @return The builder instance
+         */
+        public Builder value(String value) {
+            valueBytes += sizeOf(value, counted);
+            return this;
+        }
+
+        /**
+         * Adds a list of values held by an entry, as an {@link java.util.ArrayList}.
+         *
+         * @param values The values
+         * @return The builder instance
+         */
+        public Builder values(List<String> values) {
+            if (counted.put(values, Boolean.TRUE) == null)
+                entryBytes += ARRAY_LIST + align(ARRAY_HEADER + (long) REFERENCE * values.size());
+
+            for (String line : values)
+                valueBytes += sizeOf(line, counted);
+            return this;
+        }
+
+        /**
+         * Adds the source an entry or section is decoded from later, such as the bytes of its file.
+         *
+         * @param source The source, counted once however many entries hold it
+         * @param bytes  The heap retained by the source
+         * @return The builder instance
+         */
+        public Builder source(Object source, long bytes) {
+            if (counted.put(source, Boolean.TRUE) == null)
+                sourceBytes += bytes;
+            return this;
+        }
+
+        /**
+         * Set whether part of the bundle was not loaded yet, and is not counted.
+         *
+         * @param partial Whether the footprint only covers part of the bundle
+         * @return The builder instance
+         */
+        public Builder partial(boolean partial) {
+            this.partial = partial;
+            return this;
+        }
+
+        /**
+         * Builds the footprint
+         *
+         * @return The footprint
+         */
+        public BundleFootprint build() {
+            return new BundleFootprint(locale, entries, keyBytes, valueBytes, entryBytes, structureBytes, sourceBytes, partial);
+        }
+    }
+}
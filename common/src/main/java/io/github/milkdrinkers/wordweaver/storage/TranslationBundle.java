@@ -62,4 +62,13 @@ public interface TranslationBundle {
      * @return A set of all keys in this bundle
      */
     Set<String> getKeys();
+
+    /**
+     * Estimate the retained heap of this bundle
+     *
+     * @return The estimated footprint
+     */
+    default BundleFootprint getFootprint() {
+        return BundleFootprint.estimate(getLocale(), getEntries(), false);
+    }
 }
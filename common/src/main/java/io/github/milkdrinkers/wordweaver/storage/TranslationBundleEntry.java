@@ -43,4 +43,30 @@ public interface TranslationBundleEntry {
      * @return True if this entry is a collection, false otherwise.
      */
     boolean isCollection();
+
+    /**
+     * Returns if this entry may reference other keys, which are replaced when its bundle is loaded.
+     * <p>
+     * Entries decoding their values lazily can check their raw value instead, so loading a bundle does not decode
+     * every entry just to find out it has nothing to replace.
+     *
+     * @return True if the values of this entry may contain a key reference, false if they certainly do not.
+     * @implSpec Returns true
+     */
+    default boolean mayContainReferences() {
+        return true;
+    }
+
+    /**
+     * Adds the heap retained by this entry to the footprint of its bundle.
+     * <p>
+     * Entries decoding their values lazily should count what they hold instead of reading their values, so estimating
+     * a footprint does not grow the heap it measures.
+     *
+     * @param footprint The footprint being estimated
+     * @implSpec Counts an object of three fields holding {@link #getValue()} and {@link #getValues()}
+     */
+    default void addFootprint(BundleFootprint.Builder footprint) {
+        footprint.object(3).value(getValue()).values(getValues());
+    }
 }
@@ -1,8 +1,12 @@
 package io.github.milkdrinkers.wordweaver.storage;
 
+import io.github.milkdrinkers.wordweaver.LocaleUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,6 +34,48 @@ public interface TranslationBundleRegistry {
      */
     Optional<TranslationBundle> getOptional(Locale locale);
 
+    /**
+     * Get the registered bundle that best matches a locale, such as the locale sent by a client. Falls back from the
+     * exact locale to less specific ones as listed by {@link LocaleUtil#fallbacksOf(Locale)}, and then to any bundle
+     * of the same language, preferring the default and then the current locale.
+     *
+     * @param locale The requested locale
+     * @return The best matching bundle, or null if no bundle has the same language
+     */
+    default @Nullable TranslationBundle resolve(Locale locale) {
+        for (Locale candidate : LocaleUtil.fallbacksOf(locale)) {
+            final TranslationBundle bundle = get(candidate);
+            if (bundle != null)
+                return bundle;
+        }
+
+        final String language = locale.getLanguage();
+        for (TranslationBundle bundle : new TranslationBundle[]{getDefault(), getCurrent()}) {
+            if (bundle != null && bundle.getLocale().getLanguage().equals(language))
+                return bundle;
+        }
+
+        Locale match = null;
+        for (Locale registered : getRegisteredLocales()) {
+            if (registered.getLanguage().equals(language) && (match == null || LocaleUtil.toTag(registered).compareTo(LocaleUtil.toTag(match)) < 0))
+                match = registered;
+        }
+
+        return match == null ? null : get(match);
+    }
+
+    /**
+     * Get the registered bundle that best matches a locale tag, in any case and with either separator (e.g. "en_us",
+     * "EN-US").
+     *
+     * @param localeTag The requested locale tag
+     * @return The best matching bundle, or null if no bundle has the same language
+     * @see #resolve(Locale)
+     */
+    default @Nullable TranslationBundle resolve(String localeTag) {
+        return resolve(LocaleUtil.fromTag(localeTag));
+    }
+
     /**
      * Get the current bundle
      *
@@ -80,6 +126,23 @@ public interface TranslationBundleRegistry {
      */
     Set<String> getKeys();
 
+    /**
+     * Estimate the retained heap of every registered bundle
+     *
+     * @return The footprint of each bundle, by locale
+     * @see TranslationBundle#getFootprint()
+     */
+    default Map<Locale, BundleFootprint> getFootprints() {
+        final Map<Locale, BundleFootprint> footprints = new LinkedHashMap<>();
+        for (Locale locale : getRegisteredLocales()) {
+            final TranslationBundle bundle = get(locale);
+            if (bundle != null)
+                footprints.put(locale, bundle.getFootprint());
+        }
+
+        return footprints;
+    }
+
     /**
      * Register a new bundle
      *
@@ -91,4 +154,16 @@ public interface TranslationBundleRegistry {
      * Clear all bundles in the registry
      */
     void clear();
+
+    /**
+     * Replace all bundles in the registry, as when reloading
+     *
+     * @param bundles The new bundles
+     * @implSpec The default implementation clears the registry and registers each bundle, so readers may briefly see
+     * a partially loaded registry. Implementations should publish the new bundles atomically.
+     */
+    default void replace(Collection<TranslationBundle> bundles) {
+        clear();
+        bundles.forEach(this::register);
+    }
 }
@@ -0,0 +1,198 @@
+package io.github.milkdrinkers.wordweaver.storage.impl;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable map of bundle entries whose top-level sections are only parsed the first time a key inside them is
+ * looked up.
+ * <p>
+ * Parsers may return this map for large bundles to skip parsing sections that are never used. A key belongs to the
+ * section named by its first segment, so {@code gui.title} and {@code gui.buttons.1} are read from the {@code gui}
+ * section. Keys outside of any section are parsed up front.
+ * <p>
+ * Looking up a key with {@link #get(Object)} or {@link #containsKey(Object)} loads at most one section. Iterating over
+ * the map, or asking for its size, loads every section. A section that fails to load throws its failure on every
+ * access to it, rather than hiding its keys. Parsers should check the structure of each section up front, so that a
+ * malformed section fails loading the bundle instead.
+ */
+public final class LazySectionMap extends AbstractMap<String, TranslationBundleEntry> {
+    private final Map<String, TranslationBundleEntry> entries;
+    private final Map<String, Section> sections;
+    private final long sourceBytes;
+    private volatile @Nullable Set<Entry<String, TranslationBundleEntry>> entrySet;
+
+    /**
+     * @param entries  The entries outside of any section, with their full keys
+     * @param sections The name of every section along with a function parsing it, returning its entries with their
+     *                 full keys. Each function is called at most once.
+     */
+    public LazySectionMap(Map<String, TranslationBundleEntry> entries, Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections) {
+        this(entries, sections, 0);
+    }
+
+    /**
+     * @param entries     The entries outside of any section, with their full keys
+     * @param sections    The name of every section along with a function parsing it, returning its entries with their
+     *                    full keys. Each function is called at most once.
+     * @param sourceBytes The heap retained by the source the sections are parsed from, until every section is loaded
+     */
+    public LazySectionMap(Map<String, TranslationBundleEntry> entries, Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections, long sourceBytes) {
+        this.entries = entries;
+        this.sections = new LinkedHashMap<>();
+        this.sourceBytes = sourceBytes;
+        sections.forEach((name, parser) -> this.sections.put(name, new Section(name, parser)));
+    }
+
+    /**
+     * Get the names of the sections in this map
+     *
+     * @return The names of the sections, loaded or not
+     */
+    public Set<String> getSections() {
+        return Collections.unmodifiableSet(sections.keySet());
+    }
+
+    /**
+     * Check if a section has been loaded
+     *
+     * @param name The name of the section
+     * @return True if the section exists and has been loaded, false otherwise
+     */
+    public boolean isLoaded(String name) {
+        final Section section = sections.get(name);
+        return section != null && section.loaded != null;
+    }
+
+    /**
+     * Creates a map that applies an operator to the entries of this map. The operator is applied to the entries outside
+     * of any section straight away, and to each section when it is first loaded from the returned map.
+     *
+     * @param operator The operator, receiving the entries of one section and returning their replacement
+     * @return A new lazy map
+     */
+    public LazySectionMap map(UnaryOperator<Map<String, TranslationBundleEntry>> operator) {
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> mapped = new LinkedHashMap<>();
+        for (Section section : sections.values()) {
+            mapped.put(section.name, () -> operator.apply(section.get()));
+        }
+
+        return new LazySectionMap(operator.apply(entries), mapped, sourceBytes);
+    }
+
+    /**
+     * Get the entries loaded so far, without loading any section
+     *
+     * @return The entries outside of any section and those of the loaded sections
+     */
+    public Map<String, TranslationBundleEntry> getLoadedEntries() {
+        final Map<String, TranslationBundleEntry> loaded = new HashMap<>(entries);
+        for (Section section : sections.values()) {
+            final Map<String, TranslationBundleEntry> sectionEntries = section.loaded;
+            if (sectionEntries != null)
+                loaded.putAll(sectionEntries);
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Check if every section has been loaded
+     *
+     * @return True if every section has been loaded, false otherwise
+     */
+    public boolean isFullyLoaded() {
+        for (Section section : sections.values()) {
+            if (section.loaded == null)
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the heap retained by the source the sections are parsed from
+     *
+     * @return The bytes of the source, or 0 once every section is loaded and the source is released
+     */
+    public long getSourceBytes() {
+        return isFullyLoaded() ? 0 : sourceBytes;
+    }
+
+    @Override
+    public @Nullable TranslationBundleEntry get(Object key) {
+        if (!(key instanceof String))
+            return null;
+
+        final Section section = sectionOf((String) key);
+        if (section != null) {
+            final TranslationBundleEntry entry = section.get().get(key);
+            if (entry != null)
+                return entry;
+        }
+
+        return entries.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<String, TranslationBundleEntry>> entrySet() {
+        Set<Entry<String, TranslationBundleEntry>> all = entrySet;
+        if (all == null) {
+            final Map<String, TranslationBundleEntry> loaded = new HashMap<>(entries);
+            for (Section section : sections.values()) {
+                loaded.putAll(section.get()); // Sections take precedence, matching get
+            }
+
+            entrySet = all = Collections.unmodifiableMap(loaded).entrySet();
+        }
+
+        return all;
+    }
+
+    private @Nullable Section sectionOf(String key) {
+        final int dot = key.indexOf('.');
+        return sections.get(dot < 0 ? key : key.substring(0, dot));
+    }
+
+    private static final class Section {
+        private final String name;
+        private @Nullable Supplier<Map<String, TranslationBundleEntry>> parser;
+        private volatile @Nullable Map<String, TranslationBundleEntry> loaded;
+
+        private Section(String name, Supplier<Map<String, TranslationBundleEntry>> parser) {
+            this.name = name;
+            this.parser = parser;
+        }
+
+        private Map<String, TranslationBundleEntry> get() {
+            Map<String, TranslationBundleEntry> result = loaded;
+            if (result != null)
+                return result;
+
+            synchronized (this) {
+                result = loaded;
+                if (result == null) {
+                    result = parser.get(); // A failure is rethrown, and the section parsed again on the next access
+                    loaded = result;
+                    parser = null; // Release the source of the section
+                }
+            }
+
+            return result;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.milkdrinkers.wordweaver.storage.impl;
 
+import io.github.milkdrinkers.wordweaver.storage.BundleFootprint;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import org.jetbrains.annotations.Nullable;
@@ -9,10 +10,12 @@ import java.util.*;
 public class TranslationBundleImpl implements TranslationBundle {
     private final Locale locale;
     private final Map<String, TranslationBundleEntry> entries;
+    private final @Nullable LazySectionMap lazyEntries;
 
     public TranslationBundleImpl(final Locale locale, final Map<String, TranslationBundleEntry> entries) {
         this.locale = locale;
-        this.entries = Collections.unmodifiableMap(new HashMap<>(entries));
+        this.entries = Collections.unmodifiableMap(entries instanceof LazySectionMap ? entries : new HashMap<>(entries)); // Keep lazy sections unloaded
+        this.lazyEntries = entries instanceof LazySectionMap ? (LazySectionMap) entries : null;
     }
 
     @Override
@@ -44,4 +47,17 @@ public class TranslationBundleImpl implements TranslationBundle {
     public Set<String> getKeys() {
         return Collections.unmodifiableSet(entries.keySet());
     }
+
+    @Override
+    public BundleFootprint getFootprint() {
+        if (lazyEntries == null)
+            return TranslationBundle.super.getFootprint();
+
+        // Only count the loaded sections, without loading the others, along with the source the others are parsed from
+        return BundleFootprint.builder(locale)
+            .entries(lazyEntries.getLoadedEntries())
+            .source(lazyEntries, lazyEntries.getSourceBytes())
+            .partial(!lazyEntries.isFullyLoaded())
+            .build();
+    }
 }
@@ -1,32 +1,79 @@
 package io.github.milkdrinkers.wordweaver.storage.impl;
 
+import io.github.milkdrinkers.wordweaver.LocaleUtil;
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvent;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationEvents;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
-
+import java.util.function.UnaryOperator;
+
+/**
+ * Registry publishing its bundles as a single immutable {@link Snapshot}, so that every read sees the bundles, the
+ * current and default bundle, and the cached resolutions of one consistent state.
+ * <p>
+ * Writers copy the snapshot and swap it in, readers never lock. The current and default bundle follow the locales of
+ * the config, a changed locale replaces the snapshot on the next read.
+ */
 public class TranslationBundleRegistryImpl implements TranslationBundleRegistry {
-    private final AtomicReference<Map<Locale, TranslationBundle>> bundles;
-    private final AtomicReference<Set<String>> keys;
-    private final TranslationConfig config;
+    private static final int MAX_RESOLVED = 512;
 
-    private final AtomicReference<TranslationBundle> currentBundle;
-    private final AtomicReference<TranslationBundle> defaultBundle;
+    private final TranslationConfig config;
+    private final @Nullable TranslationMetrics metrics;
+    private final AtomicReference<Snapshot> state;
 
     public TranslationBundleRegistryImpl(TranslationConfig config) {
         this.config = config;
-        this.bundles = new AtomicReference<>(Collections.unmodifiableMap(new HashMap<>()));
-        this.keys = new AtomicReference<>(Collections.unmodifiableSet(new HashSet<>()));
-        this.currentBundle = new AtomicReference<>(null);
-        this.defaultBundle = new AtomicReference<>(null);
+        this.metrics = config.getMetrics();
+        this.state = new AtomicReference<>(new Snapshot(Collections.emptyMap(), config.getCurrentLocale(), config.getDefaultLocale()));
+    }
+
+    /**
+     * Get the current snapshot, replacing it first if the locales of the config changed.
+     */
+    private Snapshot snapshot() {
+        Snapshot snapshot = state.get();
+        while (true) {
+            final Locale current = config.getCurrentLocale();
+            final Locale fallback = config.getDefaultLocale();
+            if (snapshot.currentLocale.equals(current) && snapshot.defaultLocale.equals(fallback))
+                return snapshot;
+
+            final Snapshot updated = new Snapshot(snapshot.bundles, current, fallback);
+            if (state.compareAndSet(snapshot, updated))
+                return updated;
+
+            snapshot = state.get();
+        }
+    }
+
+    /**
+     * Publishes a new set of bundles, built from the latest snapshot. The builder may run more than once when writers
+     * race.
+     */
+    private Snapshot publish(UnaryOperator<Map<Locale, TranslationBundle>> builder) {
+        while (true) {
+            final Snapshot snapshot = snapshot();
+            final Snapshot updated = new Snapshot(
+                Collections.unmodifiableMap(builder.apply(snapshot.bundles)),
+                snapshot.currentLocale,
+                snapshot.defaultLocale
+            );
+
+            if (state.compareAndSet(snapshot, updated))
+                return updated;
+        }
     }
 
     @Override
     public @Nullable TranslationBundle get(Locale locale) {
-        return bundles.get().get(locale);
+        return state.get().bundles.get(locale);
     }
 
     @Override
@@ -34,9 +81,41 @@ public class TranslationBundleRegistryImpl implements TranslationBundleRegistry
         return Optional.ofNullable(get(locale));
     }
 
+    @Override
+    public @Nullable TranslationBundle resolve(Locale locale) {
+        final Snapshot snapshot = snapshot();
+        final Optional<TranslationBundle> cached = snapshot.resolvedLocales.get(locale);
+        if (metrics != null)
+            metrics.recordResolve(cached != null);
+        if (cached != null)
+            return cached.orElse(null);
+
+        final TranslationBundle bundle = snapshot.resolve(locale);
+        if (snapshot.resolvedLocales.size() < MAX_RESOLVED)
+            snapshot.resolvedLocales.putIfAbsent(locale, Optional.ofNullable(bundle));
+
+        return bundle;
+    }
+
+    @Override
+    public @Nullable TranslationBundle resolve(String localeTag) {
+        final Snapshot snapshot = snapshot();
+        final Optional<TranslationBundle> cached = snapshot.resolvedTags.get(localeTag);
+        if (metrics != null)
+            metrics.recordResolve(cached != null);
+        if (cached != null)
+            return cached.orElse(null);
+
+        final TranslationBundle bundle = snapshot.resolve(LocaleUtil.fromTag(localeTag));
+        if (snapshot.resolvedTags.size() < MAX_RESOLVED)
+            snapshot.resolvedTags.putIfAbsent(localeTag, Optional.ofNullable(bundle));
+
+        return bundle;
+    }
+
     @Override
     public @Nullable TranslationBundle getCurrent() {
-        return currentBundle.get();
+        return snapshot().current;
     }
 
     @Override
@@ -46,7 +125,7 @@ public class TranslationBundleRegistryImpl implements TranslationBundleRegistry
 
     @Override
     public @Nullable TranslationBundle getDefault() {
-        return defaultBundle.get();
+        return snapshot().fallback;
     }
 
     @Override
@@ -56,56 +135,117 @@ public class TranslationBundleRegistryImpl implements TranslationBundleRegistry
 
     @Override
     public Set<Locale> getRegisteredLocales() {
-        return Collections.unmodifiableSet(bundles.get().keySet());
+        return state.get().bundles.keySet();
     }
 
     @Override
     public boolean isRegistered(Locale locale) {
-        return bundles.get().containsKey(locale);
+        return state.get().bundles.containsKey(locale);
     }
 
     @Override
     public Set<String> getKeys() {
-        return keys.get();
+        return snapshot().getKeys();
     }
 
     @Override
     public void register(TranslationBundle bundle) {
-        // Update bundles map
-        final Map<Locale, TranslationBundle> updatedBundles = new HashMap<>(bundles.get());
-        updatedBundles.putIfAbsent(bundle.getLocale(), bundle);
-        bundles.set(Collections.unmodifiableMap(updatedBundles));
+        final TranslationEvent event = TranslationEvents.publish();
 
-        // Update keys map
-        final Set<String> updatedKeys = new HashSet<>(getKeys());
+        final Snapshot published = publish(bundles -> {
+            final Map<Locale, TranslationBundle> updated = new HashMap<>(bundles);
+            updated.putIfAbsent(bundle.getLocale(), bundle);
+            return updated;
+        });
 
-        // Cache the new bundle ref
-        final TranslationBundle newBundle = updatedBundles.get(bundle.getLocale());
+        event.end();
+        if (event.shouldCommit())
+            event.locale(bundle.getLocale()).bundles(published.bundles.size()).commit();
+    }
 
-        // Update current bundle if necessary
-        if (currentBundle.get() == null && bundle.getLocale().equals(config.getCurrentLocale())) {
-            currentBundle.set(newBundle);
+    @Override
+    public void replace(Collection<TranslationBundle> bundles) {
+        final TranslationEvent event = TranslationEvents.publish();
 
-            if (newBundle != null)
-                updatedKeys.addAll(newBundle.getKeys());
-        }
+        final Map<Locale, TranslationBundle> replacement = new HashMap<>();
+        for (TranslationBundle bundle : bundles)
+            replacement.putIfAbsent(bundle.getLocale(), bundle);
 
-        // Update default bundle if necessary
-        if (defaultBundle.get() == null && bundle.getLocale().equals(config.getDefaultLocale())) {
-            defaultBundle.set(newBundle);
+        publish(previous -> replacement);
 
-            if (newBundle != null)
-                updatedKeys.addAll(newBundle.getKeys());
-        }
-
-        keys.set(Collections.unmodifiableSet(updatedKeys));
+        event.end();
+        if (event.shouldCommit())
+            event.bundles(replacement.size()).commit();
     }
 
     @Override
     public void clear() {
-        currentBundle.set(null);
-        defaultBundle.set(null);
-        keys.set(Collections.unmodifiableSet(new HashSet<>()));
-        bundles.set(Collections.unmodifiableMap(new HashMap<>()));
+        publish(previous -> Collections.emptyMap());
+    }
+
+    /**
+     * An immutable state of the registry, along with the lookups cached for that state. Caches are discarded with the
+     * snapshot, so a lookup racing a writer can never cache a bundle into a newer state.
+     */
+    private static final class Snapshot {
+        private final Map<Locale, TranslationBundle> bundles;
+        private final Locale currentLocale;
+        private final Locale defaultLocale;
+        private final @Nullable TranslationBundle current;
+        private final @Nullable TranslationBundle fallback;
+
+        // The bundles resolved for requested locales and client tags, bounded as both may come from clients
+        private final Map<Locale, Optional<TranslationBundle>> resolvedLocales = new ConcurrentHashMap<>();
+        private final Map<String, Optional<TranslationBundle>> resolvedTags = new ConcurrentHashMap<>();
+        private volatile @Nullable Set<String> keys;
+
+        private Snapshot(Map<Locale, TranslationBundle> bundles, Locale currentLocale, Locale defaultLocale) {
+            this.bundles = bundles;
+            this.currentLocale = currentLocale;
+            this.defaultLocale = defaultLocale;
+            this.current = bundles.get(currentLocale);
+            this.fallback = bundles.get(defaultLocale);
+        }
+
+        /**
+         * Resolves a locale like {@link TranslationBundleRegistry#resolve(Locale)}, reading only this snapshot.
+         */
+        private @Nullable TranslationBundle resolve(Locale locale) {
+            for (Locale candidate : LocaleUtil.fallbacksOf(locale)) {
+                final TranslationBundle bundle = bundles.get(candidate);
+                if (bundle != null)
+                    return bundle;
+            }
+
+            final String language = locale.getLanguage();
+            if (fallback != null && fallback.getLocale().getLanguage().equals(language))
+                return fallback;
+            if (current != null && current.getLocale().getLanguage().equals(language))
+                return current;
+
+            Locale match = null;
+            for (Locale registered : bundles.keySet()) {
+                if (registered.getLanguage().equals(language) && (match == null || LocaleUtil.toTag(registered).compareTo(LocaleUtil.toTag(match)) < 0))
+                    match = registered;
+            }
+
+            return match == null ? null : bundles.get(match);
+        }
+
+        private Set<String> getKeys() {
+            Set<String> cached = keys;
+            if (cached == null) {
+                // Computed on demand, as collecting the keys loads every section of a lazily parsed bundle
+                final Set<String> computed = new HashSet<>();
+                if (current != null)
+                    computed.addAll(current.getKeys());
+                if (fallback != null)
+                    computed.addAll(fallback.getKeys());
+
+                keys = cached = Collections.unmodifiableSet(computed);
+            }
+
+            return cached;
+        }
     }
 }
@@ -0,0 +1,238 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.Locale;
+
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
+
+/**
+ * Creates the Java Flight Recorder events of WordWeaver.
+ * <p>
+ * This version of the class is loaded from the multi-release jar on Java 11 and later. Events are only allocated and
+ * started while a recording has them enabled, otherwise {@link TranslationEvent#NONE} is returned.
+ */
+public final class TranslationEvents {
+    private static final String CATEGORY = "WordWeaver";
+
+    private TranslationEvents() {
+    }
+
+    /**
+     * Check if events can be recorded on this runtime
+     *
+     * @return True if the running Java version supports flight recording
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Starts an event timing the parsing of a bundle file
+     *
+     * @return The event
+     */
+    public static TranslationEvent parse() {
+        return begin(new ParseEvent());
+    }
+
+    /**
+     * Starts an event timing the resolution of key references in a bundle
+     *
+     * @return The event
+     */
+    public static TranslationEvent resolveReferences() {
+        return begin(new ResolveReferencesEvent());
+    }
+
+    /**
+     * Starts an event timing the publication of a bundle to the registry
+     *
+     * @return The event
+     */
+    public static TranslationEvent publish() {
+        return begin(new PublishEvent());
+    }
+
+    /**
+     * Starts an event timing a reload of every bundle
+     *
+     * @return The event
+     */
+    public static TranslationEvent reload() {
+        return begin(new ReloadEvent());
+    }
+
+    /**
+     * Starts an event timing the conversion of a translation to a component, only recorded above a threshold
+     *
+     * @return The event
+     */
+    public static TranslationEvent convert() {
+        return begin(new ConvertEvent());
+    }
+
+    private static <T extends Event & TranslationEvent> TranslationEvent begin(T event) {
+        if (!event.isEnabled())
+            return TranslationEvent.NONE;
+
+        event.begin();
+        return event;
+    }
+
+    @Name("io.github.milkdrinkers.wordweaver.Parse")
+    @Label("Bundle Parse")
+    @Description("Parsing of a bundle file or resource")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ParseEvent extends Event implements TranslationEvent {
+        @Label("Locale")
+        String locale;
+
+        @Label("File")
+        String file;
+
+        @Label("Entries")
+        @Description("The number of entries parsed, or -1 if the entries are parsed lazily")
+        int entries;
+
+        @Label("Size")
+        @Description("The size of the file, or -1 for resources")
+        @DataAmount
+        long bytes;
+
+        @Override
+        public TranslationEvent locale(Locale locale) {
+            this.locale = toTag(locale);
+            return this;
+        }
+
+        @Override
+        public TranslationEvent file(String file) {
+            this.file = file;
+            return this;
+        }
+
+        @Override
+        public TranslationEvent entries(int entries) {
+            this.entries = entries;
+            return this;
+        }
+
+        @Override
+        public TranslationEvent bytes(long bytes) {
+            this.bytes = bytes;
+            return this;
+        }
+    }
+
+    @Name("io.github.milkdrinkers.wordweaver.ResolveReferences")
+    @Label("Reference Resolution")
+    @Description("Resolution of the key references in a bundle")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ResolveReferencesEvent extends Event implements TranslationEvent {
+        @Label("Locale")
+        String locale;
+
+        @Label("Entries")
+        @Description("The number of entries resolved, or -1 if the entries are resolved lazily")
+        int entries;
+
+        @Override
+        public TranslationEvent locale(Locale locale) {
+            this.locale = toTag(locale);
+            return this;
+        }
+
+        @Override
+        public TranslationEvent entries(int entries) {
+            this.entries = entries;
+            return this;
+        }
+    }
+
+    @Name("io.github.milkdrinkers.wordweaver.Publish")
+    @Label("Bundle Publish")
+    @Description("Publication of a bundle to the registry")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class PublishEvent extends Event implements TranslationEvent {
+        @Label("Locale")
+        String locale;
+
+        @Label("Bundles")
+        @Description("The number of bundles registered after the publication")
+        int bundles;
+
+        @Override
+        public TranslationEvent locale(Locale locale) {
+            this.locale = toTag(locale);
+            return this;
+        }
+
+        @Override
+        public TranslationEvent bundles(int bundles) {
+            this.bundles = bundles;
+            return this;
+        }
+    }
+
+    @Name("io.github.milkdrinkers.wordweaver.Reload")
+    @Label("Translation Reload")
+    @Description("Reload of every bundle")
+    @Category(CATEGORY)
+    static final class ReloadEvent extends Event implements TranslationEvent {
+        @Label("Bundles")
+        @Description("The number of bundles registered after the reload")
+        int bundles;
+
+        @Override
+        public TranslationEvent bundles(int bundles) {
+            this.bundles = bundles;
+            return this;
+        }
+    }
+
+    @Name("io.github.milkdrinkers.wordweaver.Convert")
+    @Label("Slow Component Conversion")
+    @Description("Conversion of a translation to a component that took longer than the threshold")
+    @Category(CATEGORY)
+    @Threshold("1 ms")
+    static final class ConvertEvent extends Event implements TranslationEvent {
+        @Label("Locale")
+        String locale;
+
+        @Label("Key")
+        String key;
+
+        @Label("Length")
+        @Description("The length of the converted translation")
+        int length;
+
+        @Override
+        public TranslationEvent locale(Locale locale) {
+            this.locale = toTag(locale);
+            return this;
+        }
+
+        @Override
+        public TranslationEvent key(String key) {
+            this.key = key;
+            return this;
+        }
+
+        @Override
+        public TranslationEvent length(int length) {
+            this.length = length;
+            return this;
+        }
+    }
+}
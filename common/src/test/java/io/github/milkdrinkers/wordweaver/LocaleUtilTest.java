@@ -2,11 +2,15 @@ package io.github.milkdrinkers.wordweaver;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
 
+import static io.github.milkdrinkers.wordweaver.LocaleUtil.fallbacksOf;
 import static io.github.milkdrinkers.wordweaver.LocaleUtil.fromTag;
 import static io.github.milkdrinkers.wordweaver.LocaleUtil.toTag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class LocaleUtilTest {
     @Test
@@ -26,4 +30,18 @@ class LocaleUtilTest {
         assertEquals("fr_FR", toTag(fromTag("fr_FR")));
         assertEquals("fr_FR", toTag(fromTag("fr-FR")));
     }
+
+    @Test
+    void fromTagIgnoresCaseAndInternsLocales() {
+        assertEquals(Locale.forLanguageTag("zh-CN"), fromTag("zh_cn"));
+        assertEquals(Locale.forLanguageTag("en-US"), fromTag("EN-us"));
+        assertSame(fromTag("en_us"), fromTag("en_us"));
+    }
+
+    @Test
+    void fallbacksGoFromSpecificToLanguage() {
+        assertEquals(Arrays.asList(fromTag("zh_Hant_TW"), fromTag("zh_TW"), fromTag("zh_Hant"), fromTag("zh")), fallbacksOf(fromTag("zh_Hant_TW")));
+        assertEquals(Arrays.asList(fromTag("en_US"), fromTag("en")), fallbacksOf(fromTag("en_US")));
+        assertEquals(Collections.singletonList(fromTag("en")), fallbacksOf(fromTag("en")));
+    }
 }
@@ -0,0 +1,186 @@
+package io.github.milkdrinkers.wordweaver;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.metrics.MissingKeyTracker;
+import io.github.milkdrinkers.wordweaver.service.impl.TranslationServiceImpl;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.pointer.Pointers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Enforces the allocation budgets of the lookup hot paths, in bytes allocated per call once warmed up. Components are
+ * measured once cached, as converting them allocates by nature.
+ * <p>
+ * This is the only test initializing the global {@link Translation} singleton.
+ */
+class TranslationAllocationTest {
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 50_000;
+    private static final int OPTIONAL = 16;
+
+    @TempDir
+    static Path dir;
+    private static volatile Object sink;
+    private static TranslationServiceImpl metered;
+    private static TranslationServiceImpl tracked;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        Files.write(dir.resolve("en_US.properties"), "greeting=Hello\nonly_en=EN only\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("fr_FR.properties"), "greeting=Bonjour\n".getBytes(StandardCharsets.UTF_8));
+
+        Translation.initialize(TranslationConfig.builder()
+            .namespace("wordweaver:allocation")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .build());
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:allocation-metrics")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .metrics(true)
+            .build();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        metered = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+
+        final TranslationConfig trackedConfig = TranslationConfig.builder()
+            .namespace("wordweaver:allocation-missing")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .missingTranslationHandler(MissingKeyTracker.builder().build())
+            .build();
+        final TranslationBundleRegistry trackedRegistry = new TranslationBundleRegistryImpl(trackedConfig);
+        tracked = new TranslationServiceImpl(trackedConfig, trackedRegistry, new DefaultTranslationLoader(trackedConfig, trackedRegistry));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        metered.shutdown();
+        tracked.shutdown();
+    }
+
+    @Test
+    void ofDoesNotAllocate() {
+        assertEquals("Bonjour", Translation.of("greeting"));
+        assertAllocatesAtMost(0, () -> sink = Translation.of("greeting"));
+    }
+
+    @Test
+    void ofListDoesNotAllocate() {
+        assertEquals(Collections.singletonList("Bonjour"), Translation.ofList("greeting"));
+        assertAllocatesAtMost(0, () -> sink = Translation.ofList("greeting"));
+    }
+
+    @Test
+    void ofDefaultLocaleFallbackDoesNotAllocate() {
+        assertEquals("EN only", Translation.of("only_en"));
+        assertAllocatesAtMost(0, () -> sink = Translation.of("only_en"));
+    }
+
+    @Test
+    void ofMissingKeyDoesNotAllocate() {
+        assertEquals("fallback", Translation.of("does.not.exist", "fallback"));
+        assertAllocatesAtMost(0, () -> sink = Translation.of("does.not.exist", "fallback"));
+    }
+
+    @Test
+    void ofListMissingKeyDoesNotAllocate() {
+        final List<String> fallback = Collections.singletonList("fallback");
+        assertAllocatesAtMost(0, () -> sink = Translation.ofList("does.not.exist", fallback));
+    }
+
+    @Test
+    void asDoesNotAllocateOnceCached() {
+        assertEquals(Translation.as("greeting"), Translation.as("greeting"));
+        assertAllocatesAtMost(0, () -> sink = Translation.as("greeting"));
+    }
+
+    @Test
+    void asForViewerDoesNotAllocateOnceCached() {
+        final Pointered viewer = new Pointered() {
+            private final Pointers pointers = Pointers.builder().withStatic(Identity.LOCALE, Locale.forLanguageTag("en-US")).build();
+
+            @Override
+            public Pointers pointers() {
+                return pointers;
+            }
+        };
+
+        // Adventure's pointer lookup returns an Optional, nothing else may be allocated
+        assertEquals(Translation.as(viewer, "greeting"), Translation.as(viewer, "greeting"));
+        assertAllocatesAtMost(OPTIONAL, () -> sink = Translation.as(viewer, "greeting"));
+    }
+
+    @Test
+    void asListDoesNotAllocateOnceCached() {
+        assertEquals(1, Translation.asList("greeting").size());
+        assertAllocatesAtMost(0, () -> sink = Translation.asList("greeting"));
+    }
+
+    @Test
+    void meteredLookupsDoNotAllocate() {
+        assertNotNull(metered.getMetrics());
+        assertEquals("Bonjour", metered.getString("greeting", null));
+        assertAllocatesAtMost(0, () -> sink = metered.getString("greeting", null));
+        assertAllocatesAtMost(0, () -> sink = metered.getString("does.not.exist", "fallback"));
+        assertAllocatesAtMost(0, () -> sink = metered.getComponent("greeting", null));
+    }
+
+    @Test
+    void trackedMissesDoNotAllocate() {
+        assertEquals("fallback", tracked.getString("does.not.exist", "fallback"));
+        assertAllocatesAtMost(0, () -> sink = tracked.getString("does.not.exist", "fallback"));
+    }
+
+    private static void assertAllocatesAtMost(long budget, Runnable call) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Thread allocation counters are not available");
+
+        final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled(), "Thread allocation counters are disabled");
+
+        for (int i = 0; i < WARMUP_CALLS; i++)
+            call.run();
+
+        final long thread = Thread.currentThread().getId();
+        final long before = allocations.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_CALLS; i++)
+            call.run();
+        final long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+
+        final long perCall = allocated / MEASURED_CALLS; // Rounds the cost of measuring away
+        assertTrue(perCall <= budget, "Allocated " + perCall + " bytes per call, over the budget of " + budget);
+    }
+}
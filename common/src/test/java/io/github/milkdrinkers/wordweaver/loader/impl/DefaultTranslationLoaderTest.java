@@ -5,27 +5,39 @@ import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultTranslationLoaderTest {
     private static final Locale EN = Locale.forLanguageTag("en-US");
+    private static final Locale FR = Locale.forLanguageTag("fr-FR");
 
     @TempDir
     Path dir;
@@ -66,6 +78,25 @@ class DefaultTranslationLoaderTest {
         assertEquals("Welcome to WordWeaver", bundle.getEntry("welcome").getValue());
     }
 
+    @Test
+    void resolvesMissingReferencesFromDefaultLocale() throws IOException {
+        Files.write(dir.resolve("en_US.properties"), "brand=WordWeaver\nwelcome=Welcome to <key:brand>\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("fr_FR.properties"), "welcome=Bienvenue sur <key:brand>\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationBundle bundle = load(baseConfig()).get(Locale.forLanguageTag("fr-FR"));
+
+        assertEquals("Bienvenue sur WordWeaver", bundle.getEntry("welcome").getValue());
+    }
+
+    @Test
+    void loadsJsonWithBuiltInParser() throws IOException {
+        Files.write(dir.resolve("en_US.jsonc"), "{\n  // comment\n  \"messages\": {\"greeting\": \"Hello\"}\n}".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationBundle bundle = load(baseConfig()).get(EN);
+
+        assertEquals("Hello", bundle.getEntry("messages.greeting").getValue());
+    }
+
     @Test
     void ignoresFilesWithUnknownExtensions() throws IOException {
         Files.write(dir.resolve("en_US.properties"), "a=1\n".getBytes(StandardCharsets.UTF_8));
@@ -96,6 +127,342 @@ class DefaultTranslationLoaderTest {
         assertEquals("customValue", bundle.getEntry("customKey").getValue());
     }
 
+    @Test
+    void loadsStraightFromResourcesWithoutExtracting() throws IOException {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .resourcesDirectory(Paths.get("bundled"))
+            .loadFromResources(true)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final DefaultTranslationLoader loader = new DefaultTranslationLoader(config, registry);
+        loader.extractMissingBundles();
+        loader.loadBundles();
+
+        assertEquals("Hello", registry.get(EN).getEntry("greeting").getValue());
+        assertEquals("Bonjour", registry.get(Locale.forLanguageTag("fr-FR")).getEntry("greeting").getValue());
+    }
+
+    @Test
+    void layersTranslationDirectoryOverResources() throws IOException {
+        Files.write(dir.resolve("en_US.properties"), "greeting=Howdy\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .resourcesDirectory(Paths.get("bundled"))
+            .loadFromResources(true)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final DefaultTranslationLoader loader = new DefaultTranslationLoader(config, registry);
+        loader.extractMissingBundles();
+        loader.updateExistingBundles();
+        loader.loadBundles();
+
+        final TranslationBundle bundle = registry.get(EN);
+        assertEquals("Howdy", bundle.getEntry("greeting").getValue());
+        assertEquals("Goodbye", bundle.getEntry("farewell").getValue());
+
+        // Nothing was extracted or merged into the translation directory
+        assertTrue(Files.notExists(dir.resolve("fr_FR.properties")));
+        assertEquals("greeting=Howdy\n", new String(Files.readAllBytes(dir.resolve("en_US.properties")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void loadsCompressedBundleFiles() throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve("en_US.json.gz")))) {
+            out.write("{\"messages\": {\"welcome\": \"Hi\"}}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final TranslationBundle bundle = load(baseConfig()).get(EN);
+
+        assertEquals("Hi", bundle.getEntry("messages.welcome").getValue());
+    }
+
+    @Test
+    void loadsCompressedResources() throws IOException {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .resourcesDirectory(Paths.get("compressed"))
+            .loadFromResources(true)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build();
+
+        final TranslationBundleRegistry registry = load(config);
+
+        assertEquals("Hello", registry.get(EN).getEntry("greeting").getValue());
+        assertEquals("Bonjour", registry.get(Locale.forLanguageTag("fr-FR")).getEntry("greeting").getValue());
+    }
+
+    @Test
+    void mergeKeepsCompression() throws IOException {
+        final Path bundle = dir.resolve("en_US.properties.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(bundle))) {
+            out.write("greeting=Howdy\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .resourcesDirectory(Paths.get("compressed"))
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final DefaultTranslationLoader loader = new DefaultTranslationLoader(config, registry);
+        loader.extractMissingBundles();
+        loader.updateExistingBundles();
+        loader.loadBundles();
+
+        assertEquals("Howdy", registry.get(EN).getEntry("greeting").getValue());
+        assertEquals("Goodbye", registry.get(EN).getEntry("farewell").getValue());
+        assertEquals("Bonjour", registry.get(Locale.forLanguageTag("fr-FR")).getEntry("greeting").getValue());
+
+        // Both the merged and the extracted bundle are still compressed
+        for (Path file : new Path[]{bundle, dir.resolve("fr_FR.json.gz")}) {
+            final byte[] bytes = Files.readAllBytes(file);
+            assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xFF) | (bytes[1] & 0xFF) << 8, file.toString());
+        }
+    }
+
+    @Test
+    void mergesFilesOfLocaleDirectory() throws IOException {
+        Files.createDirectories(dir.resolve("en_US"));
+        Files.write(dir.resolve("en_US").resolve("gui.properties"), "gui.title=Menu\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("en_US").resolve("commands.jsonc"), "{\"commands\": {\"help\": \"Help\"}}".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("en_US.properties"), "greeting=Hello\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationBundle bundle = load(baseConfig()).get(EN);
+
+        assertEquals("Menu", bundle.getEntry("gui.title").getValue());
+        assertEquals("Help", bundle.getEntry("commands.help").getValue());
+        assertEquals("Hello", bundle.getEntry("greeting").getValue());
+    }
+
+    @Test
+    void duplicateKeysKeepTheFirstFile() throws IOException {
+        Files.createDirectories(dir.resolve("en_US"));
+        Files.write(dir.resolve("en_US").resolve("a.properties"), "title=First\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("en_US").resolve("b.properties"), "title=Second\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationBundle bundle = load(baseConfig()).get(EN);
+
+        assertEquals("First", bundle.getEntry("title").getValue());
+    }
+
+    @Test
+    void reloadOnlyParsesChangedLocales() throws IOException {
+        Files.createDirectories(dir.resolve("en_US").resolve("nested"));
+        final Path gui = dir.resolve("en_US").resolve("gui.count");
+        final Path commands = dir.resolve("en_US").resolve("commands.count");
+        final Path nested = dir.resolve("en_US").resolve("nested").resolve("deep.count");
+        final Path french = dir.resolve("fr_FR.count");
+        Files.write(gui, "gui".getBytes(StandardCharsets.UTF_8));
+        Files.write(commands, "commands".getBytes(StandardCharsets.UTF_8));
+        Files.write(nested, "deep".getBytes(StandardCharsets.UTF_8));
+        Files.write(french, "fr".getBytes(StandardCharsets.UTF_8));
+
+        final CountingParser parser = new CountingParser();
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .parser(parser)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final DefaultTranslationLoader loader = new DefaultTranslationLoader(config, registry);
+        loader.loadBundles();
+        assertNull(parser.parses.get(nested)); // Deeper than a locale directory
+
+        Files.write(french, "fr changed".getBytes(StandardCharsets.UTF_8));
+        registry.clear();
+        loader.loadBundles();
+
+        assertEquals(1, parser.parses.get(gui).get());
+        assertEquals(1, parser.parses.get(commands).get());
+        assertEquals(2, parser.parses.get(french).get());
+        assertEquals("fr changed", registry.get(FR).getEntry("fr_FR").getValue());
+        assertEquals("gui", registry.get(EN).getEntry("gui").getValue());
+
+        // Other locales fall back to the default locale, so changing it parses every locale again
+        Files.write(commands, "commands changed".getBytes(StandardCharsets.UTF_8));
+        loader.loadBundles();
+
+        assertEquals(2, parser.parses.get(gui).get());
+        assertEquals(2, parser.parses.get(commands).get());
+        assertEquals(3, parser.parses.get(french).get());
+        assertEquals("commands changed", registry.get(EN).getEntry("commands").getValue());
+    }
+
+    @Test
+    void loadsLocaleDirectoriesFromResources() throws IOException {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .resourcesDirectory(Paths.get("split"))
+            .loadFromResources(true)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build();
+
+        final TranslationBundle bundle = load(config).get(EN);
+
+        assertEquals("Menu", bundle.getEntry("gui.title").getValue());
+        assertEquals("Help", bundle.getEntry("commands.help").getValue());
+    }
+
+    @Test
+    void lazyBundlesResolveReferencesWhenSectionsLoad() throws IOException {
+        Files.write(dir.resolve("en_US.lazy"), new byte[0]);
+
+        final AtomicInteger loads = new AtomicInteger();
+        final TranslationParser parser = new TranslationParser() {
+            @Override
+            public Set<String> extensions() {
+                return Collections.singleton("lazy");
+            }
+
+            @Override
+            public Map<String, TranslationBundleEntry> parse(Path file) {
+                final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+                sections.put("gui", () -> {
+                    loads.incrementAndGet();
+                    return Collections.singletonMap("gui.title", new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "<key:commands.help> Menu"));
+                });
+                sections.put("commands", () -> {
+                    loads.incrementAndGet();
+                    return Collections.singletonMap("commands.help", new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "Help"));
+                });
+                sections.put("unused", () -> {
+                    loads.incrementAndGet();
+                    return Collections.singletonMap("unused.key", new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "Unused"));
+                });
+                return new LazySectionMap(Collections.emptyMap(), sections);
+            }
+        };
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .parser(parser)
+            .build();
+
+        final TranslationBundle bundle = load(config).get(EN);
+        assertEquals(0, loads.get());
+
+        assertEquals("Help Menu", bundle.getEntry("gui.title").getValue());
+        assertEquals(2, loads.get()); // The referenced section is loaded too, the unused one is not
+    }
+
+    @Test
+    void bundleCacheSkipsParsingUnchangedBundlesAfterRestart() throws IOException {
+        final Locale fr = Locale.forLanguageTag("fr-FR");
+        Files.createDirectories(dir.resolve("en_US"));
+        Files.createDirectories(dir.resolve("fr_FR"));
+        final Path brand = dir.resolve("en_US").resolve("brand.count");
+        final Path welcome = dir.resolve("fr_FR").resolve("welcome.count");
+        Files.write(brand, "WordWeaver".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("en_US").resolve("welcome.count"), "Welcome to <key:brand>".getBytes(StandardCharsets.UTF_8));
+        Files.write(welcome, "Bienvenue sur <key:brand>".getBytes(StandardCharsets.UTF_8));
+
+        // The first start parses every file and fills the cache
+        CountingParser parser = new CountingParser();
+        loadCached(parser);
+        assertEquals(3, parser.total());
+        assertTrue(Files.exists(dir.resolve(TranslationConfig.BUNDLE_CACHE_FILE_NAME)));
+
+        // A restart reads every bundle back, already resolved
+        parser = new CountingParser();
+        TranslationBundleRegistry registry = loadCached(parser);
+        assertEquals(0, parser.total());
+        assertEquals("Welcome to WordWeaver", registry.get(EN).getEntry("welcome").getValue());
+        assertEquals("Bienvenue sur WordWeaver", registry.get(fr).getEntry("welcome").getValue());
+
+        // Only the changed locale is parsed again
+        Files.write(welcome, "Salut <key:brand>".getBytes(StandardCharsets.UTF_8));
+        parser = new CountingParser();
+        registry = loadCached(parser);
+        assertEquals(1, parser.total());
+        assertEquals("Salut WordWeaver", registry.get(fr).getEntry("welcome").getValue());
+
+        // Every locale falls back to the default locale, so changing it parses everything again
+        Files.write(brand, "WW".getBytes(StandardCharsets.UTF_8));
+        parser = new CountingParser();
+        registry = loadCached(parser);
+        assertEquals(3, parser.total());
+        assertEquals("Salut WW", registry.get(fr).getEntry("welcome").getValue());
+
+        // A corrupted cache is ignored and rewritten
+        Files.write(dir.resolve(TranslationConfig.BUNDLE_CACHE_FILE_NAME), new byte[]{0x57, 0x57, 0x42, 0x43, 0, 0, 0, 1, 0x7F});
+        parser = new CountingParser();
+        registry = loadCached(parser);
+        assertEquals(3, parser.total());
+        assertEquals("Welcome to WW", registry.get(EN).getEntry("welcome").getValue());
+
+        parser = new CountingParser();
+        loadCached(parser);
+        assertEquals(0, parser.total());
+    }
+
+    private TranslationBundleRegistry loadCached(TranslationParser parser) throws IOException {
+        return load(TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .parser(parser)
+            .bundleCache(true)
+            .build());
+    }
+
+    /**
+     * A parser for a fictional ".count" format that counts how often each file is parsed, storing the file content
+     * under the file name.
+     */
+    private static final class CountingParser implements TranslationParser {
+        private final Map<Path, AtomicInteger> parses = new ConcurrentHashMap<>();
+
+        private int total() {
+            return parses.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        @Override
+        public Set<String> extensions() {
+            return Collections.singleton("count");
+        }
+
+        @Override
+        public Map<String, TranslationBundleEntry> parse(Path file) {
+            parses.computeIfAbsent(file, path -> new AtomicInteger()).incrementAndGet();
+
+            try {
+                final String name = file.getFileName().toString();
+                final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+                entries.put(name.substring(0, name.indexOf('.')), new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+                return entries;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
     /**
      * A trivial parser for a fictional ".custom" format, used to verify explicit registration.
      */
@@ -7,12 +7,19 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -50,6 +57,37 @@ class FileExtractorTest {
         assertTrue(Files.exists(outputDir.resolve("en_GB.json")));
     }
 
+    /**
+     * Test that compressed bundle files are recognized by the extension of their format
+     */
+    @Test
+    void shouldRecognizeCompressedBundles() throws IOException {
+        assertTrue(FileExtractor.isCompressed("en_US.json.GZ"));
+        assertEquals("json", FileExtractor.extensionOf("en_US.json.gz"));
+        assertEquals("en_US", FileExtractor.stemOf("en_US.json.gz"));
+        assertEquals("properties", FileExtractor.extensionOf("en_US.properties"));
+        assertEquals("", FileExtractor.extensionOf("en_US.gz"));
+
+        List<Path> extractedFiles = FileExtractor.extractMissingResources(outputDir, Path.of("compressed"), Set.of("properties", "json"));
+
+        assertEquals(2, extractedFiles.size());
+        assertTrue(Files.exists(outputDir.resolve("en_US.properties.gz")));
+        assertTrue(Files.exists(outputDir.resolve("fr_FR.json.gz")));
+    }
+
+    /**
+     * Test that files inside locale subdirectories are extracted into the same subdirectories
+     */
+    @Test
+    void shouldKeepLocaleSubdirectoriesWhenExtracting() throws IOException {
+        List<Path> extractedFiles = FileExtractor.extractMissingResources(outputDir, Path.of("split"), Collections.singleton("properties"));
+
+        assertEquals(3, extractedFiles.size());
+        assertTrue(Files.exists(outputDir.resolve("en_US").resolve("gui.properties")));
+        assertTrue(Files.exists(outputDir.resolve("en_US").resolve("commands.properties")));
+        assertTrue(Files.exists(outputDir.resolve("fr_FR.properties")));
+    }
+
     /**
      * Test that files are not extracted when they already exist
      */
@@ -108,6 +146,83 @@ class FileExtractorTest {
         assertTrue(fileNames.contains("fr_FR.jsonc"));
     }
 
+    /**
+     * Test finding resources in a JAR, and that the index is reused on later lookups
+     */
+    @Test
+    void shouldIndexResourcesInJarOnce() throws Exception {
+        // Create a JAR with bundle files among many unrelated entries
+        Path jarFile = tempDir.resolve("plugin.jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            for (int i = 0; i < 500; i++)
+                writeEntry(jar, "com/example/Class" + i + ".class", "");
+            writeEntry(jar, "lang/", "");
+            writeEntry(jar, "lang/en_US.jsonc", "{}");
+            writeEntry(jar, "lang/fr_FR.json", "{}");
+            writeEntry(jar, "lang/readme.txt", "");
+            writeEntry(jar, "language/de_DE.json", "{}");
+        }
+
+        try (URLClassLoader jarLoader = new URLClassLoader(new URL[]{jarFile.toUri().toURL()}, null)) {
+            Field classLoaderField = FileExtractor.class.getDeclaredField("CLASS_LOADER");
+            classLoaderField.setAccessible(true);
+            classLoaderField.set(null, jarLoader);
+
+            List<String> fileNames = FileExtractor.findResourceFiles(Path.of("lang"), EXTENSIONS).stream()
+                .map(s -> s.getFileName().toString())
+                .toList();
+
+            // Only bundle files in the resource directory were found
+            assertEquals(2, fileNames.size());
+            assertTrue(fileNames.contains("en_US.jsonc"));
+            assertTrue(fileNames.contains("fr_FR.json"));
+
+            // A second lookup, e.g. while updating bundles, is served from the index and filtered by extension
+            assertEquals(1, FileExtractor.findResourceFiles(Path.of("lang"), Set.of("jsonc")).size());
+
+            // Extraction copies the resources out of the JAR
+            List<Path> extractedFiles = FileExtractor.extractMissingResources(outputDir, Path.of("lang"), EXTENSIONS);
+            assertEquals(2, extractedFiles.size());
+            assertEquals("{}", Files.readString(outputDir.resolve("fr_FR.json")));
+        }
+    }
+
+    @Test
+    void shouldListJarResourcesInSortedOrder() throws Exception {
+        // Written out of order, as a build tool may
+        Path jarFile = tempDir.resolve("sorted.jar");
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            writeEntry(jar, "lang/", "");
+            for (char file = 'z'; file >= 'a'; file--)
+                writeEntry(jar, "lang/en_US/" + file + ".json", "{}");
+            writeEntry(jar, "lang/fr_FR.json", "{}");
+            writeEntry(jar, "lang/de_DE.json", "{}");
+        }
+
+        try (URLClassLoader jarLoader = new URLClassLoader(new URL[]{jarFile.toUri().toURL()}, null)) {
+            Field classLoaderField = FileExtractor.class.getDeclaredField("CLASS_LOADER");
+            classLoaderField.setAccessible(true);
+            classLoaderField.set(null, jarLoader);
+
+            List<String> resources = FileExtractor.findResourceFiles(Path.of("lang"), EXTENSIONS).stream()
+                .map(path -> path.toString().replace('\\', '/'))
+                .toList();
+
+            List<String> expected = new ArrayList<>();
+            expected.add("lang/de_DE.json");
+            for (char file = 'a'; file <= 'z'; file++)
+                expected.add("lang/en_US/" + file + ".json");
+            expected.add("lang/fr_FR.json");
+            assertEquals(expected, resources);
+        }
+    }
+
+    private static void writeEntry(JarOutputStream jar, String name, String content) throws IOException {
+        jar.putNextEntry(new JarEntry(name));
+        jar.write(content.getBytes(StandardCharsets.UTF_8));
+        jar.closeEntry();
+    }
+
     /**
      * Helper method to restore original ClassLoader after tests
      */
@@ -60,6 +60,33 @@ class ReferenceResolverTest {
         assertEquals(Arrays.asList("WordWeaver one", "two"), resolved.get("list").getValues());
     }
 
+    @Test
+    void shouldFallBackToDefaultLocaleEntries() {
+        final Map<String, TranslationBundleEntry> fallback = new HashMap<>();
+        fallback.put("brand", str("WordWeaver"));
+
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        entries.put("welcome", str("Bienvenue sur <key:brand>"));
+
+        final Map<String, TranslationBundleEntry> resolved = ReferenceResolver.resolve(entries, fallback);
+
+        assertEquals("Bienvenue sur WordWeaver", resolved.get("welcome").getValue());
+    }
+
+    @Test
+    void shouldPreferOwnEntriesOverFallback() {
+        final Map<String, TranslationBundleEntry> fallback = new HashMap<>();
+        fallback.put("brand", str("Default"));
+
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        entries.put("brand", str("Local"));
+        entries.put("welcome", str("<key:brand>"));
+
+        final Map<String, TranslationBundleEntry> resolved = ReferenceResolver.resolve(entries, fallback);
+
+        assertEquals("Local", resolved.get("welcome").getValue());
+    }
+
     @Test
     void shouldTerminateOnCyclicReferences() {
         final Map<String, TranslationBundleEntry> entries = new HashMap<>();
@@ -0,0 +1,94 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeySamplerTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void reportsMostSampledKeysFirst() {
+        final HotKeySampler sampler = new HotKeySampler(1);
+        for (int i = 0; i < 3; i++)
+            sampler.record(Locale.US, "b");
+        sampler.record(Locale.US, "a");
+        sampler.record(Locale.FRANCE, "a");
+        sampler.record(Locale.FRANCE, "a");
+
+        assertEquals(Arrays.asList(
+            new HotKey(Locale.US, "b", 3),
+            new HotKey(Locale.FRANCE, "a", 2),
+            new HotKey(Locale.US, "a", 1)
+        ), sampler.top(10));
+        assertEquals(1, sampler.top(1).size());
+
+        sampler.clear();
+        assertTrue(sampler.top(10).isEmpty());
+    }
+
+    @Test
+    void evictsColdestKeysWhenFull() {
+        final HotKeySampler sampler = new HotKeySampler(1);
+        for (int i = 0; i < 3; i++)
+            sampler.record(Locale.US, "hot");
+        for (int i = 1; i < HotKeySampler.MAX_KEYS; i++)
+            sampler.record(Locale.US, "cold." + i);
+
+        for (int i = 0; i < 5; i++)
+            sampler.record(Locale.US, "late");
+
+        assertEquals(Arrays.asList(
+            new HotKey(Locale.US, "late", 5),
+            new HotKey(Locale.US, "hot", 3)
+        ), sampler.top(2));
+        assertTrue(sampler.top(Integer.MAX_VALUE).size() <= HotKeySampler.MAX_KEYS);
+    }
+
+    @Test
+    void samplesAFractionOfLookups() {
+        final HotKeySampler sampler = new HotKeySampler(16);
+        for (int i = 0; i < 16_000; i++)
+            sampler.record(Locale.US, "key");
+
+        final long samples = sampler.top(1).get(0).getSamples();
+        assertTrue(samples > 500 && samples < 1500, "samples: " + samples);
+    }
+
+    @Test
+    void savedSamplesAreHalvedWhenLoaded() throws Exception {
+        final HotKeySampler sampler = new HotKeySampler(1);
+        for (int i = 0; i < 4; i++)
+            sampler.record(Locale.US, "hot");
+        sampler.record(Locale.US, "cold");
+        sampler.record(Locale.US, "tab\tkey");
+
+        final Path file = dir.resolve(HotKeySampler.FILE_NAME);
+        sampler.save(file, 10);
+        Files.write(file, "not a sample\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        final HotKeySampler restarted = new HotKeySampler(1);
+        restarted.load(file);
+
+        final List<HotKey> hotKeys = restarted.top(10);
+        assertEquals(1, hotKeys.size()); // Cold keys fade out
+        assertEquals(new HotKey(Locale.US, "hot", 2), hotKeys.get(0));
+    }
+
+    @Test
+    void rejectsInvalidSampleRate() {
+        assertThrows(IllegalArgumentException.class, () -> new HotKeySampler(0));
+    }
+}
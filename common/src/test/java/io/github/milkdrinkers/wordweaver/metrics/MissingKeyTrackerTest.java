@@ -0,0 +1,97 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import io.github.milkdrinkers.wordweaver.MissingTranslationHandler;
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MissingKeyTrackerTest {
+    @TempDir
+    Path dir;
+
+    private TranslationConfig config() {
+        return TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(dir)
+            .locale("en_US")
+            .build();
+    }
+
+    @Test
+    void countsDistinctMissesAndDelegates() {
+        final TranslationConfig config = config();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+
+        try (MissingKeyTracker tracker = MissingKeyTracker.builder().build()) {
+            assertEquals("fb", tracker.handle(config, registry, Locale.FRANCE, "a", "fb"));
+            tracker.handle(config, registry, Locale.FRANCE, "a", (String) null);
+            tracker.handleListString(config, registry, Locale.GERMANY, "a", null);
+            tracker.handle(config, registry, "b", (String) null); // Reported in the active locale
+
+            assertEquals(Arrays.asList(
+                new MissingKey(Locale.FRANCE, "a", 2),
+                new MissingKey(Locale.GERMANY, "a", 1),
+                new MissingKey(Locale.US, "b", 1)
+            ), tracker.getMissingKeys());
+            assertEquals(0, tracker.getDroppedMisses());
+        }
+    }
+
+    @Test
+    void flushesInTheBackgroundOnlyAfterNewMisses() throws Exception {
+        final BlockingQueue<List<MissingKey>> reports = new ArrayBlockingQueue<>(16);
+        final Path file = dir.resolve("reports").resolve("missing-keys.tsv");
+
+        try (MissingKeyTracker tracker = MissingKeyTracker.builder()
+            .file(file)
+            .listener(reports::add)
+            .flushInterval(Duration.ofMillis(20))
+            .build()) {
+            tracker.record(Locale.FRANCE, "menu.title");
+
+            final List<MissingKey> report = reports.poll(5, TimeUnit.SECONDS);
+            assertNotNull(report);
+            assertEquals(1, report.size());
+            assertEquals("1\tfr_FR\tmenu.title\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+            // Nothing new was missed, so nothing is flushed
+            assertNull(reports.poll(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void closingFlushesTheFinalReport() throws Exception {
+        final Path file = dir.resolve("missing-keys.tsv");
+        final MissingKeyTracker tracker = MissingKeyTracker.builder()
+            .delegate(MissingTranslationHandler.DEFAULT)
+            .file(file)
+            .flushInterval(Duration.ofHours(1))
+            .build();
+
+        tracker.record(Locale.US, "a");
+        assertFalse(Files.exists(file));
+
+        tracker.close();
+        assertTrue(Files.exists(file));
+        assertEquals("1\ten_US\ta\n", new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+}
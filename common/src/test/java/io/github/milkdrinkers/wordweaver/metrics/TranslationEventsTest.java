@@ -0,0 +1,73 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TranslationEventsTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsLoadingEvents() throws IOException {
+        assumeTrue(TranslationEvents.isSupported(), "Flight recorder events are only compiled for Java 11 and later");
+
+        final Path bundle = dir.resolve("lang").resolve("en_US.properties");
+        Files.createDirectories(bundle.getParent());
+        Files.write(bundle, "greeting=Hello\nfarewell=Bye\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(bundle.getParent())
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .build();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+
+        final Path dump = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.milkdrinkers.wordweaver.Parse");
+            recording.enable("io.github.milkdrinkers.wordweaver.ResolveReferences");
+            recording.enable("io.github.milkdrinkers.wordweaver.Publish");
+            recording.start();
+
+            new DefaultTranslationLoader(config, registry).loadBundles();
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        final List<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toList());
+        assertTrue(names.contains("io.github.milkdrinkers.wordweaver.ResolveReferences"), names.toString());
+        assertTrue(names.contains("io.github.milkdrinkers.wordweaver.Publish"), names.toString());
+
+        final RecordedEvent parse = events.stream()
+            .filter(event -> event.getEventType().getName().equals("io.github.milkdrinkers.wordweaver.Parse"))
+            .findFirst()
+            .orElseThrow(AssertionError::new);
+        assertEquals("en_US", parse.getString("locale"));
+        assertEquals(bundle.toString(), parse.getString("file"));
+        assertEquals(2, parse.getInt("entries"));
+        assertEquals(Files.size(bundle), parse.getLong("bytes"));
+    }
+}
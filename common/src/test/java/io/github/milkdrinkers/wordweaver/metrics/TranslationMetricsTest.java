@@ -0,0 +1,51 @@
+package io.github.milkdrinkers.wordweaver.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TranslationMetricsTest {
+    @Test
+    void countsConcurrentLookups() throws Exception {
+        final TranslationMetrics metrics = new TranslationMetrics();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        metrics.recordLookup(Locale.US, i % 2 == 0);
+                        metrics.recordResolve(true);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(40_000, snapshot.getLookups());
+        assertEquals(20_000, snapshot.getHits());
+        assertEquals(20_000, snapshot.getMisses());
+        assertEquals(0.5, snapshot.getHitRate());
+        assertEquals(1.0, snapshot.getResolveCacheHitRate());
+        assertEquals(40_000L, snapshot.getLookupsByLocale().get("en_US"));
+    }
+
+    @Test
+    void emptyMetricsHaveNoHitRate() {
+        final MetricsSnapshot snapshot = new TranslationMetrics().snapshot();
+        assertEquals(0, snapshot.getLookups());
+        assertEquals(0.0, snapshot.getHitRate());
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuiltInJsonTranslationParserTest {
+    private final BuiltInJsonTranslationParser parser = new BuiltInJsonTranslationParser();
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String content) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void shouldParseNestedAndArrays() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.json", "{\"messages\":{\"welcome\":\"Hi\"},\"rules\":[\"a\",\"b\"]}"));
+
+        assertEquals("Hi", entries.get("messages.welcome").getValue());
+        assertEquals(Arrays.asList("a", "b"), entries.get("rules").getValues());
+
+        // Individual indexed elements (1-based)
+        assertEquals("a", entries.get("rules.1").getValue());
+        assertEquals("b", entries.get("rules.2").getValue());
+    }
+
+    @Test
+    void shouldParseObjectsInsideArrays() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.json", "{\"pages\":[{\"title\":\"First\"},null,[\"nested\"]]}"));
+
+        assertEquals("First", entries.get("pages.1.title").getValue());
+        assertEquals("", entries.get("pages.2").getValue());
+        assertEquals("nested", entries.get("pages.3.1").getValue());
+        assertFalse(entries.containsKey("pages"));
+    }
+
+    @Test
+    void shouldParseJsoncAndLenientSyntax() throws IOException {
+        String content = "\uFEFF{\n"
+            + "  // a comment\n"
+            + "  /* a block\n     comment */\n"
+            + "  # a hash comment\n"
+            + "  greeting: 'Hello',\n"
+            + "  \"escaped\": \"Tab\\there \\\"quoted\\\" \\u00e9\\/\",\n"
+            + "  \"list\": [\"a\"; \"b\",],\n"
+            + "  equals = 'Eq';\n"
+            + "  \"arrow\"=>\"Arrow\",\n"
+            + "  spaced => {nested = 'Nested'}\n"
+            + "}\n";
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.jsonc", content));
+
+        assertEquals("Hello", entries.get("greeting").getValue());
+        assertEquals("Tab\there \"quoted\" é/", entries.get("escaped").getValue());
+        assertEquals(Arrays.asList("a", "b"), entries.get("list").getValues());
+        assertEquals("Eq", entries.get("equals").getValue());
+        assertEquals("Arrow", entries.get("arrow").getValue());
+        assertEquals("Nested", entries.get("spaced.nested").getValue());
+    }
+
+    @Test
+    void numbersAndBooleansBecomeStrings() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.json", "{\"count\":42,\"ratio\":1.50,\"enabled\":true,\"empty\":null}"));
+
+        assertEquals("42", entries.get("count").getValue());
+        assertEquals("1.50", entries.get("ratio").getValue());
+        assertEquals("true", entries.get("enabled").getValue());
+        assertEquals("", entries.get("empty").getValue());
+    }
+
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream("{\"messages\":{\"welcome\":\"Grüß\"}}".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(parser.supportsStreams());
+        assertEquals("Grüß", entries.get("messages.welcome").getValue());
+    }
+
+    @Test
+    void emptyDocumentHasNoEntries() throws IOException {
+        assertTrue(parser.parse(write("en_US.json", "  // nothing\n")).isEmpty());
+    }
+
+    @Test
+    void malformedJsonThrows() throws IOException {
+        for (String content : Arrays.asList("{ this is not valid json ", "{\"a\":\"unterminated}", "{\"a\" \"b\"}", "[\"a\"]", "{\"a\":1} trailing", "{\"a\":\"\\x\"}")) {
+            Path file = write("en_US.json", content);
+
+            assertThrows(TranslationLoadException.class, () -> parser.parse(file), content);
+        }
+    }
+
+    @Test
+    void shouldMergeMissingKeysPreservingTargetValues() throws IOException {
+        Path target = write("en_US.json", "{\"section\":{\"a\":\"keep\"},\"custom\":1}");
+
+        String origin = "{\n  // comment\n  \"section\": {\"a\": \"orig\", \"b\": \"added\"},\n  \"list\": [\"x\", 2, true, null],\n  \"empty\": {}\n}";
+        parser.merge(new ByteArrayInputStream(origin.getBytes(StandardCharsets.UTF_8)), target);
+
+        String expected = "{\n"
+            + "  \"section\": {\n"
+            + "    \"a\": \"keep\",\n"
+            + "    \"b\": \"added\"\n"
+            + "  },\n"
+            + "  \"list\": [\n"
+            + "    \"x\",\n"
+            + "    2,\n"
+            + "    true,\n"
+            + "    null\n"
+            + "  ],\n"
+            + "  \"empty\": {},\n"
+            + "  \"custom\": 1\n"
+            + "}";
+        assertEquals(expected, new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+}
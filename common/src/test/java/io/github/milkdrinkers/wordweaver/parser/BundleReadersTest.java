@@ -0,0 +1,84 @@
+package io.github.milkdrinkers.wordweaver.parser;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BundleReadersTest {
+    private static final String CONTENT = "greeting=Grüß Gott 😀\nfarewell=さようなら\n";
+
+    @TempDir
+    Path tempDir;
+
+    private static String drain(Reader reader, int chunk) throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        final char[] buffer = new char[chunk];
+
+        int read;
+        while ((read = reader.read(buffer, 0, chunk)) != -1)
+            builder.append(buffer, 0, read);
+
+        return builder.toString();
+    }
+
+    @Test
+    void mappedReaderDecodesUtf8() throws IOException {
+        final Path file = tempDir.resolve("en_US.properties");
+        Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        try (Reader reader = BundleReaders.newMappedReader(file)) {
+            assertEquals(CONTENT, drain(reader, 8192));
+        }
+    }
+
+    @Test
+    void mappedReaderSplitsSurrogatePairsAcrossSingleCharReads() throws IOException {
+        final Path file = tempDir.resolve("en_US.properties");
+        Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        try (Reader reader = BundleReaders.newMappedReader(file)) {
+            assertEquals(CONTENT, drain(reader, 1));
+        }
+    }
+
+    @Test
+    void malformedUtf8FailsRegardlessOfSize() throws IOException {
+        final Path file = tempDir.resolve("en_US.properties");
+        final byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        content[content.length - 2] = (byte) 0xFF; // Never valid in UTF-8
+        Files.write(file, content);
+
+        try (Reader reader = BundleReaders.newReader(file)) {
+            assertThrows(MalformedInputException.class, () -> drain(reader, 8192));
+        }
+
+        try (Reader reader = BundleReaders.newMappedReader(file)) {
+            assertThrows(MalformedInputException.class, () -> drain(reader, 8192));
+        }
+    }
+
+    @Test
+    void largeFilesAreParsedThroughTheMappedPath() throws IOException {
+        final Path file = tempDir.resolve("en_US.properties");
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; builder.length() < BundleReaders.MAPPING_THRESHOLD; i++)
+            builder.append("key").append(i).append("=Grüß Gott ").append(i).append('\n');
+        Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+
+        final Map<String, TranslationBundleEntry> entries = new PropertiesTranslationParser().parse(file);
+
+        assertEquals("Grüß Gott 0", entries.get("key0").getValue());
+        assertEquals("Grüß Gott 1000", entries.get("key1000").getValue());
+    }
+}
@@ -1,18 +1,24 @@
 package io.github.milkdrinkers.wordweaver.parser;
 
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PropertiesTranslationParserTest {
@@ -49,6 +55,14 @@ class PropertiesTranslationParserTest {
         assertEquals("Grüß Gott", entries.get("greeting").getValue());
     }
 
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream("greeting=Grüß Gott\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(parser.supportsStreams());
+        assertEquals("Grüß Gott", entries.get("greeting").getValue());
+    }
+
     @Test
     void shouldAppendMissingKeysOnMerge() throws IOException {
         Path target = tempDir.resolve("en_US.properties");
@@ -79,4 +93,67 @@ class PropertiesTranslationParserTest {
         assertEquals("2", entries.get("b").getValue());
         assertEquals(2, entries.size());
     }
-}
+
+    @Test
+    void shouldParseLikeJavaUtilProperties() throws IOException {
+        String content = "# comment\r\n"
+            + "! another comment \\\n"
+            + "  indented = value with trailing space \n"
+            + "colon:separated\n"
+            + "space separated value\n"
+            + "key\\ with\\=escapes = tab\\there\\nnewline \\u00e9\n"
+            + "continued = first \\\n      second \\\r\n third\n"
+            + "empty\n"
+            + "emptyWithSeparator =\n"
+            + "duplicate=first\n"
+            + "duplicate=second\n"
+            + "last=no trailing newline \\";
+
+        Properties expected = new Properties();
+        expected.load(new StringReader(content));
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected.size(), entries.size());
+        for (String key : expected.stringPropertyNames())
+            assertEquals(expected.getProperty(key), entries.get(key).getValue(), key);
+    }
+
+    @Test
+    void shouldStoreDottedListsUnderTheirPrefix() {
+        String content = "rules.1=First\nrules.2=Second\nrules.4=Detached\ntitle=Title\ntitle.1=Not a list\n";
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(entries.get("rules").isCollection());
+        assertEquals(Arrays.asList("First", "Second"), entries.get("rules").getValues());
+        assertEquals("First", entries.get("rules.1").getValue());
+        assertEquals(TranslationBundleEntry.Type.LIST, entries.get("rules.1").getType());
+        assertEquals(TranslationBundleEntry.Type.STRING, entries.get("rules.4").getType()); // Not part of the list
+
+        // An explicit value is never replaced by a list
+        assertEquals("Title", entries.get("title").getValue());
+        assertFalse(entries.get("title").isCollection());
+        assertEquals(TranslationBundleEntry.Type.STRING, entries.get("title.1").getType());
+    }
+
+    @Test
+    void malformedUnicodeEscapeThrows() {
+        ByteArrayInputStream stream = new ByteArrayInputStream("key=\\u00zz\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(TranslationLoadException.class, () -> parser.parse(stream));
+    }
+
+    @Test
+    void shouldAppendMissingKeysInOriginOrder() throws IOException {
+        Path target = tempDir.resolve("en_US.properties");
+        Files.write(target, "b=Custom".getBytes(StandardCharsets.UTF_8));
+
+        String origin = "d=4\na=1\nb=2\nc=3\n";
+        parser.merge(new ByteArrayInputStream(origin.getBytes(StandardCharsets.UTF_8)), target);
+
+        List<String> lines = Files.readAllLines(target, StandardCharsets.UTF_8);
+
+        assertEquals(Arrays.asList("b=Custom", "d=4", "a=1", "c=3"), lines);
+    }
+}
\ No newline at end of file
@@ -1,25 +1,56 @@
 package io.github.milkdrinkers.wordweaver.service.impl;
 
+import io.github.milkdrinkers.wordweaver.LocaleScope;
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
 import io.github.milkdrinkers.wordweaver.loader.TranslationLoader;
 import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.metrics.HotKey;
+import io.github.milkdrinkers.wordweaver.metrics.HotKeySampler;
+import io.github.milkdrinkers.wordweaver.metrics.MetricsSnapshot;
+import io.github.milkdrinkers.wordweaver.metrics.MissingKey;
+import io.github.milkdrinkers.wordweaver.metrics.MissingKeyTracker;
+import io.github.milkdrinkers.wordweaver.metrics.TranslationMetrics;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleImpl;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.pointer.Pointered;
+import net.kyori.adventure.pointer.Pointers;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import net.kyori.adventure.translation.Translator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.management.ObjectName;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TranslationServiceImplTest {
@@ -92,4 +123,375 @@ class TranslationServiceImplTest {
         service.reload();
         assertEquals("Salut", service.getString("greeting", null));
     }
+
+    @Test
+    void reloadReplacesBundlesOfLoadersThatRegister() {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:register")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .build();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final AtomicInteger loads = new AtomicInteger();
+
+        // A loader written before replace existed, registering each bundle
+        final TranslationLoader loader = new TranslationLoader() {
+            @Override
+            public void extractMissingBundles() {
+            }
+
+            @Override
+            public void updateExistingBundles() {
+            }
+
+            @Override
+            public void loadBundles() {
+                final int load = loads.incrementAndGet();
+                final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+                entries.put("greeting", new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "Load " + load));
+                registry.register(new TranslationBundleImpl(Locale.forLanguageTag("fr-FR"), entries));
+                if (load == 1)
+                    registry.register(new TranslationBundleImpl(Locale.forLanguageTag("de-DE"), entries));
+            }
+        };
+
+        final TranslationServiceImpl registering = new TranslationServiceImpl(config, registry, loader);
+        try {
+            assertEquals("Load 1", registering.getString("greeting", null));
+
+            registering.reload();
+            assertEquals("Load 2", registering.getString("greeting", null));
+            assertFalse(registry.isRegistered(Locale.forLanguageTag("de-DE")));
+        } finally {
+            registering.shutdown();
+        }
+    }
+
+    @Test
+    void lookupsNeverMissDuringReload() throws Exception {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<?>> readers = new ArrayList<>();
+        try {
+            for (int reader = 0; reader < 4; reader++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        assertEquals("Bonjour", service.getString("greeting", "missing"));
+                        assertEquals("EN only", service.getString("only_en", "missing"));
+                    }
+                }));
+            }
+
+            for (int reload = 0; reload < 200; reload++)
+                service.reload();
+        } finally {
+            running.set(false);
+            executor.shutdown();
+        }
+
+        for (Future<?> reader : readers)
+            reader.get(30, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void localeScopeOverridesActiveLocaleOnThisThread() throws Exception {
+        final LocaleScope scope = LocaleScope.open(Locale.forLanguageTag("en-US"));
+        try {
+            assertEquals("Hello", service.getString("greeting", null));
+
+            // Other threads keep using the active locale
+            final ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertEquals("Bonjour", executor.submit(() -> service.getString("greeting", null)).get());
+            } finally {
+                executor.shutdown();
+            }
+        } finally {
+            scope.close();
+        }
+
+        assertEquals("Bonjour", service.getString("greeting", null));
+        assertNull(LocaleScope.current());
+    }
+
+    @Test
+    void nestedLocaleScopesRestoreTheEnclosingLocale() {
+        final LocaleScope scope = LocaleScope.open(Locale.forLanguageTag("en-US"));
+        try {
+            assertEquals("Bonjour", LocaleScope.call(Locale.forLanguageTag("fr-FR"), () -> service.getString("greeting", null)));
+            assertEquals("Hello", service.getString("greeting", null));
+        } finally {
+            scope.close();
+        }
+
+        assertEquals(Locale.forLanguageTag("fr-FR"), service.getLocale());
+    }
+
+    @Test
+    void metricsAreDisabledByDefault() {
+        assertNull(service.getMetrics());
+    }
+
+    @Test
+    void metricsCountLookups() throws Exception {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:metrics")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .jmx(true)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl metered = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        final TranslationMetrics metrics = metered.getMetrics();
+        assertNotNull(metrics);
+
+        try {
+            metered.getString("greeting", null);
+            metered.getString("only_en", null);
+            metered.getString("does.not.exist", "fb");
+            metered.getComponent("greeting", null);
+
+            final MetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals(4, snapshot.getLookups());
+            assertEquals(2, snapshot.getHits());
+            assertEquals(2, snapshot.getMisses());
+            assertEquals(1, snapshot.getFallbackHits());
+            assertEquals(1, snapshot.getComponentConversions());
+            assertEquals(4L, snapshot.getLookupsByLocale().get("fr_FR"));
+
+            final ObjectName name = new ObjectName("io.github.milkdrinkers.wordweaver:type=TranslationMetrics,name=" + ObjectName.quote("wordweaver:metrics"));
+            assertEquals(4L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Lookups"));
+
+            metrics.reset();
+            assertEquals(0, metrics.getLookups());
+        } finally {
+            metrics.unregisterMBean();
+        }
+    }
+
+    @Test
+    void componentsAreCachedUntilReload() throws IOException {
+        Files.write(dir.resolve("fr_FR.properties"), "greeting=Bonjour\nfarewell=Au revoir\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:components")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .metrics(true)
+            .componentCache(1)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl cached = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        final TranslationMetrics metrics = cached.getMetrics();
+        assertNotNull(metrics);
+
+        final Component greeting = cached.getComponent("greeting", null);
+        assertSame(greeting, cached.getComponent("greeting", null));
+        assertEquals(Collections.singletonList(greeting), cached.getComponentList("greeting", null));
+        assertSame(cached.getComponentList("greeting", null), cached.getComponentList("greeting", null)); // Shared, not copied
+        assertThrows(UnsupportedOperationException.class, () -> cached.getComponentList("greeting", null).clear());
+        assertEquals(2, metrics.getComponentConversions());
+
+        // Entries beyond the cache size are converted on every lookup
+        cached.getComponent("farewell", null);
+        cached.getComponent("farewell", null);
+        assertEquals(4, metrics.getComponentConversions());
+
+        // Reloaded bundles start with an empty cache
+        cached.reload();
+        assertEquals(greeting, cached.getComponent("greeting", null));
+        assertEquals(5, metrics.getComponentConversions());
+    }
+
+    @Test
+    void shutdownUnregistersTheMBeanAndTranslatorSource() throws Exception {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:shutdown")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .jmx(true)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl metered = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        final ObjectName name = new ObjectName("io.github.milkdrinkers.wordweaver:type=TranslationMetrics,name=" + ObjectName.quote("wordweaver:shutdown"));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertTrue(isTranslatorSource(Key.key("wordweaver:shutdown")));
+
+        metered.shutdown();
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertFalse(isTranslatorSource(Key.key("wordweaver:shutdown")));
+
+        // A new service for the same namespace registers cleanly
+        final TranslationServiceImpl restarted = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        restarted.shutdown();
+    }
+
+    @Test
+    void shutdownClosesTheMissingTranslationHandler() {
+        final List<List<MissingKey>> reports = new ArrayList<>();
+        final MissingKeyTracker tracker = MissingKeyTracker.builder()
+            .listener(reports::add)
+            .build();
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:shutdown-handler")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .missingTranslationHandler(tracker)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl tracked = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        tracked.getString("does.not.exist", null);
+        assertTrue(reports.isEmpty());
+
+        tracked.shutdown(); // Closing the tracker flushes its final report
+        assertEquals(1, reports.size());
+        assertEquals("does.not.exist", reports.get(0).get(0).getKey());
+    }
+
+    private static boolean isTranslatorSource(Key name) {
+        for (Translator source : GlobalTranslator.translator().sources()) {
+            if (source.name().equals(name))
+                return true;
+        }
+        return false;
+    }
+
+    @Test
+    void hotKeysAreWarmedUpOnStartAndReload() throws Exception {
+        Files.write(dir.resolve(HotKeySampler.FILE_NAME), "10\tfr_FR\tgreeting\n3\tfr_FR\tremoved.key\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:hot")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .metrics(true)
+            .hotKeys(8)
+            .persistHotKeys(true)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl warmed = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        final TranslationMetrics metrics = warmed.getMetrics();
+        assertNotNull(metrics);
+
+        // Converted before the first lookup, removed keys are skipped
+        assertEquals(1, metrics.getComponentConversions());
+        assertEquals(Component.text("Bonjour"), warmed.getComponent("greeting", null));
+        assertEquals(Collections.singletonList(Component.text("Bonjour")), warmed.getComponentList("greeting", null));
+        assertEquals(1, metrics.getComponentConversions());
+
+        final List<HotKey> hotKeys = warmed.getHotKeys(1);
+        assertEquals(1, hotKeys.size());
+        assertEquals("greeting", hotKeys.get(0).getKey());
+        assertEquals(Locale.FRANCE, hotKeys.get(0).getLocale());
+
+        // Reloaded bundles are warmed up again, and the samples are saved
+        Files.write(dir.resolve("fr_FR.properties"), "greeting=Salut\n".getBytes(StandardCharsets.UTF_8));
+        warmed.reload();
+        assertEquals(2, metrics.getComponentConversions());
+        assertEquals(Component.text("Salut"), warmed.getComponent("greeting", null));
+        assertEquals(2, metrics.getComponentConversions());
+        assertTrue(new String(Files.readAllBytes(dir.resolve(HotKeySampler.FILE_NAME)), StandardCharsets.UTF_8).contains("\tfr_FR\tgreeting\n"));
+    }
+
+    @Test
+    void warmedListsMatchColdLookups() throws Exception {
+        Files.write(dir.resolve("fr_FR.properties"), "greeting=Bonjour\nlines.1=Un\nlines.2=Deux\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve(HotKeySampler.FILE_NAME), "10\tfr_FR\tlines\n".getBytes(StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:hot-lists")
+            .translationDirectory(dir)
+            .locale("fr_FR")
+            .defaultLocale("en_US")
+            .extractBundles(false)
+            .updateBundles(false)
+            .metrics(true)
+            .hotKeys(8)
+            .persistHotKeys(true)
+            .build();
+
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        final TranslationServiceImpl warmed = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+        final TranslationServiceImpl cold = service;
+        cold.reload();
+        assertEquals(3, warmed.getMetrics().getComponentConversions()); // The whole value and each line
+
+        assertEquals(cold.getComponent("lines", null), warmed.getComponent("lines", null));
+        assertEquals(cold.getComponentList("lines", null), warmed.getComponentList("lines", null));
+        assertEquals(2, warmed.getComponentList("lines", null).size());
+        assertEquals(3, warmed.getMetrics().getComponentConversions());
+    }
+
+    @Test
+    void missingKeysAreReportedInTheRequestedLocale() {
+        try (MissingKeyTracker tracker = MissingKeyTracker.builder().build()) {
+            final TranslationConfig config = TranslationConfig.builder()
+                .namespace("wordweaver:missing")
+                .translationDirectory(dir)
+                .locale("fr_FR")
+                .defaultLocale("en_US")
+                .extractBundles(false)
+                .updateBundles(false)
+                .missingTranslationHandler(tracker)
+                .build();
+
+            final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+            final TranslationServiceImpl tracked = new TranslationServiceImpl(config, registry, new DefaultTranslationLoader(config, registry));
+
+            assertEquals("fb", tracked.getString(Locale.GERMANY, "does.not.exist", "fb"));
+            assertEquals("EN only", tracked.getString("only_en", null)); // Still answered by the default handler
+            tracked.getComponentList("does.not.exist", null);
+
+            final List<MissingKey> missing = tracker.getMissingKeys();
+            assertEquals(3, missing.size());
+            assertTrue(missing.stream().anyMatch(key -> key.getLocale().equals(Locale.GERMANY) && key.getKey().equals("does.not.exist")));
+            assertTrue(missing.stream().anyMatch(key -> key.getLocale().equals(Locale.FRANCE) && key.getKey().equals("only_en")));
+            assertTrue(missing.stream().anyMatch(key -> key.getLocale().equals(Locale.FRANCE) && key.getKey().equals("does.not.exist")));
+        }
+    }
+
+    @Test
+    void viewersAreTranslatedInTheirPointedLocale() {
+        final Pointered english = viewer(Pointers.builder().withStatic(Identity.LOCALE, Locale.US).build());
+        final Pointered unknown = viewer(Pointers.empty());
+
+        assertEquals(Locale.US, service.getLocale(english));
+        assertEquals(Component.text("Hello"), service.getComponent(english, "greeting", null));
+        assertEquals(Collections.singletonList(Component.text("single")), service.getComponentList(english, "rules", null));
+
+        // Viewers without a locale use the active locale
+        assertEquals(Locale.FRANCE, service.getLocale(unknown));
+        assertEquals(Component.text("Bonjour"), service.getComponent(unknown, "greeting", null));
+    }
+
+    private static Pointered viewer(Pointers pointers) {
+        return new Pointered() {
+            @Override
+            public Pointers pointers() {
+                return pointers;
+            }
+        };
+    }
 }
@@ -0,0 +1,170 @@
+package io.github.milkdrinkers.wordweaver.storage;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleImpl;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BundleFootprintTest {
+    private static final Locale EN = Locale.forLanguageTag("en-US");
+
+    /**
+     * Bytes per entry of {@link #bundle(int)}, to be raised deliberately when a change costs memory.
+     */
+    private static final double BYTES_PER_ENTRY_BUDGET = 300;
+
+    private static TranslationBundle bundle(int keys) {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        for (int key = 0; key < keys; key++) {
+            final TranslationBundleEntry entry = key % 20 == 0
+                ? new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, Arrays.asList("<gold>Line one " + key, "<gold>Line two " + key))
+                : new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "<green>Welcome <player>, message " + key + "</green>");
+            entries.put("section" + key / 100 + ".key" + key, entry);
+        }
+
+        return new TranslationBundleImpl(EN, entries);
+    }
+
+    @Test
+    void stringEntriesCountTheirValueOnce() {
+        final TranslationBundleEntry entry = new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "value");
+        final BundleFootprint footprint = new TranslationBundleImpl(EN, Collections.singletonMap("key", entry)).getFootprint();
+
+        // The value is both the string and the only line of the entry
+        assertEquals(footprint.getKeyBytes(), footprint.getValueBytes());
+        assertEquals(1, footprint.getEntries());
+        assertFalse(footprint.isPartial());
+    }
+
+    @Test
+    void bytesPerEntryStayWithinBudget() {
+        final BundleFootprint footprint = bundle(10_000).getFootprint();
+
+        assertEquals(10_000, footprint.getEntries());
+        assertTrue(footprint.getBytesPerEntry() <= BYTES_PER_ENTRY_BUDGET, footprint.toString());
+    }
+
+    @Test
+    void estimateIsCloseToMeasuredHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final List<TranslationBundle> bundles = new ArrayList<>();
+
+        final long before = usedHeap(memory);
+        for (int i = 0; i < 5; i++)
+            bundles.add(bundle(20_000));
+        final long measured = usedHeap(memory) - before;
+
+        long estimated = 0;
+        for (TranslationBundle bundle : bundles)
+            estimated += bundle.getFootprint().getTotalBytes();
+
+        final double ratio = (double) estimated / measured;
+        assertTrue(ratio > 0.75 && ratio < 1.25, "Estimated " + estimated + " bytes, measured " + measured);
+    }
+
+    @Test
+    void lazyBundlesOnlyCountLoadedSections() {
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+        sections.put("gui", () -> bundle(100).getEntries());
+        sections.put("chat", () -> bundle(50).getEntries());
+
+        final TranslationBundle bundle = new TranslationBundleImpl(EN, new LazySectionMap(Collections.emptyMap(), sections, 4096));
+        assertEquals(0, bundle.getFootprint().getEntries());
+        assertTrue(bundle.getFootprint().isPartial());
+
+        bundle.getEntry("gui.anything"); // Loads the gui section
+        assertEquals(100, bundle.getFootprint().getEntries());
+        assertTrue(bundle.getFootprint().isPartial());
+    }
+
+    @Test
+    void lazyBundlesCountTheirSourceUntilFullyLoaded() {
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+        sections.put("gui", () -> bundle(100).getEntries());
+
+        final TranslationBundle bundle = new TranslationBundleImpl(EN, new LazySectionMap(Collections.emptyMap(), sections, 4096));
+        assertEquals(4096, bundle.getFootprint().getSourceBytes());
+        assertEquals(bundle.getFootprint().getStructureBytes() + 4096, bundle.getFootprint().getTotalBytes());
+
+        bundle.getEntry("gui.anything"); // Loads the last section, releasing the source
+        assertEquals(0, bundle.getFootprint().getSourceBytes());
+    }
+
+    @Test
+    void entriesCountThemselves() {
+        final TranslationBundleEntry lazy = new TranslationBundleEntry() {
+            private final byte[] source = new byte[1000];
+
+            @Override
+            public Type getType() {
+                return Type.STRING;
+            }
+
+            @Override
+            public String getValue() {
+                throw new AssertionError("Estimating the footprint decoded the entry");
+            }
+
+            @Override
+            public List<String> getValues() {
+                throw new AssertionError("Estimating the footprint decoded the entry");
+            }
+
+            @Override
+            public boolean isCollection() {
+                return false;
+            }
+
+            @Override
+            public void addFootprint(BundleFootprint.Builder footprint) {
+                footprint.object(2).source(source, source.length);
+            }
+        };
+
+        final BundleFootprint footprint = new TranslationBundleImpl(EN, Collections.singletonMap("key", lazy)).getFootprint();
+        assertEquals(1000, footprint.getSourceBytes());
+        assertEquals(0, footprint.getValueBytes());
+        assertEquals(24, footprint.getEntryBytes());
+    }
+
+    @Test
+    void registryReportsEveryBundle() {
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(Paths.get("unused"))
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .build());
+        registry.register(bundle(10));
+
+        final Map<Locale, BundleFootprint> footprints = registry.getFootprints();
+        assertEquals(Collections.singleton(EN), footprints.keySet());
+        assertEquals(10, footprints.get(EN).getEntries());
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++)
+            System.gc();
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.milkdrinkers.wordweaver.storage.impl;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazySectionMapTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static Map<String, TranslationBundleEntry> entries(String... kv) {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        for (int i = 0; i < kv.length; i += 2)
+            entries.put(kv[i], new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, kv[i + 1]));
+        return entries;
+    }
+
+    private LazySectionMap map() {
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+        sections.put("gui", () -> {
+            loads.incrementAndGet();
+            return entries("gui.title", "Menu", "gui.buttons.ok", "Ok");
+        });
+        sections.put("commands", () -> {
+            loads.incrementAndGet();
+            return entries("commands.help", "Help");
+        });
+
+        return new LazySectionMap(entries("greeting", "Hi"), sections);
+    }
+
+    @Test
+    void loadsOnlyTheSectionOfAKey() {
+        final LazySectionMap map = map();
+
+        assertEquals("Hi", map.get("greeting").getValue());
+        assertEquals(0, loads.get());
+
+        assertEquals("Menu", map.get("gui.title").getValue());
+        assertEquals("Ok", map.get("gui.buttons.ok").getValue());
+        assertNull(map.get("gui.missing"));
+        assertTrue(map.containsKey("gui.title"));
+
+        assertEquals(1, loads.get());
+        assertTrue(map.isLoaded("gui"));
+        assertFalse(map.isLoaded("commands"));
+    }
+
+    @Test
+    void iteratingLoadsEverySection() {
+        final LazySectionMap map = map();
+
+        assertEquals(4, map.size());
+        assertEquals(2, loads.get());
+        assertTrue(map.isLoaded("commands"));
+    }
+
+    @Test
+    void failedSectionThrowsOnEveryAccess() {
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+        sections.put("broken", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("Malformed");
+        });
+        final LazySectionMap map = new LazySectionMap(entries("greeting", "Hi"), sections);
+
+        assertThrows(IllegalStateException.class, () -> map.get("broken.key"));
+        assertThrows(IllegalStateException.class, () -> map.get("broken.key"));
+        assertFalse(map.isLoaded("broken"));
+        assertEquals(2, loads.get());
+        assertEquals("Hi", map.get("greeting").getValue());
+    }
+
+    @Test
+    void mapAppliesOperatorWhenSectionLoads() {
+        final AtomicInteger applied = new AtomicInteger();
+        final LazySectionMap mapped = map().map(section -> {
+            applied.incrementAndGet();
+            final Map<String, TranslationBundleEntry> result = new HashMap<>();
+            section.forEach((key, entry) -> result.put(key, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, entry.getValue().toUpperCase())));
+            return result;
+        });
+
+        assertEquals(1, applied.get()); // The entries outside of any section
+        assertEquals("MENU", mapped.get("gui.title").getValue());
+        assertEquals(2, applied.get());
+        assertEquals(1, loads.get());
+        assertEquals(Arrays.asList("gui", "commands"), new ArrayList<>(mapped.getSections()));
+    }
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TranslationBundleRegistryImplTest {
@@ -49,6 +50,22 @@ class TranslationBundleRegistryImplTest {
         assertEquals("1", registry.get(EN).getEntry("a").getValue());
     }
 
+    @Test
+    void currentAndDefaultFollowLocaleChanges() {
+        final TranslationConfig config = config("fr_FR", "en_US");
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config);
+        registry.register(bundle("fr_FR", "a", "fr", "b", "fr"));
+        registry.register(bundle("en_US", "a", "en"));
+        assertEquals(2, registry.getKeys().size());
+
+        config.setCurrentLocale(EN);
+        config.setDefaultLocale(FR);
+
+        assertEquals("en", registry.getCurrent().getEntry("a").getValue());
+        assertEquals("fr", registry.getDefault().getEntry("a").getValue());
+        assertEquals(2, registry.getKeys().size());
+    }
+
     @Test
     void tracksCurrentAndDefaultBundles() {
         final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config("fr_FR", "en_US"));
@@ -80,4 +97,56 @@ class TranslationBundleRegistryImplTest {
         assertTrue(registry.getKeys().isEmpty());
         assertFalse(registry.isRegistered(EN));
     }
+
+    @Test
+    void resolvesClientTagsToClosestBundle() {
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config("fr_FR", "en_US"));
+        registry.register(bundle("en_US", "a", "en"));
+        registry.register(bundle("en_GB", "a", "gb"));
+        registry.register(bundle("fr_FR", "a", "fr"));
+        registry.register(bundle("zh_TW", "a", "tw"));
+
+        assertEquals("en", registry.resolve("EN_us").getEntry("a").getValue());
+        assertEquals("gb", registry.resolve("en-gb").getEntry("a").getValue());
+        assertEquals("en", registry.resolve("en_AU").getEntry("a").getValue()); // Same language, prefers the default
+        assertEquals("fr", registry.resolve("fr_ca").getEntry("a").getValue());
+        assertEquals("tw", registry.resolve("zh_Hant_TW").getEntry("a").getValue());
+        assertEquals("tw", registry.resolve("zh_cn").getEntry("a").getValue());
+        assertNull(registry.resolve("de_DE"));
+    }
+
+    @Test
+    void resolveCacheIsInvalidatedOnRegister() {
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config("en_US", "en_US"));
+        registry.register(bundle("en_US", "a", "en"));
+
+        assertNull(registry.resolve("de_de"));
+        assertSame(registry.resolve("en_us"), registry.resolve("en_us"));
+
+        registry.register(bundle("de_DE", "a", "de"));
+        assertEquals("de", registry.resolve("de_de").getEntry("a").getValue());
+
+        registry.clear();
+        assertNull(registry.resolve("en_us"));
+    }
+
+    @Test
+    void resolveCacheHitRateCountsTagMisses() {
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(Paths.get("unused"))
+            .locale("en_US")
+            .defaultLocale("en_US")
+            .metrics(true)
+            .build();
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config);
+        registry.register(bundle("en_US", "a", "en"));
+
+        registry.resolve("en_us");
+        registry.resolve("en_us");
+        registry.resolve(EN);
+        registry.resolve(EN);
+
+        assertEquals(0.5, config.getMetrics().getResolveCacheHitRate());
+    }
 }
@@ -0,0 +1,181 @@
+package io.github.milkdrinkers.wordweaver.storage.impl;
+
+import io.github.milkdrinkers.wordweaver.LocaleUtil;
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.TranslationLoader;
+import io.github.milkdrinkers.wordweaver.service.impl.TranslationServiceImpl;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Hammers the registry from many threads, checking that readers only ever see whole snapshots and that no stale state
+ * outlives a write.
+ */
+class TranslationBundleRegistryStressTest {
+    private static final Locale EN = Locale.forLanguageTag("en-US");
+    private static final Locale FR = Locale.forLanguageTag("fr-FR");
+    private static final int READERS = 4;
+    private static final int GENERATIONS = 5_000;
+
+    private final TranslationConfig config = TranslationConfig.builder()
+        .namespace("wordweaver:test")
+        .translationDirectory(Paths.get("unused"))
+        .locale("fr_FR")
+        .defaultLocale("en_US")
+        .build();
+
+    private static TranslationBundle bundle(String tag, int generation) {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        entries.put("generation", new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, String.valueOf(generation)));
+        entries.put("key" + generation, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, tag));
+        return new TranslationBundleImpl(LocaleUtil.fromTag(tag), entries);
+    }
+
+    @Test
+    void readersNeverSeeAPartialReplace() throws Exception {
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config);
+        registry.replace(Arrays.asList(bundle("fr_FR", 0), bundle("en_US", 0)));
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final List<Future<?>> readers = startReaders(running, () -> {
+            final TranslationBundle resolved = registry.resolve(Locale.forLanguageTag("fr-CA"));
+            assertNotNull(resolved, "A replace exposed a registry without the French bundle");
+            assertEquals(FR, resolved.getLocale());
+            assertNotNull(registry.getDefault(), "A replace exposed a registry without a default bundle");
+            assertTrue(registry.getKeys().contains("generation"), "A replace exposed a registry without keys");
+        });
+
+        try {
+            for (int generation = 1; generation <= GENERATIONS; generation++)
+                registry.replace(Arrays.asList(bundle("fr_FR", generation), bundle("en_US", generation)));
+        } finally {
+            running.set(false);
+        }
+        awaitAll(readers);
+
+        // Nothing cached while racing the writer may outlive the last write
+        assertEquals(String.valueOf(GENERATIONS), registry.resolve(FR).getEntry("generation").getValue());
+        assertEquals(String.valueOf(GENERATIONS), registry.resolve("fr-CA").getEntry("generation").getValue());
+        assertEquals(String.valueOf(GENERATIONS), registry.getCurrent().getEntry("generation").getValue());
+        assertTrue(registry.getKeys().contains("key" + GENERATIONS));
+        assertEquals(2, registry.getKeys().size());
+    }
+
+    @Test
+    void readersNeverMissDuringReload() throws Exception {
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config);
+        final AtomicInteger generation = new AtomicInteger();
+        final TranslationLoader loader = new TranslationLoader() {
+            @Override
+            public void extractMissingBundles() {
+            }
+
+            @Override
+            public void updateExistingBundles() {
+            }
+
+            @Override
+            public void loadBundles() {
+                final int next = generation.getAndIncrement();
+                registry.replace(Arrays.asList(bundle("fr_FR", next), bundle("en_US", next)));
+            }
+
+            @Override
+            public boolean replacesBundles() {
+                return true;
+            }
+        };
+        final TranslationServiceImpl service = new TranslationServiceImpl(config, registry, loader);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final List<Future<?>> readers = startReaders(running, () -> {
+            assertNotNull(registry.resolve(FR), "A reload exposed a registry without the French bundle");
+            assertNotEquals("missing", service.getString(Locale.forLanguageTag("fr-CA"), "generation", "missing"), "A reload exposed a registry without keys");
+        });
+
+        try {
+            for (int reload = 0; reload < GENERATIONS / 10; reload++)
+                service.reload();
+        } finally {
+            running.set(false);
+            service.shutdown();
+        }
+        awaitAll(readers);
+
+        assertEquals(String.valueOf(generation.get() - 1), registry.resolve(FR).getEntry("generation").getValue());
+    }
+
+    @Test
+    void registerAndClearLeaveNoStaleLookups() throws Exception {
+        final TranslationBundleRegistryImpl registry = new TranslationBundleRegistryImpl(config);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final List<Future<?>> readers = startReaders(running, () -> {
+            final TranslationBundle resolved = registry.resolve(FR);
+            if (resolved != null)
+                assertEquals(FR, resolved.getLocale());
+
+            registry.resolve("en-GB");
+            registry.getKeys();
+        });
+
+        try {
+            for (int generation = 1; generation <= GENERATIONS; generation++) {
+                registry.clear();
+                registry.register(bundle("en_US", generation));
+                registry.register(bundle("fr_FR", generation));
+            }
+            registry.clear();
+        } finally {
+            running.set(false);
+        }
+        awaitAll(readers);
+
+        assertNull(registry.resolve(FR));
+        assertNull(registry.resolve("en-GB"));
+        assertTrue(registry.getKeys().isEmpty());
+
+        registry.register(bundle("en_US", 0));
+        assertEquals(EN, registry.resolve("en-GB").getLocale());
+        assertNull(registry.resolve(FR)); // French is no longer registered
+    }
+
+    private static List<Future<?>> startReaders(AtomicBoolean running, Runnable read) {
+        final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        final List<Future<?>> readers = new ArrayList<>();
+        for (int reader = 0; reader < READERS; reader++) {
+            readers.add(executor.submit(() -> {
+                while (running.get())
+                    read.run();
+            }));
+        }
+        executor.shutdown();
+        return readers;
+    }
+
+    private static void awaitAll(List<Future<?>> readers) throws Exception {
+        for (Future<?> reader : readers)
+            reader.get(30, TimeUnit.SECONDS); // Rethrows the first failed assertion of a reader
+    }
+}
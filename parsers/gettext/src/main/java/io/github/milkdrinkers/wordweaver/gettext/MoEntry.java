@@ -0,0 +1,179 @@
+package io.github.milkdrinkers.wordweaver.gettext;
+
+import io.github.milkdrinkers.wordweaver.storage.BundleFootprint;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An entry of a {@code .mo} catalog which decodes its translation from the catalog bytes the first time it is read.
+ * <p>
+ * Once decoded the entry drops its reference to the catalog, so the catalog can be garbage collected once every entry
+ * still in use has been read.
+ */
+final class MoEntry implements TranslationBundleEntry {
+    private static final byte[] REFERENCE = "<key:".getBytes(StandardCharsets.US_ASCII);
+
+    private volatile @Nullable ByteBuffer catalog; // Cleared once decoded
+    private final int offset;
+    private final int length;
+    private final Charset charset;
+    private final Type type;
+    private final boolean plural;
+    private volatile @Nullable TranslationBundleEntry decoded; // Racy but idempotent, like String#hashCode
+
+    /**
+     * @param catalog The catalog bytes
+     * @param offset  The offset of the translation in the catalog
+     * @param length  The length of the translation in bytes
+     * @param charset The charset of the catalog
+     * @param type    The type of this entry
+     * @param plural  Whether the translation holds nul separated plural forms which become the values of this entry
+     */
+    MoEntry(final ByteBuffer catalog, final int offset, final int length, final Charset charset, final Type type, final boolean plural) {
+        this.catalog = catalog;
+        this.offset = offset;
+        this.length = length;
+        this.charset = charset;
+        this.type = type;
+        this.plural = plural;
+    }
+
+    private TranslationBundleEntry decoded() {
+        TranslationBundleEntry entry = decoded;
+        if (entry != null)
+            return entry;
+
+        final ByteBuffer catalog = this.catalog;
+        if (catalog == null) // Decoded by another thread since decoded was read
+            return Objects.requireNonNull(decoded);
+
+        final String value = decode(catalog, offset, length, charset);
+
+        if (plural) {
+            final List<String> forms = new ArrayList<>();
+            int start = 0;
+            for (int end; (end = value.indexOf('\0', start)) != -1; start = end + 1)
+                forms.add(value.substring(start, end));
+            forms.add(value.substring(start));
+
+            entry = new TranslationBundleEntryImpl(type, forms);
+        } else {
+            entry = new TranslationBundleEntryImpl(type, value);
+        }
+
+        decoded = entry;
+        this.catalog = null;
+        return entry;
+    }
+
+    /**
+     * Whether the entry has been decoded, used by tests to check loading leaves entries alone.
+     */
+    boolean isDecoded() {
+        return decoded != null;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public String getValue() {
+        return decoded().getValue();
+    }
+
+    @Override
+    public List<String> getValues() {
+        return decoded().getValues();
+    }
+
+    @Override
+    public boolean isCollection() {
+        return type.equals(Type.LIST);
+    }
+
+    /**
+     * Counts the catalog instead of the values until the entry is decoded. A memory-mapped catalog is not counted, as it
+     * lives outside the heap.
+     */
+    @Override
+    public void addFootprint(final BundleFootprint.Builder footprint) {
+        footprint.object(7);
+
+        final TranslationBundleEntry entry = decoded;
+        if (entry != null) {
+            entry.addFootprint(footprint);
+            return;
+        }
+
+        final ByteBuffer catalog = this.catalog;
+        if (catalog != null && catalog.hasArray())
+            footprint.source(catalog.array(), catalog.array().length);
+    }
+
+    /**
+     * Searches the raw bytes for the start of a key reference, which avoids decoding the entry when the catalog charset
+     * encodes it like ASCII.
+     */
+    @Override
+    public boolean mayContainReferences() {
+        final ByteBuffer catalog = this.catalog;
+        if (catalog == null || !encodesLikeAscii(charset))
+            return decoded().getValues().stream().anyMatch(value -> value.contains("<key:"));
+
+        for (int i = offset, end = offset + length - REFERENCE.length; i <= end; i++) {
+            if (matches(catalog, i, REFERENCE))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean encodesLikeAscii(final Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || Arrays.equals(REFERENCE, "<key:".getBytes(charset));
+    }
+
+    private static boolean matches(final ByteBuffer catalog, final int offset, final byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (catalog.get(offset + i) != bytes[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a string from the catalog without moving its position, so entries can be decoded concurrently.
+     */
+    static String decode(final ByteBuffer catalog, final int offset, final int length, final Charset charset) {
+        if (catalog.hasArray())
+            return new String(catalog.array(), catalog.arrayOffset() + offset, length, charset);
+
+        final byte[] bytes = new byte[length];
+        final ByteBuffer view = catalog.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return new String(bytes, charset);
+    }
+
+    /**
+     * Finds a byte within a region of the catalog.
+     *
+     * @return The absolute offset of the byte, or -1 if the region does not contain it
+     */
+    static int indexOf(final ByteBuffer catalog, final int offset, final int length, final byte value) {
+        for (int i = offset; i < offset + length; i++) {
+            if (catalog.get(i) == value)
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.milkdrinkers.wordweaver.gettext;
+
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
+import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parser for GNU gettext {@code .mo} binary catalogs, as produced by {@code msgfmt}, Weblate or Crowdin.
+ * <p>
+ * The catalog is memory-mapped and only its string table is walked to build the keys, translations are decoded from
+ * the mapped bytes the first time they are read. Message ids are used as keys, a message context is prepended to its id
+ * separated by a dot, and plural translations become {@link TranslationBundleEntry.Type#LIST} entries holding every
+ * plural form with each form also stored under its 1-based index.
+ */
+public class MoTranslationParser implements TranslationParser {
+    private static final Set<String> EXTENSIONS = Collections.singleton("mo");
+
+    private static final int MAGIC = 0x950412de;
+    private static final int HEADER_SIZE = 28;
+    private static final char CONTEXT_SEPARATOR = '\u0004';
+
+    @Override
+    public Set<String> extensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
+        if (!Files.exists(file))
+            throw new TranslationLoadException("The bundle file does not exist!");
+
+        if (!Files.isReadable(file))
+            throw new TranslationLoadException("The bundle file can not be read! Ensure the application has sufficient permissions to read the file.");
+
+        if (!Files.isRegularFile(file))
+            throw new TranslationLoadException("The bundle file is not a file!");
+
+        try {
+            return parse(read(file));
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read mo catalog!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+
+            int read;
+            while ((read = stream.read(buffer)) != -1)
+                bytes.write(buffer, 0, read);
+
+            return parse(ByteBuffer.wrap(bytes.toByteArray()));
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read mo catalog stream!", e);
+        }
+    }
+
+    /**
+     * Reads a catalog, memory-mapping it if it is at least {@link BundleReaders#MAPPING_THRESHOLD} bytes.
+     *
+     * @implNote The mapping is kept alive by the entries that have not been decoded yet, and is released once each of them
+     * has been decoded or garbage collected.
+     */
+    private static ByteBuffer read(Path file) throws IOException {
+        if (Files.size(file) < BundleReaders.MAPPING_THRESHOLD)
+            return ByteBuffer.wrap(Files.readAllBytes(file));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Walks the string tables of a catalog into a map of lazily decoded entries
+     *
+     * @param catalog The catalog bytes
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> parse(final ByteBuffer catalog) throws TranslationLoadException {
+        if (catalog.capacity() < HEADER_SIZE)
+            throw new TranslationLoadException("Failed to read mo catalog as it is too short!");
+
+        // The magic number is written in the byte order of the machine that compiled the catalog
+        catalog.order(ByteOrder.LITTLE_ENDIAN);
+        if (catalog.getInt(0) != MAGIC) {
+            catalog.order(ByteOrder.BIG_ENDIAN);
+            if (catalog.getInt(0) != MAGIC)
+                throw new TranslationLoadException("Failed to read mo catalog as it has an invalid magic number!");
+        }
+
+        if ((catalog.getInt(4) >>> 16) > 1)
+            throw new TranslationLoadException("Failed to read mo catalog as its major revision is not supported!");
+
+        final int count = catalog.getInt(8);
+        final int originals = catalog.getInt(12);
+        final int translations = catalog.getInt(16);
+
+        if (count < 0 || !fits(catalog, originals, count * 8L) || !fits(catalog, translations, count * 8L))
+            throw new TranslationLoadException("Failed to read mo catalog as its string tables are out of bounds!");
+
+        Charset charset = StandardCharsets.UTF_8;
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            final int idLength = catalog.getInt(originals + i * 8);
+            final int idOffset = catalog.getInt(originals + i * 8 + 4);
+            final int length = catalog.getInt(translations + i * 8);
+            final int offset = catalog.getInt(translations + i * 8 + 4);
+
+            if (!fits(catalog, idOffset, idLength) || !fits(catalog, offset, length))
+                throw new TranslationLoadException("Failed to read mo catalog as a string is out of bounds!");
+
+            // The header is stored as the translation of the empty message id
+            if (idLength == 0) {
+                charset = charsetOf(MoEntry.decode(catalog, offset, length, StandardCharsets.ISO_8859_1));
+                continue;
+            }
+
+            // Untranslated messages fall back to the missing translation handler
+            if (length == 0)
+                continue;
+
+            final String key = keyOf(MoEntry.decode(catalog, idOffset, idLength, charset));
+            final boolean plural = MoEntry.indexOf(catalog, idOffset, idLength, (byte) 0) != -1;
+
+            if (!plural) {
+                entries.put(key, new MoEntry(catalog, offset, length, charset, TranslationBundleEntry.Type.STRING, false));
+                continue;
+            }
+
+            // Store the complete plural as an entry with all forms, and each form by its index
+            entries.put(key, new MoEntry(catalog, offset, length, charset, TranslationBundleEntry.Type.LIST, true));
+
+            int form = 1;
+            int start = offset;
+            for (int end; (end = MoEntry.indexOf(catalog, start, offset + length - start, (byte) 0)) != -1; start = end + 1)
+                entries.put(key + '.' + form++, new MoEntry(catalog, start, end - start, charset, TranslationBundleEntry.Type.LIST, false));
+            entries.put(key + '.' + form, new MoEntry(catalog, start, offset + length - start, charset, TranslationBundleEntry.Type.LIST, false));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Converts an original string to a key, dropping the plural id and joining a message context with a dot.
+     */
+    private static String keyOf(final String original) {
+        final int nul = original.indexOf('\0');
+        final String id = nul == -1 ? original : original.substring(0, nul);
+        return id.replace(CONTEXT_SEPARATOR, '.');
+    }
+
+    /**
+     * Reads the charset from the {@code Content-Type} of a catalog header, defaulting to UTF-8.
+     */
+    private static Charset charsetOf(final String header) {
+        for (String line : header.split("\n")) {
+            final int index = line.toLowerCase(Locale.ROOT).indexOf("charset=");
+            if (!line.regionMatches(true, 0, "Content-Type:", 0, 13) || index == -1)
+                continue;
+
+            try {
+                return Charset.forName(line.substring(index + 8).trim());
+            } catch (IllegalArgumentException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+
+        return StandardCharsets.UTF_8;
+    }
+
+    private static boolean fits(final ByteBuffer catalog, final int offset, final long length) {
+        return offset >= 0 && length >= 0 && offset + length <= catalog.capacity();
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.milkdrinkers.wordweaver.gettext;
+
+import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
+import io.github.milkdrinkers.wordweaver.loader.impl.DefaultTranslationLoader;
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
+import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.BundleFootprint;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundle;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleRegistry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleRegistryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoTranslationParserTest {
+    private static final String HEADER = "Content-Type: text/plain; charset=UTF-8\nPlural-Forms: nplurals=2; plural=(n != 1);\n";
+
+    private final MoTranslationParser parser = new MoTranslationParser();
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Compiles messages into a catalog the way msgfmt lays it out, without a hash table.
+     */
+    private static byte[] compile(Map<String, String> messages, ByteOrder order, Charset charset) {
+        final List<String> ids = new ArrayList<>(messages.keySet());
+        ids.sort(null);
+
+        final int tables = 28 + ids.size() * 16;
+        int size = tables;
+        for (String id : ids)
+            size += id.getBytes(charset).length + messages.get(id).getBytes(charset).length + 2;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(size).order(order);
+        buffer.putInt(0x950412de).putInt(0).putInt(ids.size()).putInt(28).putInt(28 + ids.size() * 8).putInt(0).putInt(tables);
+
+        int offset = tables;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < ids.size(); i++) {
+                final byte[] bytes = (pass == 0 ? ids.get(i) : messages.get(ids.get(i))).getBytes(charset);
+                buffer.putInt(28 + pass * ids.size() * 8 + i * 8, bytes.length);
+                buffer.putInt(28 + pass * ids.size() * 8 + i * 8 + 4, offset);
+                buffer.position(offset);
+                buffer.put(bytes).put((byte) 0);
+                offset += bytes.length + 1;
+            }
+        }
+
+        return buffer.array();
+    }
+
+    private static Map<String, String> messages() {
+        final Map<String, String> messages = new LinkedHashMap<>();
+        messages.put("", HEADER);
+        messages.put("greeting", "Grüß Gott, <player>!");
+        messages.put("menu\u0004open", "Öffnen");
+        messages.put("item.count\0item.count.plural", "<count> Gegenstand\0<count> Gegenstände");
+        messages.put("untranslated", "");
+        return messages;
+    }
+
+    private Path write(byte[] catalog) throws IOException {
+        final Path file = tempDir.resolve("de_DE.mo");
+        Files.write(file, catalog);
+        return file;
+    }
+
+    @Test
+    void isDiscoveredThroughServiceLoader() {
+        boolean found = false;
+        for (TranslationParser discovered : ServiceLoader.load(TranslationParser.class))
+            found |= discovered instanceof MoTranslationParser;
+
+        assertTrue(found);
+        assertTrue(parser.extensions().contains("mo"));
+    }
+
+    @Test
+    void shouldParseMessages() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages(), ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8)));
+
+        assertEquals("Grüß Gott, <player>!", entries.get("greeting").getValue());
+        assertFalse(entries.get("greeting").isCollection());
+        assertEquals("Öffnen", entries.get("menu.open").getValue());
+    }
+
+    @Test
+    void skipsHeaderAndUntranslatedMessages() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages(), ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8)));
+
+        assertNull(entries.get(""));
+        assertNull(entries.get("untranslated"));
+    }
+
+    @Test
+    void pluralFormsBecomeLists() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages(), ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8)));
+
+        TranslationBundleEntry plural = entries.get("item.count");
+        assertTrue(plural.isCollection());
+        assertEquals(Arrays.asList("<count> Gegenstand", "<count> Gegenstände"), plural.getValues());
+
+        // Individual plural forms (1-based)
+        assertEquals("<count> Gegenstand", entries.get("item.count.1").getValue());
+        assertEquals("<count> Gegenstände", entries.get("item.count.2").getValue());
+    }
+
+    @Test
+    void shouldParseBigEndianCatalogs() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages(), ByteOrder.BIG_ENDIAN, StandardCharsets.UTF_8)));
+
+        assertEquals("Grüß Gott, <player>!", entries.get("greeting").getValue());
+    }
+
+    @Test
+    void honoursHeaderCharset() throws IOException {
+        final Map<String, String> messages = new LinkedHashMap<>();
+        messages.put("", "Content-Type: text/plain; charset=ISO-8859-1\n");
+        messages.put("greeting", "Grüß Gott");
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages, ByteOrder.LITTLE_ENDIAN, StandardCharsets.ISO_8859_1)));
+
+        assertEquals("Grüß Gott", entries.get("greeting").getValue());
+    }
+
+    @Test
+    void largeCatalogsAreMapped() throws IOException {
+        final Map<String, String> messages = new LinkedHashMap<>();
+        messages.put("", HEADER);
+        for (int i = 0; messages.size() * 40 < BundleReaders.MAPPING_THRESHOLD; i++)
+            messages.put("key" + i, "Grüß Gott " + i);
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(write(compile(messages, ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8)));
+
+        assertEquals(messages.size() - 1, entries.size());
+        assertEquals("Grüß Gott 1000", entries.get("key1000").getValue());
+    }
+
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream(compile(messages(), ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8)));
+
+        assertEquals("Öffnen", entries.get("menu.open").getValue());
+    }
+
+    @Test
+    void loadingLeavesEntriesWithoutReferencesUndecoded() throws IOException {
+        final Map<String, String> messages = messages();
+        messages.put("welcome", "<key:greeting> Willkommen!");
+        write(compile(messages, ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8));
+
+        final TranslationConfig config = TranslationConfig.builder()
+            .namespace("wordweaver:test")
+            .translationDirectory(tempDir)
+            .locale("de_DE")
+            .defaultLocale("de_DE")
+            .extractBundles(false)
+            .updateBundles(false)
+            .build();
+        final TranslationBundleRegistry registry = new TranslationBundleRegistryImpl(config);
+        new DefaultTranslationLoader(config, registry).loadBundles();
+
+        final TranslationBundle bundle = registry.get(Locale.GERMANY);
+        assertNotNull(bundle);
+        assertFalse(((MoEntry) bundle.getEntry("menu.open")).isDecoded());
+        assertFalse(((MoEntry) bundle.getEntry("item.count")).isDecoded());
+        assertFalse(((MoEntry) bundle.getEntry("item.count.2")).isDecoded());
+
+        // Estimating the footprint counts the catalog instead of decoding the entries
+        final BundleFootprint footprint = bundle.getFootprint();
+        assertTrue(footprint.getSourceBytes() > 0, footprint.toString());
+        assertFalse(((MoEntry) bundle.getEntry("menu.open")).isDecoded());
+
+        // Referenced entries are decoded to replace their references
+        assertEquals("Grüß Gott, <player>! Willkommen!", bundle.getEntry("welcome").getValue());
+        assertEquals("Öffnen", bundle.getEntry("menu.open").getValue());
+    }
+
+    @Test
+    void invalidMagicThrows() throws IOException {
+        Path file = write("msgid \"greeting\"\nmsgstr \"Hallo\"\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(TranslationLoadException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void outOfBoundsTablesThrow() throws IOException {
+        final byte[] catalog = compile(messages(), ByteOrder.LITTLE_ENDIAN, StandardCharsets.UTF_8);
+        ByteBuffer.wrap(catalog).order(ByteOrder.LITTLE_ENDIAN).putInt(16, catalog.length);
+        Path file = write(catalog);
+
+        assertThrows(TranslationLoadException.class, () -> parser.parse(file));
+    }
+}
@@ -0,0 +1,364 @@
+package io.github.milkdrinkers.wordweaver.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.util.Separators;
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
+import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Parser for JSON and JSONC (JSON with comments) files using Jackson's streaming {@link JsonParser}.
+ * <p>
+ * Documents are flattened straight from the token stream, without building a tree. When both this and the GSON based
+ * parser are on the classpath, select this one with
+ * {@link io.github.milkdrinkers.wordweaver.config.TranslationConfig.Builder#parser(TranslationParser)}.
+ * <p>
+ * Documents are read as leniently as the GSON based parser reads them, with comments, single quoted strings, unquoted
+ * names, missing array values, {@code NaN} and numbers like {@code .5}, with some differences. Jackson rejects unquoted
+ * string values, {@code =}, {@code =>} or {@code ;} separators, and numbers with a leading zero or plus sign, which it
+ * could only read by rewriting them. Trailing commas are accepted and ignored.
+ */
+public class JacksonTranslationParser implements TranslationParser {
+    private static final Set<String> EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("json", "jsonc")));
+
+    // As lenient as GSON where Jackson allows it
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+        .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+        .enable(JsonReadFeature.ALLOW_YAML_COMMENTS)
+        .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+        .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+        .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+        .enable(JsonReadFeature.ALLOW_MISSING_VALUES)
+        .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+        .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+        .enable(JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS)
+        .enable(JsonReadFeature.ALLOW_TRAILING_DECIMAL_POINT_FOR_NUMBERS)
+        .build();
+
+    @Override
+    public Set<String> extensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
+        if (!Files.exists(file))
+            throw new TranslationLoadException("The bundle file does not exist!");
+
+        if (!Files.isReadable(file))
+            throw new TranslationLoadException("The bundle file can not be read! Ensure the application has sufficient permissions to read the file.");
+
+        if (!Files.isRegularFile(file))
+            throw new TranslationLoadException("The bundle file is not a file!");
+
+        try (final Reader reader = BundleReaders.newReader(file)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read json as the file does not exist!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        return parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses json from a reader into a map of entries
+     *
+     * @param reader The reader to parse, left open
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> parse(final Reader reader) throws TranslationLoadException {
+        try (final JsonParser parser = FACTORY.createParser(reader)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return flatten(parser);
+        } catch (JsonProcessingException e) {
+            throw new TranslationLoadException("Failed to read json as it is malformed!", e);
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read json from reader!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsMerge() {
+        return true;
+    }
+
+    @Override
+    public void merge(InputStream origin, Path target) throws IOException {
+        final Map<String, Object> originJson;
+        try (final JsonParser parser = FACTORY.createParser(new InputStreamReader(origin, StandardCharsets.UTF_8))) {
+            originJson = readTree(parser);
+        }
+
+        final Map<String, Object> targetJson;
+        try (final JsonParser parser = FACTORY.createParser(Files.newBufferedReader(target, StandardCharsets.UTF_8))) {
+            targetJson = readTree(parser);
+        }
+
+        // Merge preserving order
+        final Map<String, Object> mergedJson = mergeJsonObjects(originJson, targetJson);
+
+        // Pretty print like GSON, two space indentation and no space before colons
+        final DefaultIndenter indenter = new DefaultIndenter("  ", "\n");
+        final DefaultPrettyPrinter printer = new DefaultPrettyPrinter(Separators.createDefaultInstance()
+            .withObjectFieldValueSpacing(Separators.Spacing.AFTER)
+            .withObjectEmptySeparator("")
+            .withArrayEmptySeparator(""))
+            .withObjectIndenter(indenter)
+            .withArrayIndenter(indenter);
+
+        try (
+            final Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8);
+            final JsonGenerator generator = FACTORY.createGenerator(writer)
+        ) {
+            generator.setPrettyPrinter(printer);
+            write(mergedJson, generator);
+        }
+    }
+
+    /**
+     * Flattens a json document into a map of entries
+     *
+     * @param parser The parser positioned before the document
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> flatten(final JsonParser parser) throws IOException {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+
+        final JsonToken root = parser.nextToken();
+        if (root == null)
+            return entries;
+
+        if (root != JsonToken.START_OBJECT)
+            throw new TranslationLoadException("Failed to read json as the root is not an object!");
+
+        flattenObject("", parser, entries); // Begin recursively flattening
+
+        if (parser.nextToken() != null)
+            throw new TranslationLoadException("Failed to read json as it has content after the root object!");
+
+        return entries;
+    }
+
+    /**
+     * Recursively iterates through objects and stores primitive values, consuming tokens up to and including its end
+     *
+     * @param currentPath The current path in the map
+     * @param parser      The parser positioned at the start of the object
+     * @param entries     The map that stores the entries
+     */
+    private static void flattenObject(final String currentPath, final JsonParser parser, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            final String internalPath = currentPath.isEmpty() ? key : currentPath + '.' + key;
+
+            final JsonToken token = parser.nextToken();
+            if (token.isScalarValue()) {
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, valueOf(token, parser)));
+            } else {
+                flattenContainer(internalPath, token, parser, entries);
+            }
+        }
+    }
+
+    /**
+     * Recursively iterates through arrays and stores primitive values, consuming tokens up to and including its end
+     *
+     * @param currentPath The current path in the map
+     * @param parser      The parser positioned at the start of the array
+     * @param entries     The map that stores the entries
+     * @implNote This method stores individual elements with array indices and the complete array as an entry with all values
+     */
+    private static void flattenArray(final String currentPath, final JsonParser parser, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        final List<String> arrayValues = new ArrayList<>();
+
+        JsonToken token;
+        for (int i = 1; (token = parser.nextToken()) != JsonToken.END_ARRAY; i++) {
+            final String internalPath = currentPath + '.' + i;
+
+            if (token == JsonToken.VALUE_NULL) {
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, "")); // Add empty entry for null
+            } else if (token.isScalarValue()) {
+                final String arrayValue = parser.getText();
+
+                // Add element to resulting list
+                arrayValues.add(arrayValue);
+
+                // Add unique entry for element
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, arrayValue));
+            } else {
+                // Recursively flatten
+                flattenContainer(internalPath, token, parser, entries);
+            }
+        }
+
+        // Store the complete array as an entry with all values
+        if (!arrayValues.isEmpty())
+            entries.put(currentPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, arrayValues));
+    }
+
+    private static void flattenContainer(final String currentPath, final JsonToken token, final JsonParser parser, final Map<String, TranslationBundleEntry> entries) throws IOException {
+        if (token == JsonToken.START_OBJECT) {
+            flattenObject(currentPath, parser, entries);
+        } else if (token == JsonToken.START_ARRAY) {
+            flattenArray(currentPath, parser, entries);
+        } else {
+            throw new TranslationLoadException("Failed to read json as it has an unexpected token at '" + currentPath + "'!");
+        }
+    }
+
+    /**
+     * Gets the text of a scalar value as written, null values become an empty string
+     */
+    private static String valueOf(final JsonToken token, final JsonParser parser) throws IOException {
+        return token == JsonToken.VALUE_NULL ? "" : parser.getText();
+    }
+
+    /**
+     * Reads a json document into an ordered tree of maps, lists, strings and {@link Scalar}s
+     */
+    private static Map<String, Object> readTree(final JsonParser parser) throws IOException {
+        final JsonToken root = parser.nextToken();
+        if (root == null)
+            return new LinkedHashMap<>();
+
+        if (root != JsonToken.START_OBJECT)
+            throw new IOException("Failed to merge json as the root is not an object!");
+
+        return readObject(parser);
+    }
+
+    private static Map<String, Object> readObject(final JsonParser parser) throws IOException {
+        final Map<String, Object> object = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String key = parser.currentName();
+            object.put(key, readValue(parser.nextToken(), parser));
+        }
+        return object;
+    }
+
+    private static Object readValue(final JsonToken token, final JsonParser parser) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject(parser);
+            case START_ARRAY:
+                final List<Object> array = new ArrayList<>();
+                for (JsonToken element; (element = parser.nextToken()) != JsonToken.END_ARRAY; )
+                    array.add(readValue(element, parser));
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            default:
+                return new Scalar(token, parser.getText());
+        }
+    }
+
+    /**
+     * Recursively merges Json objects, adding missing keys from origin to target while preserving targets existing values and maintaining origins order.
+     *
+     * @param origin The original Json object
+     * @param target The user modified Json object
+     * @return The merged Json object
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mergeJsonObjects(Map<String, Object> origin, Map<String, Object> target) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+
+        // Add all keys from origin in original order
+        for (Map.Entry<String, Object> entry : origin.entrySet()) {
+            final String key = entry.getKey();
+
+            if (target.containsKey(key)) { // Key exists in both, check if deep merge required
+                final Object originValue = entry.getValue();
+                final Object targetValue = target.get(key);
+
+                if (originValue instanceof Map && targetValue instanceof Map) {
+                    result.put(key, mergeJsonObjects((Map<String, Object>) originValue, (Map<String, Object>) targetValue)); // Recursively merge nested objects
+                } else {
+                    result.put(key, targetValue); // Keep target's value
+                }
+            } else {
+                result.put(key, entry.getValue()); // Key exists only in origin, add to target
+            }
+        }
+
+        // Add remaining keys from target that are not present in origin
+        for (Map.Entry<String, Object> entry : target.entrySet()) {
+            result.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void write(final Object value, final JsonGenerator generator) throws IOException {
+        if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                write(entry.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            generator.writeStartArray();
+            for (Object element : (List<Object>) value)
+                write(element, generator);
+            generator.writeEndArray();
+        } else if (value instanceof Scalar) {
+            final Scalar scalar = (Scalar) value;
+            switch (scalar.token) {
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    generator.writeNumber(scalar.text); // Keep numbers exactly as written
+                    break;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    generator.writeBoolean(scalar.token == JsonToken.VALUE_TRUE);
+                    break;
+                default:
+                    generator.writeNull();
+            }
+        } else {
+            generator.writeString((String) value);
+        }
+    }
+
+    /**
+     * A number, boolean or null value of a tree, kept as written.
+     */
+    private static final class Scalar {
+        private final JsonToken token;
+        private final String text;
+
+        private Scalar(JsonToken token, String text) {
+            this.token = token;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.milkdrinkers.wordweaver.jackson;
+
+import io.github.milkdrinkers.wordweaver.json.JsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.parser.BuiltInJsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JacksonTranslationParserTest {
+    private final JacksonTranslationParser parser = new JacksonTranslationParser();
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String content) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void shouldParseNestedAndArrays() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.json", "{\"messages\":{\"welcome\":\"Hi\"},\"rules\":[\"a\",\"b\"]}"));
+
+        assertEquals("Hi", entries.get("messages.welcome").getValue());
+        assertEquals(Arrays.asList("a", "b"), entries.get("rules").getValues());
+
+        // Individual indexed elements (1-based)
+        assertEquals("a", entries.get("rules.1").getValue());
+        assertEquals("b", entries.get("rules.2").getValue());
+    }
+
+    @Test
+    void shouldParseJsoncWithComments() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.jsonc", "{\n  // a comment\n  /* block */\n  # hash\n  greeting: 'Hello',\n}"));
+
+        assertEquals("Hello", entries.get("greeting").getValue());
+    }
+
+    @Test
+    void scalarsBecomeStringsAndNullBecomesEmpty() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.json", "{\"count\":42,\"ratio\":1.50,\"enabled\":true,\"empty\":null}"));
+
+        assertEquals("42", entries.get("count").getValue());
+        assertEquals("1.50", entries.get("ratio").getValue());
+        assertEquals("true", entries.get("enabled").getValue());
+        assertEquals("", entries.get("empty").getValue());
+    }
+
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream("{\"messages\":{\"welcome\":\"Grüß\"}}".getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(parser.supportsStreams());
+        assertEquals("Grüß", entries.get("messages.welcome").getValue());
+    }
+
+    @Test
+    void flattensLikeTheBuiltInParser() {
+        String document = "{\"a\":{\"b\":\"c\",\"n\":null},\"list\":[\"x\",null,{\"y\":\"z\"},[\"w\"]],\"num\":3e2,\"\":{\"blank\":\"key\"}}";
+
+        Map<String, TranslationBundleEntry> expected = new BuiltInJsonTranslationParser().parse(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+        Map<String, TranslationBundleEntry> actual = parser.parse(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, TranslationBundleEntry> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().getType(), actual.get(entry.getKey()).getType(), entry.getKey());
+            assertEquals(entry.getValue().getValues(), actual.get(entry.getKey()).getValues(), entry.getKey());
+        }
+    }
+
+    @Test
+    void readsLenientJsonLikeGson() {
+        String document = "{\n"
+            + "  // Comment\n"
+            + "  # Hash comment\n"
+            + "  unquoted: 'single',\n"
+            + "  \"missing\": [,\"a\",,\"b\"],\n"
+            + "  \"numbers\": {\"nan\": NaN, \"infinity\": -Infinity, \"leading\": .5, \"trailing\": 5.},\n"
+            + "  \"tab\": \"a\tb\"\n"
+            + "}";
+
+        Map<String, TranslationBundleEntry> expected = new JsonTranslationParser().parse(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+        Map<String, TranslationBundleEntry> actual = parser.parse(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, TranslationBundleEntry> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().getType(), actual.get(entry.getKey()).getType(), entry.getKey());
+            assertEquals(entry.getValue().getValues(), actual.get(entry.getKey()).getValues(), entry.getKey());
+        }
+    }
+
+    @Test
+    void rejectsLenientJsonItCannotReadAsWritten() {
+        for (String content : Arrays.asList("{a: unquoted}", "{a = 'x'}", "{a: 'x'; b: 'y'}", "{a: 010}", "{a: +1}")) {
+            // Accepted by GSON, but Jackson cannot read them, or only by rewriting the value
+            new JsonTranslationParser().parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            assertThrows(TranslationLoadException.class, () -> parser.parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))), content);
+        }
+    }
+
+    @Test
+    void malformedJsonThrows() throws IOException {
+        for (String content : Arrays.asList("{ this is not valid json ", "[\"a\"]", "{\"a\":1} {}")) {
+            Path file = write("en_US.json", content);
+
+            assertThrows(TranslationLoadException.class, () -> parser.parse(file), content);
+        }
+    }
+
+    @Test
+    void shouldMergeMissingKeysPreservingTargetValues() throws IOException {
+        Path target = write("en_US.json", "{\"section\":{\"a\":\"keep\"},\"custom\":1}");
+
+        String origin = "{\n  // comment\n  \"section\": {\"a\": \"orig\", \"b\": \"added\"},\n  \"list\": [\"x\", 2.50, true, null],\n  \"empty\": {}\n}";
+        parser.merge(new ByteArrayInputStream(origin.getBytes(StandardCharsets.UTF_8)), target);
+
+        String expected = "{\n"
+            + "  \"section\": {\n"
+            + "    \"a\": \"keep\",\n"
+            + "    \"b\": \"added\"\n"
+            + "  },\n"
+            + "  \"list\": [\n"
+            + "    \"x\",\n"
+            + "    2.50,\n"
+            + "    true,\n"
+            + "    null\n"
+            + "  ],\n"
+            + "  \"empty\": {},\n"
+            + "  \"custom\": 1\n"
+            + "}";
+        assertEquals(expected, new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+    }
+}
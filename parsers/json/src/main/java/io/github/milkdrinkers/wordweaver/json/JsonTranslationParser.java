@@ -2,11 +2,15 @@ package io.github.milkdrinkers.wordweaver.json;
 
 import com.google.gson.*;
 import com.google.gson.stream.JsonReader;
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
 import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap;
 import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -15,9 +19,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Parser for JSON and JSONC (JSON with comments) files using GSON.
+ * <p>
+ * Very large bundles can be parsed with {@link #JsonTranslationParser(boolean) lazy sections}, where loading only
+ * indexes the top-level objects and arrays of a bundle, and each one is parsed the first time a key inside it is
+ * looked up.
  */
 public class JsonTranslationParser implements TranslationParser {
     private static final Set<String> EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("json", "jsonc")));
@@ -28,6 +37,34 @@ public class JsonTranslationParser implements TranslationParser {
         .setStrictness(Strictness.LENIENT)
         .create();
 
+    private final boolean lazySections;
+
+    /**
+     * Creates a parser that parses bundles in full while loading.
+     */
+    public JsonTranslationParser() {
+        this(false);
+    }
+
+    /**
+     * Creates a parser, optionally parsing the top-level sections of bundles lazily.
+     * <p>
+     * With lazy sections, loading a bundle reads the file into memory and indexes the byte offsets of each top-level
+     * object and array, which is much faster than parsing it. A section is parsed the first time a key under it is
+     * looked up, so sections that are never used are never parsed. Top-level values that are not objects or arrays are
+     * parsed straight away.
+     * <p>
+     * The structure of every section is still checked while indexing, so a misplaced bracket or separator fails the
+     * load as it would without lazy sections. Errors inside a string, such as an invalid escape, are only found when
+     * the section is loaded, and are thrown by every lookup in it. Bundles merged from several files, and the keys of
+     * the registry, are still loaded in full.
+     *
+     * @param lazySections Whether to parse top-level sections lazily
+     */
+    public JsonTranslationParser(boolean lazySections) {
+        this.lazySections = lazySections;
+    }
+
     @Override
     public Set<String> extensions() {
         return EXTENSIONS;
@@ -44,10 +81,120 @@ public class JsonTranslationParser implements TranslationParser {
         if (!Files.isRegularFile(file))
             throw new TranslationLoadException("The bundle file is not a file!");
 
-        try (
-            final Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
-            final JsonReader jsonReader = GSON.newJsonReader(reader)
-        ) {
+        if (lazySections) {
+            try {
+                return parseLazily(Files.readAllBytes(file));
+            } catch (IOException e) {
+                throw new TranslationLoadException("Failed to read json from file!", e);
+            }
+        }
+
+        try (final Reader reader = BundleReaders.newReader(file)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read json as the file does not exist!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        if (lazySections) {
+            try {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[8192];
+                for (int read; (read = stream.read(buffer)) != -1; ) {
+                    bytes.write(buffer, 0, read);
+                }
+
+                return parseLazily(bytes.toByteArray());
+            } catch (IOException e) {
+                throw new TranslationLoadException("Failed to read json from stream!", e);
+            }
+        }
+
+        return parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Indexes the top-level sections of a json document, leaving them to be parsed on first use
+     *
+     * @param bytes The UTF-8 encoded document, retained by the sections until they are loaded
+     * @return A {@link LazySectionMap} of entries, or a map of all entries if the document cannot be indexed
+     */
+    private static Map<String, TranslationBundleEntry> parseLazily(final byte[] bytes) throws TranslationLoadException {
+        final List<SectionScanner.Member> members = SectionScanner.scan(bytes);
+        if (members == null) // Not an object, or malformed, parse in full to report the error
+            return parse(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        final Map<String, Supplier<Map<String, TranslationBundleEntry>>> sections = new LinkedHashMap<>();
+
+        for (SectionScanner.Member member : members) {
+            final String name = parseName(bytes, member);
+
+            // Names containing a dot cannot be told apart from nested keys, so are parsed straight away
+            if (member.container && name.indexOf('.') < 0) {
+                entries.remove(name); // Later members replace earlier ones of the same name
+                sections.put(name, () -> parseSection(name, bytes, member.valueStart, member.valueEnd));
+            } else {
+                sections.remove(name);
+                entries.putAll(parseSection(name, bytes, member.valueStart, member.valueEnd));
+            }
+        }
+
+        return new LazySectionMap(entries, sections, bytes.length);
+    }
+
+    private static String parseName(final byte[] bytes, final SectionScanner.Member member) throws TranslationLoadException {
+        final byte first = bytes[member.nameStart];
+        if (first != '"' && first != '\'')
+            return new String(bytes, member.nameStart, member.nameEnd - member.nameStart, StandardCharsets.UTF_8);
+
+        // Quoted names are unescaped by GSON
+        try (final Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes, member.nameStart, member.nameEnd - member.nameStart), StandardCharsets.UTF_8)) {
+            return GSON.newJsonReader(reader).nextString();
+        } catch (IOException | IllegalStateException e) {
+            throw new TranslationLoadException("Failed to read json as it is malformed!", e);
+        }
+    }
+
+    /**
+     * Parses and flattens the value of a top-level member
+     *
+     * @param name  The name of the member
+     * @param bytes The document
+     * @param start The offset of the value
+     * @param end   The offset after the value
+     * @return The entries of the value
+     */
+    private static Map<String, TranslationBundleEntry> parseSection(final String name, final byte[] bytes, final int start, final int end) throws TranslationLoadException {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+
+        try (final Reader reader = new InputStreamReader(new ByteArrayInputStream(bytes, start, end - start), StandardCharsets.UTF_8)) {
+            flattenJsonElement(name, JsonParser.parseReader(GSON.newJsonReader(reader)), entries);
+        } catch (IOException | JsonIOException e) {
+            throw new TranslationLoadException("Failed to read json section '" + name + "'!", e);
+        } catch (JsonSyntaxException e) {
+            throw new TranslationLoadException("Failed to read json section '" + name + "' as it is malformed!", e);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Parses json from a reader into a map of entries
+     *
+     * @param reader The reader to parse, left open
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> parse(final Reader reader) throws TranslationLoadException {
+        try {
+            final JsonReader jsonReader = GSON.newJsonReader(reader);
             final JsonObject jsonObject = JsonParser.parseReader(jsonReader).getAsJsonObject();
 
             if (jsonObject == null)
@@ -58,8 +205,6 @@ public class JsonTranslationParser implements TranslationParser {
             throw new TranslationLoadException("Failed to read json from reader!", e);
         } catch (JsonSyntaxException e) {
             throw new TranslationLoadException("Failed to read json as it is malformed!", e);
-        } catch (IOException e) {
-            throw new TranslationLoadException("Failed to read json as the file does not exist!", e);
         }
     }
 
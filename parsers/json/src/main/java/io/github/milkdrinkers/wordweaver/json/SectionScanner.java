@@ -0,0 +1,296 @@
+package io.github.milkdrinkers.wordweaver.json;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Indexes the byte offsets of the members of a JSON document's root object without parsing their values.
+ * <p>
+ * The structure of every nested object and array is checked while skipping it, so a section with a misplaced bracket,
+ * separator or missing value fails the load instead of its first lookup. Only the contents of strings and literals are
+ * left for GSON to validate when their section is loaded. Accepts the lenient syntax GSON does.
+ */
+final class SectionScanner {
+    private static final int EOF = -1;
+    private static final int MAX_DEPTH = 255; // GSON's default nesting limit
+
+    private final byte[] bytes;
+    private int position;
+
+    private SectionScanner(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Indexes the members of the root object of a UTF-8 encoded document.
+     *
+     * @param bytes The document
+     * @return The members in document order, or null if the document cannot be indexed and must be parsed as a whole
+     */
+    static @Nullable List<Member> scan(byte[] bytes) {
+        return new SectionScanner(bytes).scan();
+    }
+
+    private @Nullable List<Member> scan() {
+        // Skip the byte order mark
+        if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF)
+            position = 3;
+
+        if (skipWhitespace() != '{')
+            return null;
+        position++;
+
+        final List<Member> members = new ArrayList<>();
+
+        int c = skipWhitespace();
+        while (c != '}') {
+            final int nameStart = position;
+            if (!skipScalar(c))
+                return null;
+            final int nameEnd = position;
+
+            if (!skipNameSeparator())
+                return null;
+
+            c = skipWhitespace();
+            final int valueStart = position;
+            final boolean container = c == '{' || c == '[';
+            if (!skipValue(c, 1))
+                return null;
+
+            members.add(new Member(nameStart, nameEnd, valueStart, position, container));
+
+            c = skipWhitespace();
+            if (c == ',' || c == ';') {
+                position++;
+                c = skipWhitespace();
+                if (c == '}')
+                    return null; // GSON expects another name after a separator
+            } else if (c != '}') {
+                return null;
+            }
+        }
+        position++;
+
+        return skipWhitespace() == EOF ? members : null;
+    }
+
+    /**
+     * Skips a quoted string or an unquoted literal.
+     */
+    private boolean skipScalar(int c) {
+        if (c == '"' || c == '\'')
+            return skipString(c);
+
+        final int start = position;
+        while (position < bytes.length && !isDelimiter(bytes[position]))
+            position++;
+
+        return position > start;
+    }
+
+    private boolean skipString(int quote) {
+        position++;
+        while (position < bytes.length) {
+            final byte c = bytes[position++];
+            if (c == quote)
+                return true;
+
+            if (c == '\\')
+                position++;
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips the separator between a name and its value, either {@code :}, {@code =} or {@code =>}.
+     */
+    private boolean skipNameSeparator() {
+        final int c = skipWhitespace();
+        if (c == ':') {
+            position++;
+            return true;
+        }
+
+        if (c == '=') {
+            position++;
+            if (position < bytes.length && bytes[position] == '>')
+                position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips a value, checking the structure of the objects and arrays nested inside it.
+     *
+     * @param c     The first byte of the value
+     * @param depth The number of objects and arrays the value is nested in
+     */
+    private boolean skipValue(int c, int depth) {
+        if (c == '{')
+            return depth < MAX_DEPTH && skipObject(depth + 1);
+
+        if (c == '[')
+            return depth < MAX_DEPTH && skipArray(depth + 1);
+
+        return skipScalar(c);
+    }
+
+    private boolean skipObject(int depth) {
+        position++;
+
+        int c = skipWhitespace();
+        if (c == '}') {
+            position++;
+            return true;
+        }
+
+        while (true) {
+            if (!skipScalar(c) || !skipNameSeparator() || !skipValue(skipWhitespace(), depth))
+                return false;
+
+            c = skipWhitespace();
+            if (c == '}') {
+                position++;
+                return true;
+            }
+
+            if (c != ',' && c != ';')
+                return false;
+
+            position++;
+            c = skipWhitespace(); // Another name must follow, GSON rejects a trailing separator in objects
+        }
+    }
+
+    private boolean skipArray(int depth) {
+        position++;
+
+        int c = skipWhitespace();
+        while (c != ']') {
+            if (c != ',' && c != ';') { // Otherwise a missing value, which GSON reads as null
+                if (!skipValue(c, depth))
+                    return false;
+
+                c = skipWhitespace();
+                if (c == ']')
+                    break;
+
+                if (c != ',' && c != ';')
+                    return false;
+            }
+
+            position++;
+            c = skipWhitespace();
+        }
+        position++;
+
+        return true;
+    }
+
+    /**
+     * Skips whitespace and comments.
+     *
+     * @return The first byte that is not skipped, which is left unread, or {@link #EOF}
+     */
+    private int skipWhitespace() {
+        while (position < bytes.length) {
+            final byte c = bytes[position];
+            switch (c) {
+                case ' ':
+                case '\t':
+                case '\n':
+                case '\r':
+                    position++;
+                    continue;
+                case '#':
+                    skipLine();
+                    continue;
+                case '/':
+                    if (position + 1 < bytes.length && bytes[position + 1] == '/') {
+                        skipLine();
+                        continue;
+                    }
+
+                    if (position + 1 < bytes.length && bytes[position + 1] == '*') {
+                        final int end = indexOf('*', '/', position + 2);
+                        if (end < 0)
+                            return EOF; // Unterminated, left for GSON to report
+                        position = end + 2;
+                        continue;
+                    }
+
+                    return c;
+                default:
+                    return c;
+            }
+        }
+
+        return EOF;
+    }
+
+    private void skipLine() {
+        while (position < bytes.length && bytes[position] != '\n' && bytes[position] != '\r')
+            position++;
+    }
+
+    private int indexOf(char first, char second, int from) {
+        for (int i = from; i + 1 < bytes.length; i++) {
+            if (bytes[i] == first && bytes[i + 1] == second)
+                return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * The characters ending an unquoted literal, matching GSON's lenient mode.
+     */
+    private static boolean isDelimiter(byte c) {
+        switch (c) {
+            case '/':
+            case '\\':
+            case ';':
+            case '#':
+            case '=':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case ':':
+            case ',':
+            case ' ':
+            case '\t':
+            case '\f':
+            case '\r':
+            case '\n':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * The byte ranges of a member of the root object. Each range ends exclusively.
+     */
+    static final class Member {
+        final int nameStart;
+        final int nameEnd;
+        final int valueStart;
+        final int valueEnd;
+        final boolean container;
+
+        Member(int nameStart, int nameEnd, int valueStart, int valueEnd, boolean container) {
+            this.nameStart = nameStart;
+            this.nameEnd = nameEnd;
+            this.valueStart = valueStart;
+            this.valueEnd = valueEnd;
+            this.container = container;
+        }
+    }
+}
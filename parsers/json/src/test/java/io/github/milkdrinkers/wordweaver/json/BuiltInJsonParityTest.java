@@ -0,0 +1,44 @@
+package io.github.milkdrinkers.wordweaver.json;
+
+import io.github.milkdrinkers.wordweaver.parser.BuiltInJsonTranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that the built-in JSON parser of the core module flattens documents exactly like the GSON based parser.
+ */
+class BuiltInJsonParityTest {
+    private static final String DOCUMENT = "{\n"
+        + "  // Comment\n"
+        + "  \"messages\": {\"welcome\": \"<green>Hi <player>\", \"empty\": null, \"count\": 3, \"ratio\": 1.50},\n"
+        + "  \"rules\": [\"a\", \"b\", null, {\"nested\": [\"c\"]}],\n"
+        + "  \"objects\": [{\"title\": \"First\"}],\n"
+        + "  \"escaped\": \"Line\\nbreak \\u00e9 \\\"quote\\\"\",\n"
+        + "  'single': 'quoted',\n"
+        + "  \"\": {\"blank\": \"key\"}\n"
+        + "}";
+
+    @Test
+    void flattensLikeGson() {
+        final Map<String, TranslationBundleEntry> expected = new JsonTranslationParser().parse(stream());
+        final Map<String, TranslationBundleEntry> actual = new BuiltInJsonTranslationParser().parse(stream());
+
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, TranslationBundleEntry> entry : expected.entrySet()) {
+            final TranslationBundleEntry other = actual.get(entry.getKey());
+
+            assertEquals(entry.getValue().getType(), other.getType(), entry.getKey());
+            assertEquals(entry.getValue().getValues(), other.getValues(), entry.getKey());
+        }
+    }
+
+    private static ByteArrayInputStream stream() {
+        return new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8));
+    }
+}
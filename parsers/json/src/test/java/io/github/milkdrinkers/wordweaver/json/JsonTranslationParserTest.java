@@ -2,6 +2,7 @@ package io.github.milkdrinkers.wordweaver.json;
 
 import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
 import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.LazySectionMap;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -14,7 +15,11 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JsonTranslationParserTest {
     private final JsonTranslationParser parser = new JsonTranslationParser();
@@ -66,6 +71,13 @@ class JsonTranslationParserTest {
         assertEquals("", entries.get("empty").getValue());
     }
 
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream("{\"messages\":{\"welcome\":\"Hi\"}}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Hi", entries.get("messages.welcome").getValue());
+    }
+
     @Test
     void malformedJsonThrows() throws IOException {
         Path file = write("en_US.json", "{ this is not valid json ");
@@ -103,4 +115,77 @@ class JsonTranslationParserTest {
         assertEquals("keep", entries.get("section.a").getValue());
         assertEquals("added", entries.get("section.b").getValue());
     }
+
+    @Test
+    void lazySectionsMatchFullParse() throws IOException {
+        Path file = write("en_US.jsonc", "\uFEFF{\n"
+            + "  // Comment\n"
+            + "  \"greeting\": \"Hello\",\n"
+            + "  gui: {\"title\": \"Menu\", 'buttons': [\"Ok\", \"Cancel\", {\"nested\": null}]},\n"
+            + "  \"rules\": [\"a\", \"b\"], # Comment\n"
+            + "  \"dotted.section\": {\"key\": \"value\"},\n"
+            + "  \"esc\\\"aped\": {\"k\": \"}]\\\" /* not a comment */\"},\n"
+            + "  \"count\": 42,\n"
+            + "  \"greeting\": {\"replaced\": \"yes\"}\n"
+            + "}");
+
+        Map<String, TranslationBundleEntry> expected = parser.parse(file);
+        Map<String, TranslationBundleEntry> lazy = new JsonTranslationParser(true).parse(file);
+
+        assertEquals(expected.keySet(), lazy.keySet());
+        for (Map.Entry<String, TranslationBundleEntry> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().getType(), lazy.get(entry.getKey()).getType(), entry.getKey());
+            assertEquals(entry.getValue().getValues(), lazy.get(entry.getKey()).getValues(), entry.getKey());
+        }
+    }
+
+    @Test
+    void lazySectionsAreParsedOnFirstLookup() throws IOException {
+        Path file = write("en_US.json", "{\"gui\":{\"title\":\"Menu\"},\"commands\":{\"help\":\"Help\"},\"greeting\":\"Hi\"}");
+
+        LazySectionMap entries = assertInstanceOf(LazySectionMap.class, new JsonTranslationParser(true).parse(file));
+
+        assertEquals("Hi", entries.get("greeting").getValue());
+        assertFalse(entries.isLoaded("gui"));
+        assertFalse(entries.isLoaded("commands"));
+
+        assertEquals("Menu", entries.get("gui.title").getValue());
+        assertTrue(entries.isLoaded("gui"));
+        assertFalse(entries.isLoaded("commands"));
+    }
+
+    @Test
+    void malformedLazySectionFailsTheLoad() throws IOException {
+        for (String broken : new String[]{"{\"key\": }", "{\"key\" \"Value\"}", "{\"key\": \"Value\",}", "[\"a\" \"b\"]", "{\"key\": [\"a\"}}"}) {
+            Path file = write("en_US.json", "{\"valid\":{\"key\":\"Value\"},\"broken\":" + broken + "}");
+
+            assertThrows(TranslationLoadException.class, () -> new JsonTranslationParser(true).parse(file), broken);
+        }
+    }
+
+    @Test
+    void lenientLazySectionsLoad() throws IOException {
+        Path file = write("en_US.json", "{gui = {title => 'Menu'; buttons: [Ok; Cancel,]}, 'chat': {}}");
+
+        Map<String, TranslationBundleEntry> expected = parser.parse(file);
+        Map<String, TranslationBundleEntry> lazy = assertInstanceOf(LazySectionMap.class, new JsonTranslationParser(true).parse(file));
+
+        assertEquals(expected.keySet(), lazy.keySet());
+        for (Map.Entry<String, TranslationBundleEntry> entry : expected.entrySet())
+            assertEquals(entry.getValue().getValues(), lazy.get(entry.getKey()).getValues(), entry.getKey());
+    }
+
+    @Test
+    void lazySectionsFromStream() {
+        Map<String, TranslationBundleEntry> entries = new JsonTranslationParser(true).parse(new ByteArrayInputStream("{\"messages\":{\"welcome\":\"Hi\"}}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Hi", entries.get("messages.welcome").getValue());
+    }
+
+    @Test
+    void malformedRootThrowsWithLazySections() throws IOException {
+        Path file = write("en_US.json", "{ this is not valid json ");
+
+        assertThrows(TranslationLoadException.class, () -> new JsonTranslationParser(true).parse(file));
+    }
 }
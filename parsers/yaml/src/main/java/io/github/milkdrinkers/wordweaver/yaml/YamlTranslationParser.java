@@ -0,0 +1,356 @@
+package io.github.milkdrinkers.wordweaver.yaml;
+
+import io.github.milkdrinkers.wordweaver.parser.BundleReaders;
+import io.github.milkdrinkers.wordweaver.parser.TranslationParser;
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import io.github.milkdrinkers.wordweaver.storage.impl.TranslationBundleEntryImpl;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Parser for YAML files using SnakeYAML.
+ * <p>
+ * Bundles are flattened straight from SnakeYAML's event stream, without building a document tree. Nested mappings
+ * become dotted keys, and sequences are flattened the same way as {@code JsonTranslationParser} flattens arrays.
+ */
+public class YamlTranslationParser implements TranslationParser {
+    private static final Set<String> EXTENSIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("yml", "yaml")));
+    private static final Set<String> NULL_VALUES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList("", "~", "null", "Null", "NULL")));
+
+    @Override
+    public Set<String> extensions() {
+        return EXTENSIONS;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(Path file) throws TranslationLoadException {
+        if (!Files.exists(file))
+            throw new TranslationLoadException("The bundle file does not exist!");
+
+        if (!Files.isReadable(file))
+            throw new TranslationLoadException("The bundle file can not be read! Ensure the application has sufficient permissions to read the file.");
+
+        if (!Files.isRegularFile(file))
+            throw new TranslationLoadException("The bundle file is not a file!");
+
+        try (final Reader reader = BundleReaders.newReader(file)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new TranslationLoadException("Failed to read yaml as the file does not exist!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsStreams() {
+        return true;
+    }
+
+    @Override
+    public Map<String, TranslationBundleEntry> parse(InputStream stream) throws TranslationLoadException {
+        return parse(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses yaml from a reader into a map of entries
+     *
+     * @param reader The reader to parse, left open
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> parse(final Reader reader) throws TranslationLoadException {
+        try {
+            return flatten(yaml().parse(reader).iterator());
+        } catch (YAMLException e) {
+            throw new TranslationLoadException("Failed to read yaml as it is malformed!", e);
+        }
+    }
+
+    @Override
+    public boolean supportsMerge() {
+        return true;
+    }
+
+    /**
+     * Merges the documents as node trees without constructing java values, and without resolving scalars other than
+     * nulls to types, so scalars such as {@code yes}, {@code 010} or dates keep the text they were written with. Comments
+     * are kept as well.
+     */
+    @Override
+    public void merge(InputStream origin, Path target) throws IOException {
+        final Yaml yaml = yaml(true);
+
+        final MappingNode originYaml;
+        try (final Reader reader = new InputStreamReader(origin, StandardCharsets.UTF_8)) {
+            originYaml = asMapping(yaml.compose(reader));
+        }
+
+        final MappingNode targetYaml;
+        try (final Reader reader = Files.newBufferedReader(target, StandardCharsets.UTF_8)) {
+            targetYaml = asMapping(yaml.compose(reader));
+        }
+
+        // Merge preserving order
+        final MappingNode mergedYaml = targetYaml == null ? originYaml : originYaml == null ? targetYaml : mergeYamlMappings(originYaml, targetYaml);
+
+        try (final Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            if (mergedYaml == null) {
+                writer.write("{}\n");
+            } else {
+                yaml.serialize(mergedYaml, writer);
+            }
+        }
+    }
+
+    private static Yaml yaml() {
+        return yaml(false);
+    }
+
+    /**
+     * Creates a SnakeYAML instance that only constructs standard java types, and dumps in block style
+     *
+     * @param merging Whether the instance is used to merge, reading and writing comments and treating every scalar
+     *                that is not null as a string. Comment events would break flattening.
+     */
+    private static Yaml yaml(boolean merging) {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setProcessComments(merging);
+
+        final DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        dumperOptions.setIndent(2);
+        dumperOptions.setIndicatorIndent(2);
+        dumperOptions.setIndentWithIndicator(true);
+        dumperOptions.setAllowUnicode(true);
+        dumperOptions.setSplitLines(false);
+        dumperOptions.setProcessComments(merging);
+
+        final Resolver resolver = merging ? new StringResolver() : new Resolver();
+        return new Yaml(new SafeConstructor(loaderOptions), new Representer(dumperOptions), dumperOptions, loaderOptions, resolver);
+    }
+
+    /**
+     * Flattens the events of a yaml document into a map of entries
+     *
+     * @param events The event stream of the document
+     * @return A map of entries
+     */
+    private static Map<String, TranslationBundleEntry> flatten(final Iterator<Event> events) throws TranslationLoadException {
+        final Map<String, TranslationBundleEntry> entries = new HashMap<>();
+        final Map<String, String> anchors = new HashMap<>(); // Values of anchored scalars, for resolving aliases
+
+        // Skip to the root node, an empty document has no entries
+        Event event = null;
+        while (events.hasNext()) {
+            event = events.next();
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart) || event.is(Event.ID.Scalar) || event.is(Event.ID.Alias))
+                break;
+            event = null;
+        }
+
+        if (event == null || (event.is(Event.ID.Scalar) && isNull((ScalarEvent) event)))
+            return entries;
+
+        if (!event.is(Event.ID.MappingStart))
+            throw new TranslationLoadException("Failed to read yaml as the root is not a mapping!");
+
+        flattenMapping("", events, entries, anchors);
+
+        return entries;
+    }
+
+    /**
+     * Recursively iterates through a mapping and stores scalar values, consuming events up to and including its end
+     *
+     * @param currentPath The current path in the map
+     * @param events      The event stream positioned after the start of the mapping
+     * @param entries     The map that stores the entries
+     * @param anchors     The values of anchored scalars
+     */
+    private static void flattenMapping(final String currentPath, final Iterator<Event> events, final Map<String, TranslationBundleEntry> entries, final Map<String, String> anchors) throws TranslationLoadException {
+        while (events.hasNext()) {
+            final Event keyEvent = events.next();
+            if (keyEvent.is(Event.ID.MappingEnd))
+                return;
+
+            if (!keyEvent.is(Event.ID.Scalar))
+                throw new TranslationLoadException("Failed to read yaml as it contains a non scalar key!");
+
+            final String key = ((ScalarEvent) keyEvent).getValue();
+            final String internalPath = currentPath.isEmpty() ? key : currentPath + '.' + key;
+
+            flattenValue(internalPath, events.next(), events, entries, anchors);
+        }
+    }
+
+    /**
+     * Recursively iterates through a sequence and stores scalar values, consuming events up to and including its end
+     *
+     * @param currentPath The current path in the map
+     * @param events      The event stream positioned after the start of the sequence
+     * @param entries     The map that stores the entries
+     * @param anchors     The values of anchored scalars
+     * @implNote This method stores individual elements with sequence indices and the complete sequence as an entry with all values
+     */
+    private static void flattenSequence(final String currentPath, final Iterator<Event> events, final Map<String, TranslationBundleEntry> entries, final Map<String, String> anchors) throws TranslationLoadException {
+        final List<String> sequenceValues = new ArrayList<>();
+
+        for (int i = 1; events.hasNext(); i++) {
+            final Event event = events.next();
+            if (event.is(Event.ID.SequenceEnd))
+                break;
+
+            final String internalPath = currentPath + '.' + i;
+            final String value = scalarValue(event, anchors);
+
+            if (value != null) {
+                // Add element to resulting list
+                sequenceValues.add(value);
+
+                // Add unique entry for element
+                entries.put(internalPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, value));
+            } else {
+                // Recursively flatten
+                flattenValue(internalPath, event, events, entries, anchors);
+            }
+        }
+
+        // Store the complete sequence as an entry with all values
+        if (!sequenceValues.isEmpty())
+            entries.put(currentPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.LIST, sequenceValues));
+    }
+
+    /**
+     * Flattens a single value node of any kind
+     *
+     * @param currentPath The path of the value
+     * @param event       The first event of the value
+     * @param events      The event stream positioned after that event
+     * @param entries     The map that stores the entries
+     * @param anchors     The values of anchored scalars
+     */
+    private static void flattenValue(final String currentPath, final Event event, final Iterator<Event> events, final Map<String, TranslationBundleEntry> entries, final Map<String, String> anchors) throws TranslationLoadException {
+        if (event.is(Event.ID.MappingStart)) {
+            flattenMapping(currentPath, events, entries, anchors);
+        } else if (event.is(Event.ID.SequenceStart)) {
+            flattenSequence(currentPath, events, entries, anchors);
+        } else {
+            final String value = scalarValue(event, anchors);
+            if (value == null) // Aliases of mappings and sequences are not supported
+                throw new TranslationLoadException("Failed to read yaml as an alias of '" + currentPath + "' does not refer to a scalar!");
+
+            entries.put(currentPath, new TranslationBundleEntryImpl(TranslationBundleEntry.Type.STRING, value));
+        }
+    }
+
+    /**
+     * Gets the string value of a scalar or an alias to a scalar, remembering anchored scalars for later aliases
+     *
+     * @return The value, null values become an empty string, or null if the event is not a scalar
+     */
+    private static String scalarValue(final Event event, final Map<String, String> anchors) {
+        if (event.is(Event.ID.Alias))
+            return anchors.get(((AliasEvent) event).getAnchor());
+
+        if (!event.is(Event.ID.Scalar))
+            return null;
+
+        final ScalarEvent scalar = (ScalarEvent) event;
+        final String value = isNull(scalar) ? "" : scalar.getValue(); // Add empty entry for null
+
+        if (scalar.getAnchor() != null)
+            anchors.put(scalar.getAnchor(), value);
+
+        return value;
+    }
+
+    private static boolean isNull(final ScalarEvent scalar) {
+        return scalar.isPlain() && NULL_VALUES.contains(scalar.getValue());
+    }
+
+    private static MappingNode asMapping(Node document) throws IOException {
+        if (document == null)
+            return null;
+
+        if (!(document instanceof MappingNode))
+            throw new IOException("Failed to merge yaml as the root is not a mapping!");
+
+        return (MappingNode) document;
+    }
+
+    /**
+     * Recursively merges yaml mappings, adding missing keys from origin to target while preserving targets existing values and maintaining origins order.
+     *
+     * @param origin The original yaml mapping
+     * @param target The user modified yaml mapping, updated in place to keep its style and comments
+     * @return The merged yaml mapping
+     */
+    private static MappingNode mergeYamlMappings(MappingNode origin, MappingNode target) {
+        final Map<String, NodeTuple> targetTuples = new LinkedHashMap<>();
+        final List<NodeTuple> unkeyed = new ArrayList<>(); // Non scalar keys, kept as they are
+        for (NodeTuple tuple : target.getValue()) {
+            if (tuple.getKeyNode() instanceof ScalarNode) {
+                targetTuples.putIfAbsent(((ScalarNode) tuple.getKeyNode()).getValue(), tuple);
+            } else {
+                unkeyed.add(tuple);
+            }
+        }
+
+        final List<NodeTuple> result = new ArrayList<>();
+
+        // Add all keys from origin in original order
+        for (NodeTuple tuple : origin.getValue()) {
+            if (!(tuple.getKeyNode() instanceof ScalarNode))
+                continue;
+
+            final NodeTuple targetTuple = targetTuples.remove(((ScalarNode) tuple.getKeyNode()).getValue());
+            if (targetTuple == null) {
+                result.add(tuple); // Key exists only in origin, add to target
+            } else if (tuple.getValueNode() instanceof MappingNode && targetTuple.getValueNode() instanceof MappingNode) {
+                result.add(new NodeTuple(targetTuple.getKeyNode(), mergeYamlMappings((MappingNode) tuple.getValueNode(), (MappingNode) targetTuple.getValueNode()))); // Recursively merge nested mappings
+            } else {
+                result.add(targetTuple); // Keep target's value
+            }
+        }
+
+        // Add remaining keys from target that are not present in origin
+        result.addAll(targetTuples.values());
+        result.addAll(unkeyed);
+
+        target.setValue(result);
+        return target;
+    }
+
+    /**
+     * Resolves plain scalars to strings unless they are null, so they are written back as they were read
+     */
+    private static final class StringResolver extends Resolver {
+        @Override
+        protected void addImplicitResolvers() {
+            addImplicitResolver(Tag.NULL, NULL, "~nN\0");
+            addImplicitResolver(Tag.NULL, EMPTY, null);
+        }
+    }
+}
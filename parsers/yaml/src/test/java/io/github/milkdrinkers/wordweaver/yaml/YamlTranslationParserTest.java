@@ -0,0 +1,139 @@
+package io.github.milkdrinkers.wordweaver.yaml;
+
+import io.github.milkdrinkers.wordweaver.storage.TranslationBundleEntry;
+import io.github.milkdrinkers.wordweaver.storage.TranslationLoadException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class YamlTranslationParserTest {
+    private final YamlTranslationParser parser = new YamlTranslationParser();
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, String content) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void handlesYamlExtensions() {
+        assertTrue(parser.extensions().containsAll(Arrays.asList("yml", "yaml")));
+        assertTrue(parser.supportsMerge());
+        assertTrue(parser.supportsStreams());
+    }
+
+    @Test
+    void shouldParseNestedAndSequences() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.yml", "messages:\n  welcome: Hi\nrules:\n  - a\n  - b\n"));
+
+        assertEquals("Hi", entries.get("messages.welcome").getValue());
+
+        List<String> rules = entries.get("rules").getValues();
+        assertEquals(Arrays.asList("a", "b"), rules);
+
+        // Individual indexed elements (1-based)
+        assertEquals("a", entries.get("rules.1").getValue());
+        assertEquals("b", entries.get("rules.2").getValue());
+    }
+
+    @Test
+    void shouldParseMappingsInsideSequences() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.yml", "pages:\n  - title: First\n  - title: Second\n"));
+
+        assertEquals("First", entries.get("pages.1.title").getValue());
+        assertEquals("Second", entries.get("pages.2.title").getValue());
+    }
+
+    @Test
+    void scalarsBecomeStringsAndNullBecomesEmpty() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.yml", "count: 42\nenabled: true\nempty: ~\nquoted: 'null'\n# a comment\nmultiline: |\n  one\n  two\n"));
+
+        assertEquals("42", entries.get("count").getValue());
+        assertEquals("true", entries.get("enabled").getValue());
+        assertEquals("", entries.get("empty").getValue());
+        assertEquals("null", entries.get("quoted").getValue());
+        assertEquals("one\ntwo\n", entries.get("multiline").getValue());
+    }
+
+    @Test
+    void shouldResolveScalarAliases() throws IOException {
+        Map<String, TranslationBundleEntry> entries = parser.parse(write("en_US.yml", "brand: &brand WordWeaver\ntitle: *brand\n"));
+
+        assertEquals("WordWeaver", entries.get("title").getValue());
+    }
+
+    @Test
+    void shouldParseFromStream() {
+        Map<String, TranslationBundleEntry> entries = parser.parse(new ByteArrayInputStream("greeting: Grüß Gott\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Grüß Gott", entries.get("greeting").getValue());
+    }
+
+    @Test
+    void emptyDocumentHasNoEntries() throws IOException {
+        assertTrue(parser.parse(write("en_US.yml", "# nothing here\n")).isEmpty());
+    }
+
+    @Test
+    void malformedYamlThrows() throws IOException {
+        Path file = write("en_US.yml", "key: [unclosed\n");
+
+        assertThrows(TranslationLoadException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void rootSequenceThrows() throws IOException {
+        Path file = write("en_US.yml", "- a\n- b\n");
+
+        assertThrows(TranslationLoadException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void shouldMergeMissingKeysPreservingTargetValues() throws IOException {
+        Path target = write("en_US.yml", "messages:\n  welcome: Custom\n");
+
+        String origin = "messages:\n  welcome: Welcome\n  goodbye: Goodbye\nrules:\n  - one\n";
+        parser.merge(new ByteArrayInputStream(origin.getBytes(StandardCharsets.UTF_8)), target);
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(target);
+
+        assertEquals("Custom", entries.get("messages.welcome").getValue());
+        assertEquals("Goodbye", entries.get("messages.goodbye").getValue());
+        assertEquals(Arrays.asList("one"), entries.get("rules").getValues());
+    }
+
+    @Test
+    void mergeKeepsScalarsAsWrittenAndComments() throws IOException {
+        Path target = write("en_US.yml", "# Translations\nmessages:\n  confirm: yes # Answer\n  code: 010\n  since: 2024-01-01\n  quoted: 'on'\n");
+
+        String origin = "messages:\n  confirm: Confirm\n  goodbye: Goodbye\n";
+        parser.merge(new ByteArrayInputStream(origin.getBytes(StandardCharsets.UTF_8)), target);
+
+        Map<String, TranslationBundleEntry> entries = parser.parse(target);
+
+        assertEquals("yes", entries.get("messages.confirm").getValue());
+        assertEquals("010", entries.get("messages.code").getValue());
+        assertEquals("2024-01-01", entries.get("messages.since").getValue());
+        assertEquals("on", entries.get("messages.quoted").getValue());
+        assertEquals("Goodbye", entries.get("messages.goodbye").getValue());
+
+        String merged = new String(Files.readAllBytes(target), StandardCharsets.UTF_8);
+        assertTrue(merged.contains("# Translations"), merged);
+        assertTrue(merged.contains("# Answer"), merged);
+    }
+}
@@ -17,4 +17,9 @@ include(
     "common",
     "parsers:json",
     "parsers:json-shaded",
+    "parsers:json-jackson",
+    "parsers:yaml",
+    "parsers:yaml-shaded",
+    "parsers:gettext",
+    "benchmarks",
 )
\ No newline at end of file